@@ -0,0 +1,24 @@
+package com.example.todo.application.dto;
+
+/**
+ * ImportLine
+ *
+ * Ligne d'un fichier d'import : soit une commande de création, soit l'erreur
+ * rencontrée lors de sa lecture.
+ *
+ * @author Todo Team
+ */
+public record ImportLine(long lineNumber, CreateTodoCommand command, String error) {
+
+    public static ImportLine of(long lineNumber, CreateTodoCommand command) {
+        return new ImportLine(lineNumber, command, null);
+    }
+
+    public static ImportLine invalid(long lineNumber, String error) {
+        return new ImportLine(lineNumber, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
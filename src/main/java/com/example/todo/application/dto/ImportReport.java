@@ -0,0 +1,39 @@
+package com.example.todo.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * ImportReport
+ *
+ * Bilan d'un import de Todos : nombre de lignes importées et rejetées,
+ * avec le détail des erreurs par numéro de ligne.
+ *
+ * @author Todo Team
+ */
+@Schema(description = "Bilan d'un import de Todos")
+public record ImportReport(
+
+    @Schema(description = "Nombre de Todos importés", example = "9998")
+    long imported,
+
+    @Schema(description = "Nombre de lignes rejetées", example = "2")
+    long rejected,
+
+    @Schema(description = "Erreurs par ligne (limitées au maximum configuré)")
+    List<LineError> errors,
+
+    @Schema(description = "Indique si des erreurs ont été omises du rapport")
+    boolean errorsTruncated
+) {
+
+    @Schema(description = "Erreur sur une ligne de l'import")
+    public record LineError(
+
+        @Schema(description = "Numéro de ligne (à partir de 1)", example = "42")
+        long line,
+
+        @Schema(description = "Motif du rejet", example = "title cannot be null or empty")
+        String message
+    ) {}
+}
@@ -0,0 +1,50 @@
+package com.example.todo.application.dto;
+
+import com.example.todo.domain.model.TodoStatistics;
+import com.example.todo.domain.model.TodoStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+
+/**
+ * TodoStatisticsResponse
+ *
+ * DTO des statistiques de tableau de bord d'un utilisateur.
+ *
+ * @author Todo Team
+ */
+@Schema(description = "Statistiques des Todos d'un utilisateur")
+public record TodoStatisticsResponse(
+
+    @Schema(description = "Nombre total de Todos", example = "42")
+    long total,
+
+    @Schema(description = "Nombre de Todos par statut")
+    Map<TodoStatus, Long> byStatus,
+
+    @Schema(description = "Nombre de Todos par niveau de priorité (1 à 4)")
+    Map<Integer, Long> byPriorityLevel,
+
+    @Schema(description = "Nombre de Todos actifs en retard", example = "3")
+    long overdue,
+
+    @Schema(description = "Part des Todos complétés (0-100)", example = "57")
+    int completionRate,
+
+    @Schema(description = "Score de productivité sur la période (0-100)", example = "80")
+    int productivityScore
+) {
+
+    /**
+     * Factory method pour créer une réponse à partir des statistiques du domaine
+     */
+    public static TodoStatisticsResponse from(TodoStatistics statistics) {
+        return new TodoStatisticsResponse(
+            statistics.total(),
+            statistics.byStatus(),
+            statistics.byPriorityLevel(),
+            statistics.overdue(),
+            statistics.completionRate(),
+            statistics.productivityScore()
+        );
+    }
+}
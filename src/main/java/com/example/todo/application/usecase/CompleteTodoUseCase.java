@@ -3,10 +3,14 @@ package com.example.todo.application.usecase;
 import com.example.todo.application.dto.TodoResponse;
 import com.example.todo.domain.model.Todo;
 import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.TodoIdFilter;
 import com.example.todo.domain.repository.TodoRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * Use Case pour marquer un Todo comme complété.
  * Déclenche les événements métier associés à la complétion.
+ * Le Todo complété remplace l'entrée du cache todos après le commit.
  *
  * @author Todo Team
  */
@@ -25,9 +30,13 @@ public class CompleteTodoUseCase {
     private static final Logger logger = LoggerFactory.getLogger(CompleteTodoUseCase.class);
 
     private final TodoRepository todoRepository;
+    private final CacheVersionPort cacheVersionPort;
+    private final TodoIdFilter todoIdFilter;
 
-    public CompleteTodoUseCase(TodoRepository todoRepository) {
+    public CompleteTodoUseCase(TodoRepository todoRepository, CacheVersionPort cacheVersionPort, TodoIdFilter todoIdFilter) {
         this.todoRepository = todoRepository;
+        this.cacheVersionPort = cacheVersionPort;
+        this.todoIdFilter = todoIdFilter;
     }
 
     /**
@@ -39,11 +48,17 @@ public class CompleteTodoUseCase {
      * @throws TodoNotFoundException si le Todo n'existe pas
      * @throws IllegalStateException si le Todo ne peut pas être complété
      */
-    @CacheEvict(value = "todos", key = "#todoId")
+    @Caching(
+        put = @CachePut(value = "todos", key = "#userId + ':' + #todoId"),
+        evict = @CacheEvict(value = "statistics", key = "#userId")
+    )
     public TodoResponse execute(String todoId, String userId) {
         logger.info("Completing todo with id: {} for user: {}", todoId, userId);
 
         TodoId id = TodoId.of(todoId);
+        if (!todoIdFilter.mightExist(id)) {
+            throw new TodoNotFoundException("Todo not found with id: " + todoId);
+        }
 
         Todo todo = todoRepository.findById(id)
             .filter(t -> t.getUserId().equals(userId))
@@ -53,6 +68,7 @@ public class CompleteTodoUseCase {
         todo.complete();
 
         Todo savedTodo = todoRepository.save(todo);
+        cacheVersionPort.bump(userId);
 
         logger.info("Todo completed successfully with id: {}", savedTodo.getId());
 
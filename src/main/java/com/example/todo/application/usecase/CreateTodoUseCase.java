@@ -3,10 +3,15 @@ package com.example.todo.application.usecase;
 import com.example.todo.application.dto.CreateTodoCommand;
 import com.example.todo.application.dto.TodoResponse;
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.TodoIdFilter;
 import com.example.todo.domain.repository.TodoRepository;
 import com.example.todo.domain.service.TodoDomainService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,24 +38,39 @@ public class CreateTodoUseCase {
 
     private final TodoRepository todoRepository;
     private final TodoDomainService todoDomainService;
+    private final CacheVersionPort cacheVersionPort;
+    private final TodoIdFilter todoIdFilter;
 
-    public CreateTodoUseCase(TodoRepository todoRepository, TodoDomainService todoDomainService) {
+    public CreateTodoUseCase(TodoRepository todoRepository,
+                             TodoDomainService todoDomainService,
+                             CacheVersionPort cacheVersionPort,
+                             TodoIdFilter todoIdFilter) {
         this.todoRepository = todoRepository;
         this.todoDomainService = todoDomainService;
+        this.cacheVersionPort = cacheVersionPort;
+        this.todoIdFilter = todoIdFilter;
     }
 
     /**
      * Crée un nouveau Todo
      *
+     * Le Todo créé est placé dans le cache todos après le commit : la lecture
+     * qui suit la création est servie par le cache.
+     *
      * @param command données de création
      * @param userId identifiant de l'utilisateur
      * @return Todo créé
      * @throws IllegalStateException si l'utilisateur a atteint la limite de Todos actifs
      */
+    @Caching(
+        put = @CachePut(value = "todos", key = "#userId + ':' + #result.id()"),
+        evict = @CacheEvict(value = "statistics", key = "#userId")
+    )
     public TodoResponse execute(CreateTodoCommand command, String userId) {
         logger.info("Creating new todo for user: {} with title: {}", userId, command.title());
 
-        // Vérification des règles métier via le domain service
+        // Vérification des règles métier via le domain service ; le compteur de Todos
+        // actifs reste verrouillé jusqu'au commit, la sauvegarde l'incrémente
         if (!todoDomainService.canCreateNewTodo(userId)) {
             throw new IllegalStateException("User has reached the maximum number of active todos");
         }
@@ -66,6 +86,8 @@ public class CreateTodoUseCase {
 
         // Sauvegarde (avec publication automatique des événements du domaine)
         Todo savedTodo = todoRepository.save(todo);
+        todoIdFilter.add(savedTodo.getId());
+        cacheVersionPort.bump(userId);
 
         logger.info("Todo created successfully with id: {}", savedTodo.getId());
 
@@ -1,10 +1,13 @@
 package com.example.todo.application.usecase;
 
 import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.TodoIdFilter;
 import com.example.todo.domain.repository.TodoRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,9 +25,13 @@ public class DeleteTodoUseCase {
     private static final Logger logger = LoggerFactory.getLogger(DeleteTodoUseCase.class);
 
     private final TodoRepository todoRepository;
+    private final CacheVersionPort cacheVersionPort;
+    private final TodoIdFilter todoIdFilter;
 
-    public DeleteTodoUseCase(TodoRepository todoRepository) {
+    public DeleteTodoUseCase(TodoRepository todoRepository, CacheVersionPort cacheVersionPort, TodoIdFilter todoIdFilter) {
         this.todoRepository = todoRepository;
+        this.cacheVersionPort = cacheVersionPort;
+        this.todoIdFilter = todoIdFilter;
     }
 
     /**
@@ -34,11 +41,17 @@ public class DeleteTodoUseCase {
      * @param userId identifiant de l'utilisateur
      * @throws TodoNotFoundException si le Todo n'existe pas
      */
-    @CacheEvict(value = {"todos", "todoLists", "todoListsByStatus"}, allEntries = true)
+    @Caching(evict = {
+        @CacheEvict(value = "todos", key = "#userId + ':' + #todoId"),
+        @CacheEvict(value = "statistics", key = "#userId")
+    })
     public void execute(String todoId, String userId) {
         logger.info("Deleting todo with id: {} for user: {}", todoId, userId);
 
         TodoId id = TodoId.of(todoId);
+        if (!todoIdFilter.mightExist(id)) {
+            throw new TodoNotFoundException("Todo not found with id: " + todoId);
+        }
 
         // Vérification de l'existence et de la propriété
         todoRepository.findById(id)
@@ -46,6 +59,7 @@ public class DeleteTodoUseCase {
             .orElseThrow(() -> new TodoNotFoundException("Todo not found with id: " + todoId));
 
         todoRepository.deleteById(id);
+        cacheVersionPort.bump(userId);
 
         logger.info("Todo deleted successfully with id: {}", todoId);
     }
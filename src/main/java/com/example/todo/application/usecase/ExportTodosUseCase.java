@@ -0,0 +1,60 @@
+package com.example.todo.application.usecase;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.repository.TodoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * ExportTodosUseCase
+ *
+ * Use Case pour l'export complet des Todos d'un utilisateur.
+ * Les Todos sont lus par curseur et transmis un à un au consommateur,
+ * la mémoire utilisée ne dépend donc pas du nombre de Todos exportés.
+ *
+ * @author Todo Team
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportTodosUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportTodosUseCase.class);
+
+    private final TodoRepository todoRepository;
+
+    public ExportTodosUseCase(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    /**
+     * Exporte tous les Todos d'un utilisateur
+     *
+     * La transaction (et donc le curseur) reste ouverte pendant toute l'écriture.
+     *
+     * @param userId identifiant de l'utilisateur
+     * @param sink consommateur recevant chaque Todo, du plus récent au plus ancien
+     * @return nombre de Todos exportés
+     */
+    public long execute(String userId, Consumer<TodoResponse> sink) {
+        logger.info("Exporting todos for user: {}", userId);
+
+        long exported = 0;
+        try (Stream<Todo> todos = todoRepository.streamByUserId(userId)) {
+            var iterator = todos.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(TodoResponse.from(iterator.next()));
+                exported++;
+            }
+        }
+
+        logger.info("Exported {} todos for user: {}", exported, userId);
+
+        return exported;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.todo.application.usecase;
+
+import com.example.todo.application.dto.TodoStatisticsResponse;
+import com.example.todo.domain.repository.TodoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * GetTodoStatisticsUseCase
+ *
+ * Use Case pour récupérer les statistiques de tableau de bord d'un utilisateur :
+ * comptes par statut et par priorité, retards, taux de complétion et score de
+ * productivité, calculés en une seule requête d'agrégation puis mis en cache.
+ *
+ * @author Todo Team
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetTodoStatisticsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetTodoStatisticsUseCase.class);
+
+    /**
+     * Fenêtre du score de productivité
+     */
+    private static final int PRODUCTIVITY_WEEKS = 4;
+
+    private final TodoRepository todoRepository;
+
+    public GetTodoStatisticsUseCase(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    /**
+     * Récupère les statistiques d'un utilisateur
+     *
+     * @param userId identifiant de l'utilisateur
+     * @return statistiques de l'utilisateur
+     */
+    @Cacheable(value = "statistics", key = "#userId")
+    public TodoStatisticsResponse execute(String userId) {
+        logger.debug("Computing statistics for user: {}", userId);
+
+        Instant now = Instant.now();
+        Instant windowStart = now.minus(PRODUCTIVITY_WEEKS * 7L, ChronoUnit.DAYS);
+
+        return TodoStatisticsResponse.from(todoRepository.getStatistics(userId, now, windowStart));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.todo.application.usecase;
 
 import com.example.todo.application.dto.TodoResponse;
 import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.repository.TodoIdFilter;
 import com.example.todo.domain.repository.TodoRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,7 +14,8 @@ import org.springframework.transaction.annotation.Transactional;
  * GetTodoUseCase
  *
  * Use Case pour récupérer un Todo par son identifiant.
- * Inclut la mise en cache pour optimiser les performances.
+ * Inclut la mise en cache pour optimiser les performances ; un identifiant
+ * écarté par le filtre des identifiants ne consulte ni le cache ni la base.
  *
  * @author Todo Team
  */
@@ -24,9 +26,11 @@ public class GetTodoUseCase {
     private static final Logger logger = LoggerFactory.getLogger(GetTodoUseCase.class);
 
     private final TodoRepository todoRepository;
+    private final TodoIdFilter todoIdFilter;
 
-    public GetTodoUseCase(TodoRepository todoRepository) {
+    public GetTodoUseCase(TodoRepository todoRepository, TodoIdFilter todoIdFilter) {
         this.todoRepository = todoRepository;
+        this.todoIdFilter = todoIdFilter;
     }
 
     /**
@@ -38,11 +42,16 @@ public class GetTodoUseCase {
      * @throws TodoNotFoundException si le Todo n'existe pas
      * @throws UnauthorizedAccessException si l'utilisateur n'est pas propriétaire
      */
-    @Cacheable(value = "todos", key = "#todoId")
+    @Cacheable(value = "todos", key = "#userId + ':' + #todoId", sync = true,
+               condition = "@todoIdFilter.mightExist(T(com.example.todo.domain.model.TodoId).of(#todoId))")
     public TodoResponse execute(String todoId, String userId) {
         logger.debug("Retrieving todo with id: {} for user: {}", todoId, userId);
 
         TodoId id = TodoId.of(todoId);
+        if (!todoIdFilter.mightExist(id)) {
+            logger.debug("Todo id rejected by the id filter: {}", todoId);
+            throw new TodoNotFoundException("Todo not found with id: " + todoId);
+        }
 
         return todoRepository.findById(id)
             .filter(todo -> todo.getUserId().equals(userId)) // Vérification de propriété
@@ -0,0 +1,125 @@
+package com.example.todo.application.usecase;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.repository.BatchCachePort;
+import com.example.todo.domain.repository.TodoIdFilter;
+import com.example.todo.domain.repository.TodoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * GetTodosUseCase
+ *
+ * Use Case pour récupérer plusieurs Todos par leurs identifiants en une requête.
+ * Les Todos présents dans le cache todos sont lus en un seul aller-retour vers le
+ * cache partagé, les absents en une seule requête en base, puis enregistrés dans
+ * le cache sous la même clé que GetTodoUseCase.
+ *
+ * La propriété est vérifiée Todo par Todo : la clé de cache inclut l'utilisateur
+ * (une entrée n'existe que pour son propriétaire) et les Todos chargés en base
+ * appartenant à un autre utilisateur sont écartés comme les Todos inexistants.
+ *
+ * @author Todo Team
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetTodosUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetTodosUseCase.class);
+
+    static final int MAX_IDS = 100;
+
+    private static final String CACHE_NAME = "todos";
+
+    private final TodoRepository todoRepository;
+    private final TodoIdFilter todoIdFilter;
+    private final BatchCachePort batchCachePort;
+
+    public GetTodosUseCase(TodoRepository todoRepository, TodoIdFilter todoIdFilter, BatchCachePort batchCachePort) {
+        this.todoRepository = todoRepository;
+        this.todoIdFilter = todoIdFilter;
+        this.batchCachePort = batchCachePort;
+    }
+
+    /**
+     * Récupère plusieurs Todos par leurs identifiants
+     *
+     * Les identifiants inconnus ou appartenant à un autre utilisateur sont omis
+     * de la réponse, sans erreur.
+     *
+     * @param todoIds identifiants des Todos (doublons ignorés)
+     * @param userId identifiant de l'utilisateur (pour vérification de propriété)
+     * @return Todos trouvés, dans l'ordre des identifiants demandés
+     * @throws IllegalArgumentException si la liste est vide, dépasse {@value #MAX_IDS}
+     *                                  identifiants ou contient un identifiant invalide
+     */
+    public List<TodoResponse> execute(List<String> todoIds, String userId) {
+        Set<String> requestedIds = new LinkedHashSet<>(todoIds);
+        if (requestedIds.isEmpty() || requestedIds.size() > MAX_IDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_IDS + " todo ids must be requested");
+        }
+
+        logger.debug("Retrieving {} todos for user: {}", requestedIds.size(), userId);
+
+        // Clé de cache par identifiant susceptible d'exister
+        Map<String, String> cacheKeys = new LinkedHashMap<>();
+        for (String todoId : requestedIds) {
+            if (todoIdFilter.mightExist(TodoId.of(todoId))) {
+                cacheKeys.put(todoId, cacheKey(userId, todoId));
+            }
+        }
+        if (cacheKeys.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Object> cached = batchCachePort.getAll(CACHE_NAME, cacheKeys.values());
+        Map<String, TodoResponse> found = new HashMap<>();
+        List<TodoId> missingIds = new ArrayList<>();
+        cacheKeys.forEach((todoId, key) -> {
+            if (cached.get(key) instanceof TodoResponse response) {
+                found.put(todoId, response);
+            } else {
+                missingIds.add(TodoId.of(todoId));
+            }
+        });
+
+        if (!missingIds.isEmpty()) {
+            Map<String, TodoResponse> loaded = new HashMap<>();
+            for (Todo todo : todoRepository.findAllByIds(missingIds)) {
+                if (!todo.getUserId().equals(userId)) { // Vérification de propriété
+                    logger.warn("Access denied - id: {}, user: {}", todo.getId().value(), userId);
+                    continue;
+                }
+                TodoResponse response = TodoResponse.from(todo);
+                found.put(response.id(), response);
+                loaded.put(cacheKey(userId, response.id()), response);
+            }
+            batchCachePort.putAllIfAbsent(CACHE_NAME, loaded);
+        }
+
+        return requestedIds.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * Clé du cache todos, identique à celle de GetTodoUseCase
+     */
+    private static String cacheKey(String userId, String todoId) {
+        return userId + ":" + todoId;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.todo.application.usecase;
+
+import com.example.todo.application.dto.CreateTodoCommand;
+import com.example.todo.application.dto.ImportLine;
+import com.example.todo.application.dto.ImportReport;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.repository.ActiveTodoCounter;
+import com.example.todo.domain.repository.BatchCachePort;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.MetricsPort;
+import com.example.todo.domain.repository.TodoBulkLoader;
+import com.example.todo.domain.repository.TodoIdFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * ImportTodosUseCase
+ *
+ * Use Case pour l'import en masse de Todos (migration de comptes).
+ * Chaque ligne est validée par les invariants de Todo.create, puis les Todos
+ * valides sont insérés par tranches via le chargeur de masse (COPY sur PostgreSQL),
+ * chacune dans sa propre transaction : une tranche en échec n'annule pas les
+ * tranches déjà validées. Chaque tranche invalide les listes et les statistiques de
+ * l'utilisateur à son commit, même si l'import s'interrompt ensuite.
+ *
+ * Un import est une opération d'administration : la limite de Todos actifs
+ * par utilisateur ne s'applique pas, et les Todos importés n'émettent pas
+ * d'événement de création (pas de notification pour des données migrées).
+ *
+ * @author Todo Team
+ */
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ImportTodosUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportTodosUseCase.class);
+
+    private final TodoBulkLoader todoBulkLoader;
+    private final ActiveTodoCounter activeTodoCounter;
+    private final MetricsPort metrics;
+    private final CacheVersionPort cacheVersionPort;
+    private final BatchCachePort batchCachePort;
+    private final TodoIdFilter todoIdFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public ImportTodosUseCase(TodoBulkLoader todoBulkLoader,
+                              ActiveTodoCounter activeTodoCounter,
+                              MetricsPort metrics,
+                              CacheVersionPort cacheVersionPort,
+                              BatchCachePort batchCachePort,
+                              TodoIdFilter todoIdFilter,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.import.chunk-size:1000}") int chunkSize,
+                              @Value("${app.import.max-reported-errors:100}") int maxReportedErrors) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be at least 1");
+        }
+        this.todoBulkLoader = todoBulkLoader;
+        this.activeTodoCounter = activeTodoCounter;
+        this.metrics = metrics;
+        this.cacheVersionPort = cacheVersionPort;
+        this.batchCachePort = batchCachePort;
+        this.todoIdFilter = todoIdFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Importe les Todos d'un utilisateur
+     *
+     * Les lignes sont consommées au fil de l'eau : seule la tranche courante est en mémoire.
+     *
+     * @param userId identifiant de l'utilisateur propriétaire des Todos importés
+     * @param lines lignes de l'import, dans l'ordre du fichier
+     * @return bilan de l'import
+     */
+    public ImportReport execute(String userId, Iterator<ImportLine> lines) {
+        logger.info("Importing todos for user: {} with chunk size: {}", userId, chunkSize);
+
+        Progress progress = new Progress();
+        List<Todo> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        while (lines.hasNext()) {
+            ImportLine line = lines.next();
+            if (!line.isValid()) {
+                progress.reject(line.lineNumber(), line.error());
+                continue;
+            }
+
+            try {
+                chunk.add(toTodo(line.command(), userId));
+                chunkLines.add(line.lineNumber());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                progress.reject(line.lineNumber(), e.getMessage());
+                continue;
+            }
+
+            if (chunk.size() == chunkSize) {
+                writeChunk(chunk, chunkLines, progress);
+            }
+        }
+        writeChunk(chunk, chunkLines, progress);
+
+        logger.info("Import finished for user: {} - imported: {}, rejected: {}",
+                   userId, progress.imported, progress.rejected);
+
+        return progress.toReport();
+    }
+
+    /**
+     * Crée l'agrégat via la factory du domaine, garante des invariants
+     */
+    private Todo toTodo(CreateTodoCommand command, String userId) {
+        Todo todo = Todo.create(
+            command.title(),
+            command.description(),
+            command.priority(),
+            command.dueDate(),
+            userId
+        );
+        todo.getAndClearDomainEvents();
+        return todo;
+    }
+
+    /**
+     * Insère une tranche dans sa propre transaction puis la vide
+     */
+    private void writeChunk(List<Todo> chunk, List<Long> chunkLines, Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            // Les Todos importés sont PENDING : le compteur de Todos actifs suit dans la même transaction
+            String userId = chunk.get(0).getUserId();
+            transactionTemplate.executeWithoutResult(status -> {
+                todoBulkLoader.load(chunk);
+                activeTodoCounter.adjust(userId, chunk.size());
+                todoIdFilter.addAll(chunk.stream().map(Todo::getId).toList());
+                // Invalidations différées au commit de la tranche
+                cacheVersionPort.bump(userId);
+                batchCachePort.evictAll("statistics", List.of(userId));
+            });
+            progress.imported += chunk.size();
+            metrics.incrementTodosImported(chunk.size());
+        } catch (DataAccessException e) {
+            logger.warn("Import chunk of {} todos starting at line {} failed", chunk.size(), chunkLines.get(0), e);
+            chunkLines.forEach(lineNumber -> progress.reject(lineNumber, "Chunk rejected by the database"));
+        }
+
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    /**
+     * Avancement de l'import et erreurs retenues pour le rapport
+     */
+    private final class Progress {
+
+        private long imported;
+        private long rejected;
+        private final List<ImportReport.LineError> errors = new ArrayList<>();
+
+        void reject(long lineNumber, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportReport.LineError(lineNumber, message));
+            }
+        }
+
+        ImportReport toReport() {
+            return new ImportReport(imported, rejected, List.copyOf(errors), rejected > errors.size());
+        }
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import java.util.stream.Collectors;
 import com.example.todo.domain.model.PageRequest;
+import com.example.todo.domain.model.CursorPageResult;
+import com.example.todo.domain.model.PageCursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
  * ListTodosUseCase
  *
  * Use Case pour lister les Todos d'un utilisateur avec pagination et filtrage.
+ * Les pages sont mises en cache sous la version de cache courante de l'utilisateur,
+ * incrémentée par chaque écriture sur ses Todos.
  *
  * @author Todo Team
  */
@@ -25,6 +29,8 @@ public class ListTodosUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(ListTodosUseCase.class);
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
 
     public ListTodosUseCase(TodoRepository todoRepository) {
@@ -38,7 +44,9 @@ public class ListTodosUseCase {
      * @param pageable paramètres de pagination
      * @return page de Todos
      */
-    @Cacheable(value = "todoLists", key = "#userId + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "todoLists",
+               key = "#userId + ':' + @cacheVersionPort.currentVersion(#userId) + ':' + #pageable.pageNumber + ':' + #pageable.pageSize",
+               sync = true)
     public com.example.todo.domain.model.PageResult<TodoResponse> execute(String userId, Pageable pageable) {
         logger.debug("Listing todos for user: {} with pagination: {}", userId, pageable);
 
@@ -65,7 +73,9 @@ public class ListTodosUseCase {
      * @param pageable paramètres de pagination
      * @return page de Todos filtrés
      */
-    @Cacheable(value = "todoListsByStatus", key = "#userId + '_' + #status + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "todoListsByStatus",
+               key = "#userId + ':' + @cacheVersionPort.currentVersion(#userId) + ':' + #status + ':' + #pageable.pageNumber + ':' + #pageable.pageSize",
+               sync = true)
     public com.example.todo.domain.model.PageResult<TodoResponse> executeByStatus(String userId, TodoStatus status, Pageable pageable) {
         logger.debug("Listing todos for user: {} with status: {} and pagination: {}", userId, status, pageable);
 
@@ -83,4 +93,53 @@ public class ListTodosUseCase {
             domainPage.getTotalElements()
         );
     }
+
+    /**
+     * Liste les Todos d'un utilisateur par pagination par curseur (keyset)
+     *
+     * Le coût d'une page est constant quelle que soit sa profondeur.
+     *
+     * @param userId identifiant de l'utilisateur
+     * @param cursor curseur opaque de la page précédente (null pour la première page)
+     * @param size taille de la page
+     * @return page de Todos avec le curseur de la page suivante
+     * @throws IllegalArgumentException si le curseur ou la taille sont invalides
+     */
+    public CursorPageResult<TodoResponse> executeWithCursor(String userId, String cursor, int size) {
+        logger.debug("Listing todos for user: {} with cursor: {} and size: {}", userId, cursor, size);
+
+        validatePageSize(size);
+
+        return todoRepository.findByUserIdAfter(userId, decodeCursor(cursor), size)
+            .map(TodoResponse::from);
+    }
+
+    /**
+     * Liste les Todos d'un utilisateur filtrés par statut, par pagination par curseur (keyset)
+     *
+     * @param userId identifiant de l'utilisateur
+     * @param status statut à filtrer
+     * @param cursor curseur opaque de la page précédente (null pour la première page)
+     * @param size taille de la page
+     * @return page de Todos filtrés avec le curseur de la page suivante
+     * @throws IllegalArgumentException si le curseur ou la taille sont invalides
+     */
+    public CursorPageResult<TodoResponse> executeByStatusWithCursor(String userId, TodoStatus status, String cursor, int size) {
+        logger.debug("Listing todos for user: {} with status: {}, cursor: {} and size: {}", userId, status, cursor, size);
+
+        validatePageSize(size);
+
+        return todoRepository.findByUserIdAndStatusAfter(userId, status, decodeCursor(cursor), size)
+            .map(TodoResponse::from);
+    }
+
+    private static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+    }
+
+    private static PageCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor);
+    }
 }
@@ -4,10 +4,14 @@ import com.example.todo.application.dto.TodoResponse;
 import com.example.todo.application.dto.UpdateTodoCommand;
 import com.example.todo.domain.model.Todo;
 import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.TodoIdFilter;
 import com.example.todo.domain.repository.TodoRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * Use Case pour la mise à jour d'un Todo existant.
  * Gère les mises à jour partielles et la validation des règles métier.
+ * Le Todo mis à jour remplace l'entrée du cache todos après le commit.
  *
  * @author Todo Team
  */
@@ -26,9 +31,13 @@ public class UpdateTodoUseCase {
     private static final Logger logger = LoggerFactory.getLogger(UpdateTodoUseCase.class);
 
     private final TodoRepository todoRepository;
+    private final CacheVersionPort cacheVersionPort;
+    private final TodoIdFilter todoIdFilter;
 
-    public UpdateTodoUseCase(TodoRepository todoRepository) {
+    public UpdateTodoUseCase(TodoRepository todoRepository, CacheVersionPort cacheVersionPort, TodoIdFilter todoIdFilter) {
         this.todoRepository = todoRepository;
+        this.cacheVersionPort = cacheVersionPort;
+        this.todoIdFilter = todoIdFilter;
     }
 
     /**
@@ -41,7 +50,10 @@ public class UpdateTodoUseCase {
      * @throws TodoNotFoundException si le Todo n'existe pas
      * @throws IllegalStateException si le Todo ne peut pas être modifié
      */
-    @CacheEvict(value = "todos", key = "#todoId")
+    @Caching(
+        put = @CachePut(value = "todos", key = "#userId + ':' + #todoId"),
+        evict = @CacheEvict(value = "statistics", key = "#userId")
+    )
     public TodoResponse execute(String todoId, UpdateTodoCommand command, String userId) {
         logger.info("Updating todo with id: {} for user: {}", todoId, userId);
 
@@ -50,6 +62,9 @@ public class UpdateTodoUseCase {
         }
 
         TodoId id = TodoId.of(todoId);
+        if (!todoIdFilter.mightExist(id)) {
+            throw new TodoNotFoundException("Todo not found with id: " + todoId);
+        }
 
         Todo todo = todoRepository.findById(id)
             .filter(t -> t.getUserId().equals(userId))
@@ -78,6 +93,7 @@ public class UpdateTodoUseCase {
         }
 
         Todo savedTodo = todoRepository.save(todo);
+        cacheVersionPort.bump(userId);
 
         logger.info("Todo updated successfully with id: {}", savedTodo.getId());
 
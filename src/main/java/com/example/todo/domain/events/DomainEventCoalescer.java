@@ -0,0 +1,124 @@
+package com.example.todo.domain.events;
+
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoStatus;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DomainEventCoalescer
+ *
+ * Étape de fusion des événements du domaine entre leur collecte sur les agrégats
+ * et leur publication : les événements sont regroupés par agrégat, puis chaque
+ * groupe passe par les règles déclarées, dans l'ordre.
+ *
+ * Règles du Todo ({@link #forTodos()}) :
+ * - les doublons exacts sont supprimés ;
+ * - les changements de statut successifs se réduisent à une transition du premier
+ *   statut au dernier, supprimée si le Todo revient à son statut de départ ;
+ * - un {@link TodoCompletedEvent} absorbe la transition vers COMPLETED qu'il décrit.
+ *
+ * Les groupes sont rendus dans l'ordre de première apparition des agrégats ; l'ordre
+ * des événements d'un même agrégat est conservé.
+ *
+ * @author Todo Team
+ */
+public class DomainEventCoalescer {
+
+    /**
+     * Supprime les événements identiques à un événement précédent
+     */
+    public static final EventCoalescingRule DUPLICATES = events -> List.copyOf(new LinkedHashSet<>(events));
+
+    /**
+     * Réduit les changements de statut à la transition nette, à la place du dernier
+     */
+    public static final EventCoalescingRule STATUS_TRANSITIONS = events -> {
+        TodoStatusChangedEvent first = null;
+        TodoStatusChangedEvent last = null;
+        int lastIndex = -1;
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i) instanceof TodoStatusChangedEvent changed) {
+                first = first != null ? first : changed;
+                last = changed;
+                lastIndex = i;
+            }
+        }
+        if (first == last) {
+            return events;
+        }
+
+        List<DomainEvent> coalesced = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            DomainEvent event = events.get(i);
+            if (!(event instanceof TodoStatusChangedEvent)) {
+                coalesced.add(event);
+            } else if (i == lastIndex && first.previousStatus() != last.newStatus()) {
+                coalesced.add(new TodoStatusChangedEvent(last.aggregateId(), first.previousStatus(),
+                                                         last.newStatus(), last.userId(), last.occurredOn()));
+            }
+        }
+        return coalesced;
+    };
+
+    /**
+     * Supprime la transition vers COMPLETED accompagnée de son événement de complétion
+     */
+    public static final EventCoalescingRule COMPLETION_SUBSUMES_STATUS_CHANGE = events -> {
+        boolean completed = events.stream().anyMatch(TodoCompletedEvent.class::isInstance);
+        if (!completed) {
+            return events;
+        }
+        return events.stream()
+            .filter(event -> !(event instanceof TodoStatusChangedEvent changed
+                               && changed.newStatus() == TodoStatus.COMPLETED))
+            .toList();
+    };
+
+    private final List<EventCoalescingRule> rules;
+
+    public DomainEventCoalescer(List<EventCoalescingRule> rules) {
+        this.rules = List.copyOf(rules);
+    }
+
+    /**
+     * Fusionneur doté des règles du Todo
+     */
+    public static DomainEventCoalescer forTodos() {
+        return new DomainEventCoalescer(List.of(DUPLICATES, STATUS_TRANSITIONS, COMPLETION_SUBSUMES_STATUS_CHANGE));
+    }
+
+    /**
+     * Fusionne les événements de chaque agrégat
+     *
+     * @param events événements collectés, dans l'ordre d'émission
+     * @return événements à publier
+     */
+    public List<DomainEvent> coalesce(List<DomainEvent> events) {
+        if (events.size() < 2) {
+            return events;
+        }
+
+        Map<TodoId, List<DomainEvent>> byAggregate = new LinkedHashMap<>();
+        for (DomainEvent event : events) {
+            byAggregate.computeIfAbsent(event.getAggregateId(), id -> new ArrayList<>()).add(event);
+        }
+
+        List<DomainEvent> coalesced = new ArrayList<>(events.size());
+        for (List<DomainEvent> aggregateEvents : byAggregate.values()) {
+            List<DomainEvent> result = aggregateEvents;
+            for (EventCoalescingRule rule : rules) {
+                if (result.size() < 2) {
+                    break;
+                }
+                result = rule.apply(result);
+            }
+            coalesced.addAll(result);
+        }
+        return coalesced;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.todo.domain.events;
+
+import java.util.List;
+
+/**
+ * EventCoalescingRule Interface
+ *
+ * Règle de fusion des événements émis par un même agrégat au cours d'une
+ * transaction : la règle reçoit les événements de l'agrégat dans l'ordre d'émission
+ * et rend la suite équivalente, dont elle a fusionné ou supprimé les redondances.
+ *
+ * Une règle ne doit rien perdre de ce que les gestionnaires observent : la suite
+ * rendue décrit le même état final de l'agrégat.
+ *
+ * @author Todo Team
+ */
+@FunctionalInterface
+public interface EventCoalescingRule {
+
+    /**
+     * Fusionne les événements d'un agrégat
+     *
+     * @param events événements d'un même agrégat, dans l'ordre d'émission
+     * @return événements équivalents, dans l'ordre d'émission
+     */
+    List<DomainEvent> apply(List<DomainEvent> events);
+}
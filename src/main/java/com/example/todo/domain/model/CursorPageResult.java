@@ -0,0 +1,43 @@
+package com.example.todo.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Domain keyset pagination result
+ *
+ * Contrairement à PageResult, ne porte pas de total : nextCursor est le curseur
+ * opaque de la page suivante (null sur la dernière page).
+ */
+public class CursorPageResult<T> {
+    private final List<T> content;
+    private final int pageSize;
+    private final String nextCursor;
+
+    public CursorPageResult(List<T> content, int pageSize, String nextCursor) {
+        this.content = content;
+        this.pageSize = pageSize;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPageResult<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPageResult<>(mapped, pageSize, nextCursor);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.todo.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * PageCursor Value Object
+ *
+ * Position dans une liste de Todos triée par (createdAt DESC, id DESC).
+ * Sert à la pagination par clé (keyset / seek) : la page suivante reprend
+ * strictement après le dernier élément de la page courante, sans OFFSET ni COUNT.
+ *
+ * Le curseur est exposé aux clients sous forme opaque (Base64 URL-safe).
+ *
+ * @author Todo Team
+ */
+public record PageCursor(Instant createdAt, TodoId id) {
+
+    private static final String SEPARATOR = ":";
+
+    public PageCursor {
+        Objects.requireNonNull(createdAt, "Cursor createdAt cannot be null");
+        Objects.requireNonNull(id, "Cursor id cannot be null");
+    }
+
+    /**
+     * Crée le curseur positionné après le Todo donné
+     *
+     * @param todo dernier Todo de la page courante
+     * @return curseur de la page suivante
+     */
+    public static PageCursor after(Todo todo) {
+        return new PageCursor(todo.getCreatedAt(), todo.getId());
+    }
+
+    /**
+     * Encode le curseur sous forme opaque
+     *
+     * @return curseur encodé
+     */
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + SEPARATOR + createdAt.getNano() + SEPARATOR + id.value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Décode un curseur opaque
+     *
+     * @param token curseur encodé
+     * @return curseur
+     * @throws IllegalArgumentException si le curseur est invalide
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new PageCursor(createdAt, TodoId.of(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+    }
+}
@@ -42,6 +42,9 @@ public class Todo {
     // Domain Events - Pattern pour publier des événements
     private final List<DomainEvent> domainEvents = new ArrayList<>();
 
+    // Vrai tant que l'agrégat créé par la factory n'a pas été persisté
+    private boolean isNew;
+
     /**
      * Constructeur pour la création d'un nouveau Todo
      */
@@ -52,6 +55,7 @@ public class Todo {
         this.createdAt = Instant.now();
         this.updatedAt = this.createdAt;
         this.status = TodoStatus.PENDING;
+        this.isNew = true;
 
         // Validation and assignment without touching updatedAt so creation keeps createdAt == updatedAt
         if (title == null || title.trim().isEmpty()) {
@@ -185,11 +189,11 @@ public class Todo {
      */
     public void complete() {
         changeStatus(TodoStatus.COMPLETED);
-        this.completedAt = Instant.now();
+        this.completedAt = this.updatedAt;
 
-        // Émission de l'événement de complétion
+        // Émission de l'événement de complétion (survenu à l'instant de la complétion)
         addDomainEvent(new TodoCompletedEvent(
-            this.id, this.userId, this.completedAt, Instant.now()
+            this.id, this.userId, this.completedAt, this.completedAt
         ));
     }
 
@@ -222,9 +226,9 @@ public class Todo {
     this.status = newStatus;
     this.updatedAt = nowAfter(this.updatedAt);
 
-        // Émission de l'événement de changement de statut
+        // Émission de l'événement de changement de statut (survenu à la mise à jour)
         addDomainEvent(new TodoStatusChangedEvent(
-            this.id, previousStatus, newStatus, this.userId, Instant.now()
+            this.id, previousStatus, newStatus, this.userId, this.updatedAt
         ));
     }
 
@@ -273,6 +277,24 @@ public class Todo {
         this.domainEvents.add(event);
     }
 
+    /**
+     * Indique si l'agrégat vient d'être créé et n'a jamais été persisté
+     *
+     * Permet à l'infrastructure d'insérer directement sans vérifier l'existence.
+     *
+     * @return true pour un Todo issu de la factory, false pour un Todo reconstruit
+     */
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marque l'agrégat comme persisté, les sauvegardes suivantes sont des mises à jour
+     */
+    public void markAsPersisted() {
+        this.isNew = false;
+    }
+
     /**
      * Récupère et vide la liste des événements du domaine
      *
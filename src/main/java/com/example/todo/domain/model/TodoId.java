@@ -1,7 +1,10 @@
 package com.example.todo.domain.model;
 
 import jakarta.persistence.Embeddable;
+import java.security.SecureRandom;
+import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -20,6 +23,8 @@ import java.util.UUID;
 @Embeddable
 public record TodoId(String value) {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     public TodoId {
         Objects.requireNonNull(value, "TodoId value cannot be null");
         if (value.isBlank()) {
@@ -36,10 +41,15 @@ public record TodoId(String value) {
     /**
      * Génère un nouvel identifiant unique
      *
+     * UUID version 7 (RFC 9562) : les 48 premiers bits portent l'instant de génération
+     * en millisecondes, les 74 bits aléatoires garantissent l'unicité.
+     *
      * @return nouveau TodoId
      */
     public static TodoId generate() {
-        return new TodoId(UUID.randomUUID().toString());
+        long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (RANDOM.nextLong() & 0x0FFFL);
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new TodoId(new UUID(mostSigBits, leastSigBits).toString());
     }
 
     /**
@@ -52,6 +62,19 @@ public record TodoId(String value) {
         return new TodoId(value);
     }
 
+    /**
+     * Instant de génération de l'identifiant, connu pour les UUID version 7 seulement
+     * (les identifiants antérieurs sont des UUID version 4)
+     *
+     * @return instant de génération, vide si l'identifiant n'est pas horodaté
+     */
+    public Optional<Instant> generatedAt() {
+        UUID uuid = UUID.fromString(value);
+        return uuid.version() == 7
+            ? Optional.of(Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16))
+            : Optional.empty();
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,54 @@
+package com.example.todo.domain.model;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * TodoStatistics Value Object
+ *
+ * Agrégats statistiques des Todos d'un utilisateur, calculés en une seule requête.
+ *
+ * @param total nombre total de Todos
+ * @param byStatus nombre de Todos par statut (tous les statuts sont présents)
+ * @param byPriorityLevel nombre de Todos par niveau de priorité (1 à 4)
+ * @param overdue nombre de Todos actifs dont l'échéance est dépassée
+ * @param dueInWindow nombre de Todos dont l'échéance tombe dans la fenêtre de productivité
+ * @param completedInWindow parmi ceux-ci, nombre de Todos complétés
+ *
+ * @author Todo Team
+ */
+public record TodoStatistics(
+    long total,
+    Map<TodoStatus, Long> byStatus,
+    Map<Integer, Long> byPriorityLevel,
+    long overdue,
+    long dueInWindow,
+    long completedInWindow
+) {
+
+    public TodoStatistics {
+        byStatus = Map.copyOf(Objects.requireNonNull(byStatus, "byStatus cannot be null"));
+        byPriorityLevel = Map.copyOf(Objects.requireNonNull(byPriorityLevel, "byPriorityLevel cannot be null"));
+    }
+
+    /**
+     * Nombre de Todos dans un statut donné
+     */
+    public long count(TodoStatus status) {
+        return byStatus.getOrDefault(status, 0L);
+    }
+
+    /**
+     * Part des Todos complétés, en pourcentage (0-100)
+     */
+    public int completionRate() {
+        return total == 0 ? 0 : (int) ((count(TodoStatus.COMPLETED) * 100) / total);
+    }
+
+    /**
+     * Score de productivité : part des Todos échus dans la fenêtre qui ont été complétés (0-100)
+     */
+    public int productivityScore() {
+        return dueInWindow == 0 ? 0 : (int) ((completedInWindow * 100) / dueInWindow);
+    }
+}
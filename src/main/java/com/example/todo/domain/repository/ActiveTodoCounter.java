@@ -0,0 +1,47 @@
+package com.example.todo.domain.repository;
+
+/**
+ * ActiveTodoCounter Interface
+ *
+ * Port de maintien du nombre de Todos actifs (PENDING ou IN_PROGRESS) par utilisateur.
+ * Le compteur est mis à jour dans la même transaction que les Todos, à partir de
+ * leurs changements de statut : sa lecture ne nécessite aucun COUNT sur les Todos.
+ *
+ * @author Todo Team
+ */
+public interface ActiveTodoCounter {
+
+    /**
+     * Verrouille le compteur d'un utilisateur jusqu'à la fin de la transaction et le retourne
+     *
+     * Les transactions concurrentes du même utilisateur attendent la fin de la transaction
+     * courante : le contrôle de quota et la création qui suit sont donc atomiques.
+     *
+     * @param userId identifiant de l'utilisateur
+     * @return nombre de Todos actifs
+     */
+    long lockActiveCount(String userId);
+
+    /**
+     * Lit le compteur d'un utilisateur, sans verrou
+     *
+     * @param userId identifiant de l'utilisateur
+     * @return nombre de Todos actifs
+     */
+    long getActiveCount(String userId);
+
+    /**
+     * Ajoute un delta au compteur d'un utilisateur dans la transaction courante
+     *
+     * @param userId identifiant de l'utilisateur
+     * @param delta variation du nombre de Todos actifs
+     */
+    void adjust(String userId, long delta);
+
+    /**
+     * Réinitialise le compteur d'un utilisateur (suppression de tous ses Todos)
+     *
+     * @param userId identifiant de l'utilisateur
+     */
+    void reset(String userId);
+}
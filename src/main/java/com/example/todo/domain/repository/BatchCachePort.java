@@ -0,0 +1,42 @@
+package com.example.todo.domain.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * BatchCachePort Interface
+ *
+ * Port de lecture et d'alimentation groupées d'un cache : les clés absentes du
+ * cache local sont résolues en un seul aller-retour vers le cache partagé.
+ *
+ * @author Todo Team
+ */
+public interface BatchCachePort {
+
+    /**
+     * Lit plusieurs entrées d'un cache
+     *
+     * @param cacheName nom du cache
+     * @param keys clés à lire
+     * @return valeurs présentes par clé (les clés absentes sont omises)
+     */
+    Map<String, Object> getAll(String cacheName, Collection<String> keys);
+
+    /**
+     * Enregistre des valeurs chargées après un défaut de cache ; une entrée déjà
+     * présente n'est jamais remplacée
+     *
+     * @param cacheName nom du cache
+     * @param entries valeurs par clé
+     */
+    void putAllIfAbsent(String cacheName, Map<String, ?> entries);
+
+    /**
+     * Retire plusieurs entrées d'un cache ; dans une transaction, le retrait a lieu
+     * après son commit
+     *
+     * @param cacheName nom du cache
+     * @param keys clés à retirer
+     */
+    void evictAll(String cacheName, Collection<String> keys);
+}
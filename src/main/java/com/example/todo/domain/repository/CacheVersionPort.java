@@ -0,0 +1,19 @@
+package com.example.todo.domain.repository;
+
+/**
+ * Port for per-user cache versioning
+ * Cached pages of a user are keyed by the user's current version: bumping it
+ * makes all of them unreachable at once, without touching other users' entries
+ */
+public interface CacheVersionPort {
+    /**
+     * Current cache version of a user
+     */
+    long currentVersion(String userId);
+
+    /**
+     * Increment the cache version of a user once the current transaction commits
+     * (immediately when no transaction is active)
+     */
+    void bump(String userId);
+}
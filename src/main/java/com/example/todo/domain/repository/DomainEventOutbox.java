@@ -0,0 +1,25 @@
+package com.example.todo.domain.repository;
+
+import com.example.todo.domain.events.DomainEvent;
+
+import java.util.List;
+
+/**
+ * DomainEventOutbox Interface
+ *
+ * Port d'enregistrement des événements du domaine dans une boîte d'envoi (outbox).
+ * Les événements sont écrits dans la même transaction que les agrégats qui les
+ * émettent, puis relayés aux gestionnaires une fois validés : un événement n'est
+ * jamais diffusé pour une écriture annulée.
+ *
+ * @author Todo Team
+ */
+public interface DomainEventOutbox {
+
+    /**
+     * Enregistre des événements dans la transaction courante, qui doit exister
+     *
+     * @param events événements à relayer après le commit, dans l'ordre de la liste
+     */
+    void append(List<DomainEvent> events);
+}
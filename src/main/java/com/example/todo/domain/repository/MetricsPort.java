@@ -21,5 +21,10 @@ public interface MetricsPort {
      * Increment todo completed counter
      */
     void incrementTodoCompleted();
+
+    /**
+     * Increment todo imported counter by the size of an imported chunk
+     */
+    void incrementTodosImported(long count);
 }
 
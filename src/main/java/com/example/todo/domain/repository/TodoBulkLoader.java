@@ -0,0 +1,25 @@
+package com.example.todo.domain.repository;
+
+import com.example.todo.domain.model.Todo;
+import java.util.Collection;
+
+/**
+ * TodoBulkLoader Interface
+ *
+ * Port d'ingestion massive de Todos nouvellement créés.
+ * Contrairement au repository, aucune vérification d'existence ni publication
+ * d'événements n'est effectuée : les Todos sont insérés tels quels, en un
+ * minimum d'allers-retours avec la base.
+ *
+ * @author Todo Team
+ */
+public interface TodoBulkLoader {
+
+    /**
+     * Insère un lot de Todos nouveaux dans la transaction courante
+     *
+     * @param todos Todos validés par les invariants du domaine
+     * @return nombre de Todos insérés
+     */
+    long load(Collection<Todo> todos);
+}
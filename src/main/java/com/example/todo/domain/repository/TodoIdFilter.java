@@ -0,0 +1,42 @@
+package com.example.todo.domain.repository;
+
+import com.example.todo.domain.model.TodoId;
+import java.util.Collection;
+
+/**
+ * TodoIdFilter Interface
+ *
+ * Port de filtrage probabiliste des identifiants de Todos existants.
+ * Une réponse négative est certaine : le Todo n'existe pas et la lecture peut
+ * échouer sans interroger le cache ni la base. Une réponse positive peut être
+ * un faux positif, la lecture suit alors son chemin habituel.
+ *
+ * @author Todo Team
+ */
+public interface TodoIdFilter {
+
+    /**
+     * Indique si un Todo peut exister
+     *
+     * @param id identifiant du Todo
+     * @return false si le Todo n'existe certainement pas
+     */
+    boolean mightExist(TodoId id);
+
+    /**
+     * Enregistre l'identifiant d'un Todo créé
+     *
+     * À appeler dès l'écriture, avant le commit : un identifiant enregistré pour
+     * une transaction annulée ne produit qu'un faux positif.
+     *
+     * @param id identifiant du Todo créé
+     */
+    void add(TodoId id);
+
+    /**
+     * Enregistre les identifiants d'un lot de Todos créés
+     *
+     * @param ids identifiants des Todos créés
+     */
+    void addAll(Collection<TodoId> ids);
+}
@@ -2,12 +2,18 @@ package com.example.todo.domain.repository;
 
 import com.example.todo.domain.model.Todo;
 import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoStatistics;
 import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.domain.specification.Specification;
 import com.example.todo.domain.model.PageResult;
 import com.example.todo.domain.model.PageRequest;
+import com.example.todo.domain.model.CursorPageResult;
+import com.example.todo.domain.model.PageCursor;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * TodoRepository Interface
@@ -34,6 +40,17 @@ public interface TodoRepository {
      */
     Todo save(Todo todo);
 
+    /**
+     * Sauvegarde un lot de Todos (créations et mises à jour mélangées)
+     *
+     * Les écritures sont regroupées en lots JDBC et les événements du domaine
+     * de tous les agrégats sont publiés en une seule passe après l'écriture.
+     *
+     * @param todos Todos à sauvegarder
+     * @return Todos sauvegardés, dans l'ordre de la collection
+     */
+    List<Todo> saveAll(Collection<Todo> todos);
+
     /**
      * Trouve un Todo par son identifiant
      *
@@ -42,6 +59,14 @@ public interface TodoRepository {
      */
     Optional<Todo> findById(TodoId id);
 
+    /**
+     * Trouve plusieurs Todos par leurs identifiants, en une seule requête
+     *
+     * @param ids identifiants des Todos
+     * @return Todos existants, sans ordre garanti (les identifiants inconnus sont ignorés)
+     */
+    List<Todo> findAllByIds(Collection<TodoId> ids);
+
     /**
      * Trouve tous les Todos d'un utilisateur
      *
@@ -51,6 +76,18 @@ public interface TodoRepository {
      */
     PageResult<Todo> findByUserId(String userId, PageRequest pageable);
 
+    /**
+     * Trouve les Todos d'un utilisateur satisfaisant une spécification.
+     * La spécification est exécutée par la base lorsqu'elle est traduisible,
+     * sinon évaluée en mémoire sur les Todos de l'utilisateur.
+     *
+     * @param userId identifiant de l'utilisateur
+     * @param specification critères de sélection
+     * @param pageable paramètres de pagination
+     * @return page de Todos, du plus récent au plus ancien
+     */
+    PageResult<Todo> findAll(String userId, Specification<Todo> specification, PageRequest pageable);
+
     /**
      * Trouve les Todos d'un utilisateur par statut
      *
@@ -61,6 +98,40 @@ public interface TodoRepository {
      */
     PageResult<Todo> findByUserIdAndStatus(String userId, TodoStatus status, PageRequest pageable);
 
+    /**
+     * Trouve les Todos d'un utilisateur par pagination par clé (keyset)
+     *
+     * Le coût d'une page ne dépend pas de sa profondeur : pas d'OFFSET ni de COUNT.
+     *
+     * @param userId identifiant de l'utilisateur
+     * @param after curseur de la page précédente (null pour la première page)
+     * @param pageSize taille de la page
+     * @return page de Todos avec le curseur de la page suivante
+     */
+    CursorPageResult<Todo> findByUserIdAfter(String userId, PageCursor after, int pageSize);
+
+    /**
+     * Trouve les Todos d'un utilisateur par statut, par pagination par clé (keyset)
+     *
+     * @param userId identifiant de l'utilisateur
+     * @param status statut recherché
+     * @param after curseur de la page précédente (null pour la première page)
+     * @param pageSize taille de la page
+     * @return page de Todos avec le curseur de la page suivante
+     */
+    CursorPageResult<Todo> findByUserIdAndStatusAfter(String userId, TodoStatus status, PageCursor after, int pageSize);
+
+    /**
+     * Parcourt tous les Todos d'un utilisateur sans les matérialiser
+     *
+     * Le flux est adossé à un curseur de base de données : il doit être consommé
+     * dans une transaction et fermé (try-with-resources) après usage.
+     *
+     * @param userId identifiant de l'utilisateur
+     * @return flux des Todos, du plus récent au plus ancien
+     */
+    Stream<Todo> streamByUserId(String userId);
+
     /**
      * Trouve les Todos d'un utilisateur en retard
      *
@@ -89,6 +160,16 @@ public interface TodoRepository {
      */
     long countByUserIdAndStatus(String userId, TodoStatus status);
 
+    /**
+     * Calcule les statistiques des Todos d'un utilisateur en une seule requête
+     *
+     * @param userId identifiant de l'utilisateur
+     * @param now instant de référence pour les retards
+     * @param windowStart début de la fenêtre de productivité (échéances entre windowStart et now)
+     * @return statistiques de l'utilisateur
+     */
+    TodoStatistics getStatistics(String userId, Instant now, Instant windowStart);
+
     /**
      * Vérifie l'existence d'un Todo
      *
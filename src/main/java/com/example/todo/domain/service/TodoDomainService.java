@@ -1,7 +1,7 @@
 package com.example.todo.domain.service;
 
 import com.example.todo.domain.model.Todo;
-import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.domain.repository.ActiveTodoCounter;
 import com.example.todo.domain.repository.TodoRepository;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -22,10 +22,15 @@ import java.util.List;
  */
 public class TodoDomainService {
 
+    private static final long MAX_ACTIVE_TODOS = 50; // Limite métier
+    private static final long HIGH_WORKLOAD_THRESHOLD = 10; // Seuil métier
+
     private final TodoRepository todoRepository;
+    private final ActiveTodoCounter activeTodoCounter;
 
-    public TodoDomainService(TodoRepository todoRepository) {
+    public TodoDomainService(TodoRepository todoRepository, ActiveTodoCounter activeTodoCounter) {
         this.todoRepository = todoRepository;
+        this.activeTodoCounter = activeTodoCounter;
     }
 
     /**
@@ -37,22 +42,10 @@ public class TodoDomainService {
      * @return score de productivité (0-100)
      */
     public int calculateProductivityScore(String userId, int weeks) {
-        Instant fromDate = Instant.now().minus(weeks * 7L, ChronoUnit.DAYS);
         Instant toDate = Instant.now();
+        Instant fromDate = toDate.minus(weeks * 7L, ChronoUnit.DAYS);
 
-        List<Todo> recentTodos = todoRepository.findByUserIdAndDueDateBetween(userId, fromDate, toDate);
-
-        if (recentTodos.isEmpty()) {
-            return 0;
-        }
-
-        long completedCount = recentTodos.stream()
-            .mapToLong(todo -> todo.getStatus() == TodoStatus.COMPLETED ? 1L : 0L)
-            .sum();
-
-        long totalCount = recentTodos.size();
-
-        return (int) ((completedCount * 100) / totalCount);
+        return todoRepository.getStatistics(userId, toDate, fromDate).productivityScore();
     }
 
     /**
@@ -62,10 +55,7 @@ public class TodoDomainService {
      * @return true si la charge est élevée
      */
     public boolean hasHighWorkload(String userId) {
-        long pendingCount = todoRepository.countByUserIdAndStatus(userId, TodoStatus.PENDING);
-        long inProgressCount = todoRepository.countByUserIdAndStatus(userId, TodoStatus.IN_PROGRESS);
-
-        return (pendingCount + inProgressCount) > 10; // Seuil métier
+        return activeTodoCounter.getActiveCount(userId) > HIGH_WORKLOAD_THRESHOLD;
     }
 
     /**
@@ -85,13 +75,14 @@ public class TodoDomainService {
      * Vérifie si un utilisateur peut créer de nouveaux Todos
      * (règle métier : limite de Todos actifs)
      *
+     * Le compteur de l'utilisateur reste verrouillé jusqu'à la fin de la transaction
+     * appelante : à appeler dans la transaction qui crée le Todo, afin que deux
+     * créations concurrentes ne puissent pas dépasser la limite.
+     *
      * @param userId identifiant de l'utilisateur
      * @return true si l'utilisateur peut créer de nouveaux Todos
      */
     public boolean canCreateNewTodo(String userId) {
-        long activeCount = todoRepository.countByUserIdAndStatus(userId, TodoStatus.PENDING) +
-                          todoRepository.countByUserIdAndStatus(userId, TodoStatus.IN_PROGRESS);
-
-        return activeCount < 50; // Limite métier
+        return activeTodoCounter.lockActiveCount(userId) < MAX_ACTIVE_TODOS;
     }
 }
@@ -0,0 +1,24 @@
+package com.example.todo.domain.specification;
+
+import java.util.Objects;
+
+/**
+ * NotSpecification
+ *
+ * Négation d'une spécification.
+ *
+ * @param negated spécification niée
+ *
+ * @author Todo Team
+ */
+public record NotSpecification<T>(Specification<T> negated) implements Specification<T> {
+
+    public NotSpecification {
+        Objects.requireNonNull(negated, "Negated specification cannot be null");
+    }
+
+    @Override
+    public boolean isSatisfiedBy(T candidate) {
+        return !negated.isSatisfiedBy(candidate);
+    }
+}
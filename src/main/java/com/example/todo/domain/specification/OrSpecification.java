@@ -0,0 +1,26 @@
+package com.example.todo.domain.specification;
+
+import java.util.Objects;
+
+/**
+ * OrSpecification
+ *
+ * Disjonction de deux spécifications.
+ *
+ * @param left première spécification
+ * @param right seconde spécification
+ *
+ * @author Todo Team
+ */
+public record OrSpecification<T>(Specification<T> left, Specification<T> right) implements Specification<T> {
+
+    public OrSpecification {
+        Objects.requireNonNull(left, "Left specification cannot be null");
+        Objects.requireNonNull(right, "Right specification cannot be null");
+    }
+
+    @Override
+    public boolean isSatisfiedBy(T candidate) {
+        return left.isSatisfiedBy(candidate) || right.isSatisfiedBy(candidate);
+    }
+}
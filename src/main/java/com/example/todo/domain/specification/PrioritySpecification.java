@@ -0,0 +1,20 @@
+package com.example.todo.domain.specification;
+
+import com.example.todo.domain.model.Todo;
+
+/**
+ * PrioritySpecification
+ *
+ * Todos d'un niveau de priorité donné.
+ *
+ * @param level niveau de priorité (1 à 4)
+ *
+ * @author Todo Team
+ */
+public record PrioritySpecification(int level) implements Specification<Todo> {
+
+    @Override
+    public boolean isSatisfiedBy(Todo candidate) {
+        return candidate.getPriority().level() == level;
+    }
+}
@@ -1,7 +1,5 @@
 package com.example.todo.domain.specification;
 
-import com.example.todo.domain.model.Todo;
-
 /**
  * Specification Interface
  *
@@ -13,6 +11,10 @@ import com.example.todo.domain.model.Todo;
  * - Composable Rules : Composition de règles métier
  * - Domain Language : Expression des règles en langage métier
  *
+ * Les combinaisons produisent des records (AndSpecification, OrSpecification,
+ * NotSpecification) dont la structure reste inspectable : l'infrastructure peut
+ * ainsi traduire une spécification composée en requête.
+ *
  * @author Todo Team
  */
 @FunctionalInterface
@@ -33,7 +35,7 @@ public interface Specification<T> {
      * @return nouvelle spécification combinée
      */
     default Specification<T> and(Specification<T> other) {
-        return candidate -> this.isSatisfiedBy(candidate) && other.isSatisfiedBy(candidate);
+        return new AndSpecification<>(this, other);
     }
 
     /**
@@ -43,7 +45,7 @@ public interface Specification<T> {
      * @return nouvelle spécification combinée
      */
     default Specification<T> or(Specification<T> other) {
-        return candidate -> this.isSatisfiedBy(candidate) || other.isSatisfiedBy(candidate);
+        return new OrSpecification<>(this, other);
     }
 
     /**
@@ -52,6 +54,6 @@ public interface Specification<T> {
      * @return spécification négée
      */
     default Specification<T> not() {
-        return candidate -> !this.isSatisfiedBy(candidate);
+        return new NotSpecification<>(this);
     }
 }
@@ -0,0 +1,28 @@
+package com.example.todo.domain.specification;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoStatus;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * StatusSpecification
+ *
+ * Todos dont le statut appartient à un ensemble donné.
+ *
+ * @param statuses statuts acceptés
+ *
+ * @author Todo Team
+ */
+public record StatusSpecification(Set<TodoStatus> statuses) implements Specification<Todo> {
+
+    public StatusSpecification {
+        statuses = Set.copyOf(Objects.requireNonNull(statuses, "Statuses cannot be null"));
+    }
+
+    @Override
+    public boolean isSatisfiedBy(Todo candidate) {
+        return statuses.contains(candidate.getStatus());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.todo.domain.specification;
+
+import com.example.todo.domain.model.Todo;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * TemporalSpecification
+ *
+ * Compare une date d'un Todo à un instant de référence.
+ * Un Todo sans date (échéance absente) ne satisfait jamais la comparaison.
+ *
+ * @param attribute date comparée
+ * @param comparison opérateur de comparaison
+ * @param instant instant de référence
+ *
+ * @author Todo Team
+ */
+public record TemporalSpecification(Attribute attribute, Comparison comparison, Instant instant)
+        implements Specification<Todo> {
+
+    /**
+     * Dates d'un Todo pouvant être comparées
+     */
+    public enum Attribute {
+        DUE_DATE,
+        CREATED_AT,
+        UPDATED_AT;
+
+        Instant valueOf(Todo todo) {
+            return switch (this) {
+                case DUE_DATE -> todo.getDueDate();
+                case CREATED_AT -> todo.getCreatedAt();
+                case UPDATED_AT -> todo.getUpdatedAt();
+            };
+        }
+    }
+
+    /**
+     * Opérateurs de comparaison (date du Todo par rapport à l'instant de référence)
+     */
+    public enum Comparison {
+        BEFORE,
+        NOT_BEFORE,
+        AFTER,
+        NOT_AFTER
+    }
+
+    public TemporalSpecification {
+        Objects.requireNonNull(attribute, "Attribute cannot be null");
+        Objects.requireNonNull(comparison, "Comparison cannot be null");
+        Objects.requireNonNull(instant, "Instant cannot be null");
+    }
+
+    @Override
+    public boolean isSatisfiedBy(Todo candidate) {
+        Instant value = attribute.valueOf(candidate);
+        if (value == null) {
+            return false;
+        }
+
+        return switch (comparison) {
+            case BEFORE -> value.isBefore(instant);
+            case NOT_BEFORE -> !value.isBefore(instant);
+            case AFTER -> value.isAfter(instant);
+            case NOT_AFTER -> !value.isAfter(instant);
+        };
+    }
+}
@@ -3,8 +3,13 @@ package com.example.todo.domain.specification;
 import com.example.todo.domain.model.Todo;
 import com.example.todo.domain.model.TodoPriority;
 import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.domain.specification.TemporalSpecification.Attribute;
+import com.example.todo.domain.specification.TemporalSpecification.Comparison;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * TodoSpecifications
@@ -12,10 +17,18 @@ import java.time.temporal.ChronoUnit;
  * Catalogue de spécifications métier prédéfinies pour les Todos.
  * Fournit un vocabulaire métier riche et réutilisable.
  *
+ * Les spécifications sont des records inspectables, traduisibles en requête par
+ * l'infrastructure. Les spécifications relatives au temps fixent leur instant de
+ * référence à leur construction.
+ *
  * @author Todo Team
  */
 public final class TodoSpecifications {
 
+    private static final Set<TodoStatus> ACTIVE_STATUSES = Arrays.stream(TodoStatus.values())
+        .filter(status -> !status.isFinal())
+        .collect(Collectors.toUnmodifiableSet());
+
     private TodoSpecifications() {
         // Utility class
     }
@@ -24,28 +37,29 @@ public final class TodoSpecifications {
      * Spécification pour les Todos en retard
      */
     public static Specification<Todo> isOverdue() {
-        return Todo::isOverdue;
+        return new TemporalSpecification(Attribute.DUE_DATE, Comparison.BEFORE, Instant.now())
+            .and(isActive());
     }
 
     /**
      * Spécification pour les Todos avec une priorité donnée
      */
     public static Specification<Todo> hasPriority(TodoPriority priority) {
-        return todo -> todo.getPriority().equals(priority);
+        return new PrioritySpecification(priority.level());
     }
 
     /**
      * Spécification pour les Todos avec un statut donné
      */
     public static Specification<Todo> hasStatus(TodoStatus status) {
-        return todo -> todo.getStatus() == status;
+        return new StatusSpecification(Set.of(status));
     }
 
     /**
      * Spécification pour les Todos actifs (non finalisés)
      */
     public static Specification<Todo> isActive() {
-        return todo -> !todo.getStatus().isFinal();
+        return new StatusSpecification(ACTIVE_STATUSES);
     }
 
     /**
@@ -59,59 +73,45 @@ public final class TodoSpecifications {
      * Spécification pour les Todos avec priorité critique
      */
     public static Specification<Todo> isCritical() {
-        return todo -> todo.getPriority().isCritical();
+        return hasPriority(TodoPriority.CRITICAL);
     }
 
     /**
      * Spécification pour les Todos dus aujourd'hui
      */
     public static Specification<Todo> isDueToday() {
-        return todo -> {
-            if (todo.getDueDate() == null) {
-                return false;
-            }
+        Instant startOfDay = Instant.now().truncatedTo(ChronoUnit.DAYS);
+        Instant endOfDay = startOfDay.plus(1, ChronoUnit.DAYS);
 
-            Instant startOfDay = Instant.now().truncatedTo(ChronoUnit.DAYS);
-            Instant endOfDay = startOfDay.plus(1, ChronoUnit.DAYS);
-
-            return !todo.getDueDate().isBefore(startOfDay) &&
-                   todo.getDueDate().isBefore(endOfDay);
-        };
+        return new TemporalSpecification(Attribute.DUE_DATE, Comparison.NOT_BEFORE, startOfDay)
+            .and(new TemporalSpecification(Attribute.DUE_DATE, Comparison.BEFORE, endOfDay));
     }
 
     /**
      * Spécification pour les Todos dus dans les X prochains jours
      */
     public static Specification<Todo> isDueWithinDays(int days) {
-        return todo -> {
-            if (todo.getDueDate() == null) {
-                return false;
-            }
-
-            Instant futureLimit = Instant.now().plus(days, ChronoUnit.DAYS);
-            return !todo.getDueDate().isAfter(futureLimit) &&
-                   todo.getDueDate().isAfter(Instant.now());
-        };
+        Instant now = Instant.now();
+        Instant futureLimit = now.plus(days, ChronoUnit.DAYS);
+
+        return new TemporalSpecification(Attribute.DUE_DATE, Comparison.AFTER, now)
+            .and(new TemporalSpecification(Attribute.DUE_DATE, Comparison.NOT_AFTER, futureLimit));
     }
 
     /**
      * Spécification pour les Todos créés récemment (dernières 24h)
      */
     public static Specification<Todo> isRecentlyCreated() {
-        return todo -> {
-            Instant oneDayAgo = Instant.now().minus(1, ChronoUnit.DAYS);
-            return todo.getCreatedAt().isAfter(oneDayAgo);
-        };
+        Instant oneDayAgo = Instant.now().minus(1, ChronoUnit.DAYS);
+        return new TemporalSpecification(Attribute.CREATED_AT, Comparison.AFTER, oneDayAgo);
     }
 
     /**
      * Spécification pour les Todos modifiés récemment
      */
     public static Specification<Todo> isRecentlyUpdated() {
-        return todo -> {
-            Instant oneHourAgo = Instant.now().minus(1, ChronoUnit.HOURS);
-            return todo.getUpdatedAt().isAfter(oneHourAgo);
-        };
+        Instant oneHourAgo = Instant.now().minus(1, ChronoUnit.HOURS);
+        return new TemporalSpecification(Attribute.UPDATED_AT, Comparison.AFTER, oneHourAgo);
     }
 
     /**
@@ -0,0 +1,37 @@
+package com.example.todo.infrastructure.cache;
+
+import com.example.todo.domain.repository.CacheVersionPort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * AbstractCacheVersions
+ *
+ * Base des versions de cache par utilisateur. L'incrément est différé après le commit :
+ * une lecture concurrente qui verrait la nouvelle version lirait aussi les données
+ * validées, et ne peut donc pas mettre en cache une page périmée sous la nouvelle clé.
+ *
+ * @author Todo Team
+ */
+public abstract class AbstractCacheVersions implements CacheVersionPort {
+
+    @Override
+    public void bump(String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(userId);
+            }
+        });
+    }
+
+    /**
+     * Incrémente immédiatement la version d'un utilisateur
+     */
+    protected abstract void increment(String userId);
+}
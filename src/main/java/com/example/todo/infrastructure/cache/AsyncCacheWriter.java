@@ -0,0 +1,89 @@
+package com.example.todo.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AsyncCacheWriter
+ *
+ * Écriture en arrière-plan, dans le cache partagé, des valeurs chargées après un
+ * défaut de cache : l'appelant reçoit la valeur sans attendre l'aller-retour Redis.
+ * Les écritures attendent dans une file bornée ; file pleine, l'écriture est
+ * abandonnée (la clé sera rechargée au prochain défaut) plutôt que de ralentir
+ * les requêtes.
+ *
+ * L'écriture est un {@code putIfAbsent} (SET NX) : une valeur plus récente écrite
+ * entre-temps (write-through) n'est jamais écrasée par un chargement en retard.
+ *
+ * Métriques : cache.async.writes (résultat written/dropped/failed) et
+ * cache.async.writes.queued (écritures en attente).
+ *
+ * @author Todo Team
+ */
+public class AsyncCacheWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncCacheWriter.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    public AsyncCacheWriter(int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("CacheWrite-"),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.written = writeCounter(meterRegistry, "written");
+        this.dropped = writeCounter(meterRegistry, "dropped");
+        this.failed = writeCounter(meterRegistry, "failed");
+        Gauge.builder("cache.async.writes.queued", executor, pool -> pool.getQueue().size())
+            .description("Cache writes waiting to be sent to the shared cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Planifie l'écriture d'une valeur absente du cache partagé
+     */
+    public void putIfAbsent(Cache cache, Object key, Object value) {
+        try {
+            executor.execute(() -> {
+                try {
+                    cache.putIfAbsent(key, value);
+                    written.increment();
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    logger.debug("Asynchronous write of {}/{} failed: {}", cache.getName(), key, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Termine les écritures en attente puis arrête le writer (arrêt du contexte)
+     */
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            logger.warn("Dropping {} pending cache writes on shutdown", executor.shutdownNow().size());
+        }
+    }
+
+    private static Counter writeCounter(MeterRegistry registry, String result) {
+        return Counter.builder("cache.async.writes")
+            .description("Asynchronous shared cache writes per result")
+            .tags("result", result)
+            .register(registry);
+    }
+}
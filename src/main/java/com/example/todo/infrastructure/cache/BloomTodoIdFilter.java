@@ -0,0 +1,359 @@
+package com.example.todo.infrastructure.cache;
+
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.repository.TodoIdFilter;
+import com.example.todo.infrastructure.persistence.TodoJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * BloomTodoIdFilter
+ *
+ * Filtre de Bloom en mémoire des identifiants de Todos existants. Le filtre est
+ * reconstruit périodiquement à partir de la base (ce qui purge les Todos supprimés)
+ * et complété au fil des créations. Tant que la première construction n'est pas
+ * terminée, tous les identifiants sont admis.
+ *
+ * Les créations sont diffusées aux autres nœuds par le bus d'invalidation du cache
+ * (cache {@value #CACHE_NAME}, un message par lot) : la création invalide l'absence
+ * connue de l'identifiant.
+ * La diffusion étant au mieux, une réponse négative doit rester certaine sans elle :
+ * <ul>
+ *   <li>un identifiant plus jeune que la période de grâce (UUID v7 horodaté, voir
+ *       {@link TodoId#generatedAt()}) est toujours admis : son message de création
+ *       peut encore être en route vers ce nœud ;</li>
+ *   <li>le filtre n'écarte plus rien dès qu'un message a pu être perdu : disjoncteur
+ *       Redis ouvert, publication abandonnée, ou (ré)abonnement au canal, après
+ *       lequel les messages diffusés pendant la coupure manquent. Il reste dégradé
+ *       jusqu'à la fin d'une reconstruction commencée après la perte, déclenchée à la
+ *       fermeture du disjoncteur et à chaque (ré)abonnement ; les identifiants non
+ *       publiés sont alors republiés.</li>
+ * </ul>
+ * Les identifiants UUID v4, antérieurs à l'horodatage, sont tous en base et donc
+ * dans le filtre reconstruit.
+ *
+ * Métriques : todo.id.filter.lookups (résultat rejected/passed), taux de faux positifs
+ * estimé d'après le remplissage (todo.id.filter.false.positive.probability) et mémoire
+ * occupée (todo.id.filter.memory).
+ *
+ * @author Todo Team
+ */
+public class BloomTodoIdFilter implements TodoIdFilter {
+
+    static final String CACHE_NAME = "todoIds";
+
+    private static final String ID_SEPARATOR = " ";
+
+    private static final Logger logger = LoggerFactory.getLogger(BloomTodoIdFilter.class);
+
+    private final TodoJpaRepository todoJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Duration gracePeriod;
+    private final String origin = UUID.randomUUID().toString();
+    private final Object rebuildLock = new Object();
+    private final Counter rejectedLookups;
+    private final Counter passedLookups;
+
+    private volatile BitArray current;
+    // Filtre en cours de reconstruction : reçoit aussi les créations concurrentes
+    private volatile BitArray next;
+    // Identifiants ajoutés depuis la dernière reconstruction, rejoués dans la suivante :
+    // leur transaction peut ne pas être validée quand la base est relue
+    private volatile Set<String> recentIds = ConcurrentHashMap.newKeySet();
+    // Identifiants dont la diffusion a échoué, republiés à la prochaine publication
+    private final Set<String> unpublishedIds = ConcurrentHashMap.newKeySet();
+    // Dégradé tant qu'une perte de message n'est pas couverte par une reconstruction
+    // commencée après elle
+    private final AtomicLong degradations = new AtomicLong();
+    private volatile long coveredDegradations;
+
+    public BloomTodoIdFilter(TodoJpaRepository todoJpaRepository,
+                             PlatformTransactionManager transactionManager,
+                             CacheInvalidationBus invalidationBus,
+                             RedisCircuitBreaker circuitBreaker,
+                             MeterRegistry meterRegistry,
+                             long expectedInsertions,
+                             double falsePositiveProbability,
+                             Duration gracePeriod) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Expected insertions must be at least 1");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1");
+        }
+        this.todoJpaRepository = todoJpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.invalidationBus = invalidationBus;
+        this.circuitBreaker = circuitBreaker;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.gracePeriod = gracePeriod;
+
+        this.rejectedLookups = lookupCounter(meterRegistry, "rejected");
+        this.passedLookups = lookupCounter(meterRegistry, "passed");
+        Gauge.builder("todo.id.filter.false.positive.probability", this, BloomTodoIdFilter::estimatedFalsePositiveProbability)
+            .description("False positive probability of the todo id filter, estimated from its fill ratio")
+            .register(meterRegistry);
+        Gauge.builder("todo.id.filter.memory", this, BloomTodoIdFilter::memoryBytes)
+            .description("Memory used by the todo id filter bit array")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+
+        invalidationBus.subscribe(this::onInvalidation, this::onSubscribed);
+        circuitBreaker.onRecovery(this::resynchronize);
+    }
+
+    @Override
+    public boolean mightExist(TodoId id) {
+        BitArray filter = current;
+        if (filter == null || isDegraded() || isRecent(id) || filter.mightContain(id)) {
+            passedLookups.increment();
+            return true;
+        }
+        rejectedLookups.increment();
+        return false;
+    }
+
+    @Override
+    public void add(TodoId id) {
+        addAll(List.of(id));
+    }
+
+    @Override
+    public void addAll(Collection<TodoId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        ids.forEach(this::addLocal);
+        ids.forEach(id -> unpublishedIds.add(id.value()));
+        publishUnpublished();
+    }
+
+    /**
+     * Reconstruit le filtre à partir des identifiants en base, dimensionné pour
+     * le double du nombre de Todos courant (au minimum le nombre attendu)
+     */
+    @Scheduled(fixedDelayString = "${app.todo-id-filter.rebuild-interval:PT1H}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.currentTimeMillis();
+            long degradationsBefore = degradations.get();
+            try {
+                BitArray rebuilt = transactionTemplate.execute(status -> {
+                    long capacity = Math.max(expectedInsertions, todoJpaRepository.count() * 2);
+                    BitArray filter = new BitArray(capacity, falsePositiveProbability);
+                    next = filter;
+                    Set<String> previousIds = recentIds;
+                    recentIds = ConcurrentHashMap.newKeySet();
+
+                    try (Stream<String> ids = todoJpaRepository.streamAllIds()) {
+                        ids.forEach(id -> filter.put(TodoId.of(id)));
+                    }
+                    previousIds.forEach(id -> filter.put(TodoId.of(id)));
+                    return filter;
+                });
+                current = rebuilt;
+                coveredDegradations = degradationsBefore;
+                logger.info("Todo id filter rebuilt in {} ms ({} bytes)",
+                    System.currentTimeMillis() - start, rebuilt.memoryBytes());
+            } catch (RuntimeException e) {
+                logger.warn("Todo id filter rebuild failed, keeping the previous filter: {}", e.getMessage());
+            } finally {
+                next = null;
+            }
+        }
+    }
+
+    /**
+     * Publie en un message les identifiants pas encore diffusés ; en cas d'échec ils
+     * sont conservés pour la publication suivante et le filtre se dégrade
+     */
+    private void publishUnpublished() {
+        List<String> ids = new ArrayList<>(unpublishedIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        unpublishedIds.removeAll(ids);
+        // Un seul message par lot : les identifiants (UUID) sont séparés par des espaces
+        String key = String.join(ID_SEPARATOR, ids);
+        if (!invalidationBus.publish(new CacheInvalidation(origin, CACHE_NAME, key))) {
+            unpublishedIds.addAll(ids);
+            degrade();
+        }
+    }
+
+    /**
+     * Fermeture du disjoncteur : les créations diffusées pendant l'indisponibilité ont
+     * pu être manquées, le filtre reste dégradé jusqu'à la fin de la reconstruction
+     */
+    private void resynchronize() {
+        degrade();
+        publishUnpublished();
+        rebuild();
+    }
+
+    /**
+     * (Ré)abonnement au canal : les créations diffusées avant lui ont pu être manquées.
+     * La reconstruction est lancée hors du thread de réception des messages.
+     */
+    private void onSubscribed() {
+        degrade();
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    private boolean isRecent(TodoId id) {
+        return id.generatedAt()
+            .map(generatedAt -> Duration.between(generatedAt, Instant.now()).abs().compareTo(gracePeriod) < 0)
+            .orElse(false);
+    }
+
+    private boolean isDegraded() {
+        if (circuitBreaker.isOpen()) {
+            degrade();
+            return true;
+        }
+        return degradations.get() > coveredDegradations;
+    }
+
+    private void degrade() {
+        if (degradations.getAndIncrement() == coveredDegradations) {
+            logger.warn("Todo id filter degraded until the next rebuild, admitting every id");
+        }
+    }
+
+    private void addLocal(TodoId id) {
+        recentIds.add(id.value());
+        BitArray filter = current;
+        if (filter != null) {
+            filter.put(id);
+        }
+        BitArray building = next;
+        if (building != null) {
+            building.put(id);
+        }
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (origin.equals(invalidation.origin())
+            || !CACHE_NAME.equals(invalidation.cacheName())
+            || invalidation.clearsAll()) {
+            return;
+        }
+        for (String id : invalidation.key().split(ID_SEPARATOR)) {
+            addLocal(TodoId.of(id));
+        }
+    }
+
+    private double estimatedFalsePositiveProbability() {
+        BitArray filter = current;
+        return filter == null ? 1.0 : filter.estimatedFalsePositiveProbability();
+    }
+
+    private double memoryBytes() {
+        BitArray filter = current;
+        return filter == null ? 0 : filter.memoryBytes();
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder("todo.id.filter.lookups")
+            .description("Todo id filter lookups per result")
+            .tags("result", result)
+            .register(registry);
+    }
+
+    /**
+     * Tableau de bits du filtre, sûr en accès concurrent. Les positions sont dérivées
+     * des deux moitiés de l'UUID par double hachage (h1 + i * h2).
+     */
+    static final class BitArray {
+
+        private final AtomicLongArray words;
+        private final long numBits;
+        private final int numHashes;
+        private final AtomicLong bitCount = new AtomicLong();
+
+        BitArray(long expectedInsertions, double falsePositiveProbability) {
+            long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+            int wordCount = Math.toIntExact(Math.max(1, (bits + 63) / 64));
+            this.words = new AtomicLongArray(wordCount);
+            this.numBits = wordCount * 64L;
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        }
+
+        void put(TodoId id) {
+            UUID uuid = UUID.fromString(id.value());
+            long h1 = mix(uuid.getMostSignificantBits());
+            long h2 = mix(uuid.getLeastSignificantBits()) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                setBit(Math.floorMod(h1 + i * h2, numBits));
+            }
+        }
+
+        boolean mightContain(TodoId id) {
+            UUID uuid = UUID.fromString(id.value());
+            long h1 = mix(uuid.getMostSignificantBits());
+            long h2 = mix(uuid.getLeastSignificantBits()) | 1;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, numBits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double estimatedFalsePositiveProbability() {
+            return Math.pow((double) bitCount.get() / numBits, numHashes);
+        }
+
+        long memoryBytes() {
+            return words.length() * 8L;
+        }
+
+        private void setBit(long bit) {
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(index, word, word | mask));
+            bitCount.incrementAndGet();
+        }
+
+        // Finaliseur de SplitMix64 : les UUID ne sont pas aléatoires sur tous leurs bits
+        // (version, variante, horodatage des UUID v7)
+        private static long mix(long value) {
+            long z = value;
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.todo.infrastructure.cache;
+
+import java.util.Objects;
+
+/**
+ * CacheInvalidation
+ *
+ * Message d'invalidation du cache local (L1) diffusé à tous les nœuds.
+ *
+ * @param origin identifiant du nœud émetteur (ignoré par ce nœud à la réception)
+ * @param cacheName nom du cache concerné
+ * @param key clé invalidée, null pour vider tout le cache
+ *
+ * @author Todo Team
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    public CacheInvalidation {
+        Objects.requireNonNull(origin, "Origin cannot be null");
+        Objects.requireNonNull(cacheName, "Cache name cannot be null");
+    }
+
+    /**
+     * Indique si le message vide tout le cache
+     */
+    public boolean clearsAll() {
+        return key == null;
+    }
+}
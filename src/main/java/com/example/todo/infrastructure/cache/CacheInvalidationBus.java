@@ -0,0 +1,43 @@
+package com.example.todo.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * CacheInvalidationBus
+ *
+ * Canal de diffusion des invalidations du cache local entre les nœuds de l'application.
+ * La diffusion est au mieux : un message perdu laisse une entrée locale périmée au plus
+ * pendant la durée de vie configurée du cache local.
+ *
+ * @author Todo Team
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Diffuse une invalidation à tous les nœuds (y compris l'émetteur)
+     *
+     * @param invalidation message d'invalidation
+     * @return false si le message n'a pas pu être transmis (il ne sera pas reçu)
+     */
+    boolean publish(CacheInvalidation invalidation);
+
+    /**
+     * Abonne un écouteur aux invalidations diffusées
+     *
+     * @param listener écouteur appelé pour chaque message reçu
+     */
+    default void subscribe(Consumer<CacheInvalidation> listener) {
+        subscribe(listener, () -> { });
+    }
+
+    /**
+     * Abonne un écouteur aux invalidations diffusées, averti de chaque abonnement
+     * effectif au canal après lequel des messages ont pu être perdus (premier
+     * abonnement, réabonnement après une coupure)
+     *
+     * @param listener écouteur appelé pour chaque message reçu
+     * @param onSubscribed appelé après chaque (ré)abonnement, sur le thread de réception
+     *                     des messages : ne doit pas bloquer
+     */
+    void subscribe(Consumer<CacheInvalidation> listener, Runnable onSubscribed);
+}
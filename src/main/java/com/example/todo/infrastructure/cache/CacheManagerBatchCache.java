@@ -0,0 +1,80 @@
+package com.example.todo.infrastructure.cache;
+
+import com.example.todo.domain.repository.BatchCachePort;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CacheManagerBatchCache
+ *
+ * Adaptateur du port {@link BatchCachePort} sur le gestionnaire de cache de
+ * l'application : les caches {@link MultiGetCache} (cache à deux niveaux) sont lus
+ * en un aller-retour vers Redis, les autres clé par clé.
+ *
+ * Les valeurs enregistrées ne remplaçant aucune entrée, elles sont écrites
+ * immédiatement, sans attendre le commit de la transaction courante. Les retraits
+ * passent au contraire par le décorateur transactionnel, comme {@code @CacheEvict} :
+ * une lecture concurrente ne peut pas remettre en cache l'état d'avant le commit.
+ *
+ * @author Todo Team
+ */
+public class CacheManagerBatchCache implements BatchCachePort {
+
+    private final CacheManager cacheManager;
+
+    public CacheManagerBatchCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public Map<String, Object> getAll(String cacheName, Collection<String> keys) {
+        Cache cache = targetCache(cacheName);
+        if (cache == null || keys.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Object> found = new HashMap<>();
+        if (cache instanceof MultiGetCache multiGetCache) {
+            multiGetCache.getAll(keys).forEach((key, value) -> found.put(String.valueOf(key), value));
+            return found;
+        }
+        for (String key : keys) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                found.put(key, wrapper.get());
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void putAllIfAbsent(String cacheName, Map<String, ?> entries) {
+        Cache cache = targetCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        entries.forEach(cache::putIfAbsent);
+    }
+
+    @Override
+    public void evictAll(String cacheName, Collection<String> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        keys.forEach(cache::evict);
+    }
+
+    /**
+     * Cache cible, sans le décorateur transactionnel
+     */
+    private Cache targetCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.todo.infrastructure.cache;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.application.usecase.ListTodosUseCase;
+import com.example.todo.domain.model.PageResult;
+import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.infrastructure.persistence.TodoJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CacheWarmUpRunner
+ *
+ * Préchauffe les caches au démarrage pour les utilisateurs les plus récemment actifs
+ * (dernière modification d'un de leurs Todos, dans la fenêtre {@code lookback}) :
+ * première page de la liste, premières pages des Todos ouverts (PENDING, IN_PROGRESS)
+ * et chacun de ces Todos dans le cache todos. Les pages passent par les use cases,
+ * donc par les mêmes clés de cache que les requêtes.
+ *
+ * Les runners s'exécutent avant que l'application ne se déclare prête
+ * (ApplicationReadyEvent, readiness ACCEPTING_TRAFFIC) : le préchauffage retarde le
+ * démarrage d'au plus {@code timeBudget}. Les utilisateurs non traités à l'échéance
+ * sont abandonnés ; une erreur ne fait jamais échouer le démarrage.
+ *
+ * Métriques : cache.warmup.duration et cache.warmup.entries (par cache, entrées
+ * réellement chargées : une page ou un Todo déjà en cache n'est pas compté).
+ *
+ * @author Todo Team
+ */
+public class CacheWarmUpRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmUpRunner.class);
+
+    private static final List<TodoStatus> OPEN_STATUSES = List.of(TodoStatus.PENDING, TodoStatus.IN_PROGRESS);
+
+    private final TodoJpaRepository todoJpaRepository;
+    private final ListTodosUseCase listTodosUseCase;
+    private final CacheManager cacheManager;
+    private final CacheVersionPort cacheVersionPort;
+    private final int users;
+    private final Pageable firstPage;
+    private final int parallelism;
+    private final Duration lookback;
+    private final Duration timeBudget;
+    private final Timer duration;
+    private final Counter todoListEntries;
+    private final Counter todoListByStatusEntries;
+    private final Counter todoEntries;
+
+    public CacheWarmUpRunner(TodoJpaRepository todoJpaRepository,
+                             ListTodosUseCase listTodosUseCase,
+                             CacheManager cacheManager,
+                             CacheVersionPort cacheVersionPort,
+                             MeterRegistry meterRegistry,
+                             int users,
+                             int pageSize,
+                             int parallelism,
+                             Duration lookback,
+                             Duration timeBudget) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Warm-up parallelism must be at least 1");
+        }
+        this.todoJpaRepository = todoJpaRepository;
+        this.listTodosUseCase = listTodosUseCase;
+        this.cacheManager = cacheManager;
+        this.cacheVersionPort = cacheVersionPort;
+        this.users = users;
+        this.firstPage = PageRequest.of(0, pageSize);
+        this.parallelism = parallelism;
+        this.lookback = lookback;
+        this.timeBudget = timeBudget;
+        this.duration = Timer.builder("cache.warmup.duration")
+            .description("Time spent warming up the caches at startup")
+            .register(meterRegistry);
+        this.todoListEntries = entryCounter(meterRegistry, "todoLists");
+        this.todoListByStatusEntries = entryCounter(meterRegistry, "todoListsByStatus");
+        this.todoEntries = entryCounter(meterRegistry, "todos");
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + timeBudget.toNanos();
+        AtomicInteger warmedUsers = new AtomicInteger();
+        int candidates = 0;
+
+        try {
+            List<String> userIds = users < 1 ? List.of()
+                : todoJpaRepository.findRecentlyActiveUserIds(Instant.now().minus(lookback), PageRequest.of(0, users));
+            candidates = userIds.size();
+            warmUp(userIds, deadline, warmedUsers);
+        } catch (RuntimeException e) {
+            logger.warn("Cache warm-up failed, starting with cold caches: {}", e.getMessage());
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            duration.record(elapsed, TimeUnit.NANOSECONDS);
+            logger.info("Cache warm-up completed for {}/{} users in {} ms",
+                warmedUsers.get(), candidates, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    private void warmUp(List<String> userIds, long deadline, AtomicInteger warmedUsers) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, userIds.size()),
+            new CustomizableThreadFactory("CacheWarmUp-"));
+        try {
+            for (String userId : userIds) {
+                executor.execute(() -> {
+                    if (warmUp(userId, deadline)) {
+                        warmedUsers.incrementAndGet();
+                    }
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                logger.warn("Cache warm-up time budget of {} exhausted, skipping remaining users", timeBudget);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Charge les pages d'un utilisateur ; faux si l'échéance est dépassée ou en cas d'erreur
+     */
+    private boolean warmUp(String userId, long deadline) {
+        try {
+            if (expired(deadline)) {
+                return false;
+            }
+            // Mêmes clés que ListTodosUseCase
+            String pageKey = userId + ":" + cacheVersionPort.currentVersion(userId);
+            String pageSuffix = firstPage.getPageNumber() + ":" + firstPage.getPageSize();
+            boolean cached = isCached("todoLists", pageKey + ":" + pageSuffix);
+            listTodosUseCase.execute(userId, firstPage);
+            if (!cached) {
+                todoListEntries.increment();
+            }
+
+            Cache todos = cacheManager.getCache("todos");
+            for (TodoStatus status : OPEN_STATUSES) {
+                if (expired(deadline)) {
+                    return false;
+                }
+                cached = isCached("todoListsByStatus", pageKey + ":" + status + ":" + pageSuffix);
+                PageResult<TodoResponse> page = listTodosUseCase.executeByStatus(userId, status, firstPage);
+                if (!cached) {
+                    todoListByStatusEntries.increment();
+                }
+                if (todos == null) {
+                    continue;
+                }
+                for (TodoResponse todo : page.getContent()) {
+                    // Même clé que GetTodoUseCase ; une valeur déjà présente est plus récente
+                    if (todos.putIfAbsent(userId + ":" + todo.id(), todo) == null) {
+                        todoEntries.increment();
+                    }
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            logger.debug("Cache warm-up failed for user {}: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isCached(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache != null && cache.get(key) != null;
+    }
+
+    private static boolean expired(long deadline) {
+        return System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted();
+    }
+
+    private static Counter entryCounter(MeterRegistry registry, String cache) {
+        return Counter.builder("cache.warmup.entries")
+            .description("Cache entries loaded by the startup warm-up")
+            .tags("cache", cache)
+            .register(registry);
+    }
+}
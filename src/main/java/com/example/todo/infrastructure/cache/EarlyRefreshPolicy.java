@@ -0,0 +1,55 @@
+package com.example.todo.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * EarlyRefreshPolicy
+ *
+ * Rafraîchissement anticipé probabiliste des entrées de cache (algorithme XFetch) :
+ * à chaque lecture d'une entrée chargée par ce nœud, le rechargement est déclenché
+ * en arrière-plan si {@code maintenant - durée du chargement * beta * ln(aléa) >= expiration}.
+ * La probabilité croît à l'approche de l'expiration et avec le coût du chargement,
+ * de sorte qu'une clé très lue est recalculée avant d'expirer, par un seul appelant.
+ *
+ * @param beta facteur d'anticipation (1.0 recommandé, 0 désactive le rafraîchissement)
+ * @param remoteTimeToLive durée de vie des entrées du cache partagé, par nom de cache
+ * @param executor exécuteur des rechargements en arrière-plan
+ *
+ * @author Todo Team
+ */
+public record EarlyRefreshPolicy(double beta, Function<String, Duration> remoteTimeToLive, Executor executor) {
+
+    public EarlyRefreshPolicy {
+        if (beta < 0) {
+            throw new IllegalArgumentException("Beta cannot be negative");
+        }
+        Objects.requireNonNull(remoteTimeToLive, "Remote time to live cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    /**
+     * Politique sans rafraîchissement anticipé
+     */
+    public static EarlyRefreshPolicy disabled() {
+        return new EarlyRefreshPolicy(0, cacheName -> Duration.ZERO, Runnable::run);
+    }
+
+    /**
+     * Indique si le rafraîchissement est actif pour un cache
+     */
+    public boolean isEnabled(String cacheName) {
+        return beta > 0 && remoteTimeToLive.apply(cacheName).isPositive();
+    }
+
+    /**
+     * Tirage XFetch pour une entrée chargée en {@code loadMillis} et expirant à {@code expiresAtMillis}
+     */
+    boolean shouldRefresh(long nowMillis, long loadMillis, long expiresAtMillis) {
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // ]0, 1]
+        return nowMillis - Math.max(loadMillis, 1) * beta * Math.log(random) >= expiresAtMillis;
+    }
+}
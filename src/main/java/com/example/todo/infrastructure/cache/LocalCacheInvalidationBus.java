@@ -0,0 +1,32 @@
+package com.example.todo.infrastructure.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * LocalCacheInvalidationBus
+ *
+ * Diffusion des invalidations en mémoire, de manière synchrone, aux écouteurs
+ * de la JVM courante. Remplace Redis pub/sub en test ou pour un nœud unique ;
+ * plusieurs gestionnaires de cache partageant une instance simulent plusieurs nœuds.
+ * Aucun message n'étant jamais perdu, les abonnés ne sont pas avertis de leur
+ * abonnement.
+ *
+ * @author Todo Team
+ */
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public boolean publish(CacheInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+        return true;
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener, Runnable onSubscribed) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.todo.infrastructure.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LocalCacheVersions
+ *
+ * Versions de cache par utilisateur en mémoire, pour les tests ou un nœud unique.
+ *
+ * @author Todo Team
+ */
+public class LocalCacheVersions extends AbstractCacheVersions {
+
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public long currentVersion(String userId) {
+        AtomicLong version = versions.get(userId);
+        return version == null ? 0L : version.get();
+    }
+
+    @Override
+    protected void increment(String userId) {
+        versions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
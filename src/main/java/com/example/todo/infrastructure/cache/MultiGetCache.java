@@ -0,0 +1,24 @@
+package com.example.todo.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * MultiGetCache
+ *
+ * Cache capable de lire plusieurs clés en un seul aller-retour.
+ *
+ * @author Todo Team
+ */
+public interface MultiGetCache extends Cache {
+
+    /**
+     * Lit plusieurs entrées
+     *
+     * @param keys clés à lire
+     * @return valeurs présentes par clé (les clés absentes sont omises)
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+}
@@ -0,0 +1,101 @@
+package com.example.todo.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * RedisCacheInvalidationBus
+ *
+ * Diffusion des invalidations via Redis pub/sub, sur un canal partagé par tous les nœuds.
+ * Les messages sont encodés en JSON. Un échec de publication est journalisé sans
+ * interrompre l'écriture en cours : le cache local expire de lui-même. Disjoncteur
+ * ouvert, les invalidations ne sont pas publiées. Les messages diffusés pendant une
+ * coupure de l'abonnement sont perdus : le conteneur se réabonne à la reconnexion et
+ * les abonnés en sont avertis.
+ *
+ * @author Todo Team
+ */
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisCacheInvalidationBus.class);
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChannelTopic topic;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public RedisCacheInvalidationBus(RedisMessageListenerContainer listenerContainer,
+                                     StringRedisTemplate redisTemplate,
+                                     ObjectMapper objectMapper,
+                                     String channel,
+                                     RedisCircuitBreaker circuitBreaker) {
+        this.listenerContainer = listenerContainer;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = new ChannelTopic(channel);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public boolean publish(CacheInvalidation invalidation) {
+        try {
+            String message = objectMapper.writeValueAsString(invalidation);
+            return circuitBreaker.execute(() -> {
+                redisTemplate.convertAndSend(topic.getTopic(), message);
+                return true;
+            }, () -> {
+                logger.debug("Cache invalidation {} not published, Redis unavailable", invalidation);
+                return false;
+            });
+        } catch (JsonProcessingException | RuntimeException e) {
+            logger.warn("Failed to publish cache invalidation {}: {}", invalidation, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener, Runnable onSubscribed) {
+        listenerContainer.addMessageListener(new InvalidationListener(listener, onSubscribed), topic);
+    }
+
+    /**
+     * Écouteur du canal, averti par le conteneur de chaque confirmation d'abonnement
+     */
+    private final class InvalidationListener implements MessageListener, SubscriptionListener {
+
+        private final Consumer<CacheInvalidation> listener;
+        private final Runnable onSubscribed;
+
+        InvalidationListener(Consumer<CacheInvalidation> listener, Runnable onSubscribed) {
+            this.listener = listener;
+            this.onSubscribed = onSubscribed;
+        }
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            try {
+                listener.accept(objectMapper.readValue(message.getBody(), CacheInvalidation.class));
+            } catch (IOException e) {
+                logger.warn("Ignoring malformed cache invalidation message: {}", e.getMessage());
+            }
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            logger.debug("Subscribed to cache invalidation channel {}", topic.getTopic());
+            onSubscribed.run();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.todo.infrastructure.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RedisCacheMultiGet
+ *
+ * Lecture de plusieurs entrées d'un {@link RedisCache} en une commande MGET
+ * (RedisCache ne lit qu'une clé par commande). Les clés Redis et les valeurs
+ * sont calculées à partir de la configuration du cache, comme RedisCache :
+ * préfixe du cache suivi de la représentation textuelle de la clé.
+ *
+ * @author Todo Team
+ */
+public class RedisCacheMultiGet {
+
+    private final RedisConnectionFactory connectionFactory;
+
+    public RedisCacheMultiGet(RedisConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * @return valeurs présentes par clé (les clés absentes sont omises)
+     */
+    public Map<Object, Object> getAll(RedisCache cache, List<?> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        RedisCacheConfiguration configuration = cache.getCacheConfiguration();
+        byte[][] redisKeys = keys.stream()
+            .map(key -> redisKey(cache.getName(), configuration, key))
+            .toArray(byte[][]::new);
+
+        List<byte[]> values;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            values = connection.stringCommands().mGet(redisKeys);
+        }
+
+        Map<Object, Object> found = new HashMap<>();
+        for (int i = 0; values != null && i < values.size(); i++) {
+            byte[] value = values.get(i);
+            if (value != null) {
+                found.put(keys.get(i), configuration.getValueSerializationPair().read(ByteBuffer.wrap(value)));
+            }
+        }
+        return found;
+    }
+
+    private static byte[] redisKey(String cacheName, RedisCacheConfiguration configuration, Object key) {
+        String cacheKey = configuration.usePrefix()
+            ? configuration.getKeyPrefixFor(cacheName) + key
+            : String.valueOf(key);
+        return ByteUtils.getBytes(configuration.getKeySerializationPair().write(cacheKey));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.todo.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RedisCacheVersions
+ *
+ * Versions de cache par utilisateur partagées par tous les nœuds, stockées dans
+ * Redis (un compteur INCR par utilisateur, absent équivaut à la version 0).
+ *
+ * Quand Redis est indisponible (disjoncteur ouvert), la dernière version lue est
+ * servie depuis la mémoire ; les incréments sont comptés localement, ajoutés aux
+ * versions servies, puis reportés dans Redis à la fermeture du disjoncteur.
+ *
+ * @author Todo Team
+ */
+public class RedisCacheVersions extends AbstractCacheVersions {
+
+    private static final String KEY_PREFIX = "todo:cache:version:";
+
+    private static final long MAX_KNOWN_VERSIONS = 100_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Long> knownVersions = Caffeine.newBuilder()
+        .maximumSize(MAX_KNOWN_VERSIONS)
+        .build();
+    private final ConcurrentMap<String, AtomicLong> pendingIncrements = new ConcurrentHashMap<>();
+
+    public RedisCacheVersions(StringRedisTemplate redisTemplate, RedisCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        circuitBreaker.onRecovery(this::flushPendingIncrements);
+    }
+
+    @Override
+    public long currentVersion(String userId) {
+        long version = circuitBreaker.execute(() -> {
+            String stored = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            long current = stored == null ? 0L : Long.parseLong(stored);
+            knownVersions.put(userId, current);
+            return current;
+        }, () -> {
+            Long known = knownVersions.getIfPresent(userId);
+            return known == null ? 0L : known;
+        });
+        AtomicLong pending = pendingIncrements.get(userId);
+        return pending == null ? version : version + pending.get();
+    }
+
+    @Override
+    protected void increment(String userId) {
+        circuitBreaker.run(
+            () -> redisTemplate.opsForValue().increment(KEY_PREFIX + userId),
+            () -> pendingIncrements.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet());
+    }
+
+    /**
+     * Reporte dans Redis les incréments comptés pendant l'indisponibilité
+     */
+    private void flushPendingIncrements() {
+        for (String userId : pendingIncrements.keySet()) {
+            AtomicLong pending = pendingIncrements.remove(userId);
+            long delta = pending.get();
+            circuitBreaker.run(
+                () -> redisTemplate.opsForValue().increment(KEY_PREFIX + userId, delta),
+                () -> pendingIncrements.computeIfAbsent(userId, id -> new AtomicLong()).addAndGet(delta));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.todo.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * RedisCircuitBreaker
+ *
+ * Disjoncteur partagé par tous les accès Redis du cache (cache partagé, versions,
+ * bus d'invalidation). Après {@code failureThreshold} échecs consécutifs, le
+ * disjoncteur s'ouvre : les appels ne sont plus tentés et leur repli s'applique
+ * immédiatement, au lieu d'attendre le délai d'expiration de Lettuce. Seule la
+ * sonde périodique interroge Redis ; à son premier succès le disjoncteur se ferme
+ * et les composants resynchronisent Redis avec les écritures ignorées.
+ *
+ * Seules les {@link DataAccessException} (connexion, délai, erreur Redis) comptent
+ * comme des échecs : une erreur de sérialisation n'ouvre pas le disjoncteur.
+ *
+ * Métriques : cache.redis.circuit.open (1 si ouvert), cache.redis.errors et
+ * cache.redis.skipped (appels non tentés).
+ *
+ * @author Todo Team
+ */
+public class RedisCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisCircuitBreaker.class);
+
+    private final Runnable probe;
+    private final int failureThreshold;
+    private final AtomicBoolean open = new AtomicBoolean();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+    private final Counter errors;
+    private final Counter skipped;
+
+    /**
+     * @param probe vérification de la disponibilité de Redis (PING), lève une exception en cas d'échec
+     */
+    public RedisCircuitBreaker(Runnable probe, int failureThreshold, MeterRegistry meterRegistry) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Failure threshold must be at least 1");
+        }
+        this.probe = probe;
+        this.failureThreshold = failureThreshold;
+        this.errors = Counter.builder("cache.redis.errors")
+            .description("Failed Redis cache operations")
+            .register(meterRegistry);
+        this.skipped = Counter.builder("cache.redis.skipped")
+            .description("Redis cache operations skipped while the circuit is open")
+            .register(meterRegistry);
+        Gauge.builder("cache.redis.circuit.open", open, state -> state.get() ? 1 : 0)
+            .description("Whether the Redis cache circuit breaker is open")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Exécute un appel Redis, ou son repli si le disjoncteur est ouvert ou si l'appel échoue
+     */
+    public <T> T execute(Supplier<T> call, Supplier<T> fallback) {
+        if (open.get()) {
+            skipped.increment();
+            return fallback.get();
+        }
+        try {
+            T result = call.get();
+            consecutiveFailures.set(0);
+            return result;
+        } catch (DataAccessException e) {
+            recordFailure(e);
+            return fallback.get();
+        }
+    }
+
+    /**
+     * Exécute un appel Redis sans résultat, ou son repli
+     */
+    public void run(Runnable call, Runnable fallback) {
+        execute(() -> {
+            call.run();
+            return null;
+        }, () -> {
+            fallback.run();
+            return null;
+        });
+    }
+
+    /**
+     * Abonne un traitement exécuté à la fermeture du disjoncteur
+     */
+    public void onRecovery(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    public boolean isOpen() {
+        return open.get();
+    }
+
+    /**
+     * Sonde Redis tant que le disjoncteur est ouvert
+     */
+    @Scheduled(fixedDelayString = "${app.cache.circuit-breaker.probe-interval:PT5S}")
+    public void probe() {
+        if (!open.get()) {
+            return;
+        }
+        try {
+            probe.run();
+        } catch (RuntimeException e) {
+            logger.debug("Redis still unreachable: {}", e.getMessage());
+            return;
+        }
+
+        consecutiveFailures.set(0);
+        open.set(false);
+        logger.info("Redis reachable again, closing the cache circuit breaker");
+        for (Runnable listener : recoveryListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                logger.warn("Cache resynchronization after Redis recovery failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void recordFailure(DataAccessException e) {
+        errors.increment();
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && open.compareAndSet(false, true)) {
+            logger.warn("Opening the cache circuit breaker after {} Redis failures, serving from the local cache only: {}",
+                failureThreshold, e.getMessage());
+        } else {
+            logger.debug("Redis cache operation failed: {}", e.getMessage());
+        }
+    }
+}
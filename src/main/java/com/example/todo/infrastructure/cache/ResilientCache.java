@@ -0,0 +1,159 @@
+package com.example.todo.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ResilientCache
+ *
+ * Cache partagé (Redis) protégé par le {@link RedisCircuitBreaker} : un échec ou un
+ * disjoncteur ouvert rend une lecture absente, le cache local et la base prennent
+ * le relais. Les écritures et évictions ignorées laissent dans Redis des valeurs
+ * potentiellement périmées : leurs clés sont retenues (au plus {@code maxStaleKeys},
+ * au-delà le cache entier est vidé) et évincées à la fermeture du disjoncteur.
+ *
+ * Les lectures groupées d'un cache Redis passent par un seul MGET
+ * ({@link RedisCacheMultiGet}), une lecture par clé sinon.
+ *
+ * @author Todo Team
+ */
+public class ResilientCache implements MultiGetCache {
+
+    private final Cache delegate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final int maxStaleKeys;
+    private final RedisCacheMultiGet multiGet;
+    private final Set<Object> staleKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean clearPending = new AtomicBoolean();
+
+    public ResilientCache(Cache delegate, RedisCircuitBreaker circuitBreaker, int maxStaleKeys) {
+        this(delegate, circuitBreaker, maxStaleKeys, null);
+    }
+
+    /**
+     * @param multiGet lecture groupée des caches Redis, null pour lire clé par clé
+     */
+    public ResilientCache(Cache delegate, RedisCircuitBreaker circuitBreaker, int maxStaleKeys,
+                          RedisCacheMultiGet multiGet) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.maxStaleKeys = maxStaleKeys;
+        this.multiGet = multiGet;
+        circuitBreaker.onRecovery(this::resynchronize);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return circuitBreaker.execute(() -> delegate.get(key), () -> null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return circuitBreaker.execute(() -> delegate.get(key, type), () -> null);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            @SuppressWarnings("unchecked")
+            T value = (T) wrapper.get();
+            return value;
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        if (multiGet != null && delegate instanceof RedisCache redisCache) {
+            return circuitBreaker.execute(() -> multiGet.getAll(redisCache, List.copyOf(keys)), Map::of);
+        }
+
+        Map<Object, Object> found = new HashMap<>();
+        for (Object key : keys) {
+            ValueWrapper wrapper = get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                found.put(key, wrapper.get());
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        circuitBreaker.run(() -> delegate.put(key, value), () -> markStale(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        // Écriture ignorée sans conséquence : aucune valeur n'est remplacée
+        return circuitBreaker.execute(() -> delegate.putIfAbsent(key, value), () -> null);
+    }
+
+    @Override
+    public void evict(Object key) {
+        circuitBreaker.run(() -> delegate.evict(key), () -> markStale(key));
+    }
+
+    @Override
+    public void clear() {
+        circuitBreaker.run(delegate::clear, () -> clearPending.set(true));
+    }
+
+    private void markStale(Object key) {
+        if (clearPending.get()) {
+            return;
+        }
+        if (staleKeys.size() >= maxStaleKeys) {
+            clearPending.set(true);
+            staleKeys.clear();
+            return;
+        }
+        staleKeys.add(key);
+    }
+
+    /**
+     * Retire de Redis les entrées modifiées pendant l'indisponibilité
+     */
+    private void resynchronize() {
+        if (clearPending.getAndSet(false)) {
+            staleKeys.clear();
+            clear();
+            return;
+        }
+        Iterator<Object> keys = staleKeys.iterator();
+        while (keys.hasNext() && !circuitBreaker.isOpen()) {
+            Object key = keys.next();
+            keys.remove();
+            evict(key);
+        }
+    }
+}
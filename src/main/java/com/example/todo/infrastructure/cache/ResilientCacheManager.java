@@ -0,0 +1,59 @@
+package com.example.todo.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ResilientCacheManager
+ *
+ * Gestionnaire du cache partagé dont chaque cache est protégé par le disjoncteur Redis
+ * (voir {@link ResilientCache}).
+ *
+ * @author Todo Team
+ */
+public class ResilientCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final int maxStaleKeys;
+    private final RedisCacheMultiGet multiGet;
+    private final ConcurrentMap<String, ResilientCache> caches = new ConcurrentHashMap<>();
+
+    public ResilientCacheManager(CacheManager delegate, RedisCircuitBreaker circuitBreaker, int maxStaleKeys) {
+        this(delegate, circuitBreaker, maxStaleKeys, null);
+    }
+
+    /**
+     * @param multiGet lecture groupée des caches Redis, null pour lire clé par clé
+     */
+    public ResilientCacheManager(CacheManager delegate, RedisCircuitBreaker circuitBreaker, int maxStaleKeys,
+                                 RedisCacheMultiGet multiGet) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.maxStaleKeys = maxStaleKeys;
+        this.multiGet = multiGet;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        ResilientCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new ResilientCache(target, circuitBreaker, maxStaleKeys, multiGet));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,362 @@
+package com.example.todo.infrastructure.cache;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.application.dto.TodoStatisticsResponse;
+import com.example.todo.domain.model.PageResult;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.model.TodoStatus;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * TodoCacheValueSerializer
+ *
+ * Sérialiseur binaire compact des valeurs du cache Redis. Les types mis en cache par
+ * les use cases (TodoResponse, PageResult de TodoResponse, TodoStatisticsResponse) ont
+ * un codec dédié : champs dans un ordre fixe, entiers en varint, dates en secondes et
+ * nanosecondes, sans noms de classes ni de champs. Les autres valeurs sont confiées à
+ * la sérialisation Java.
+ *
+ * Format : octet magique, version du format, type, indicateurs, puis le corps. Le corps
+ * est compressé (Deflate) au-delà d'un seuil lorsqu'il y gagne. Une valeur d'un autre
+ * format ou d'une autre version est lue comme absente (défaut de cache) : changer le
+ * codec, y compris l'ordre des constantes de TodoStatus, impose d'incrémenter
+ * FORMAT_VERSION.
+ *
+ * @author Todo Team
+ */
+public class TodoCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xCA;
+    static final byte FORMAT_VERSION = 1;
+
+    private static final byte TYPE_SERIALIZABLE = 0;
+    private static final byte TYPE_TODO = 1;
+    private static final byte TYPE_TODO_PAGE = 2;
+    private static final byte TYPE_STATISTICS = 3;
+
+    private static final byte FLAG_DEFLATED = 1;
+
+    private static final int HEADER_LENGTH = 4;
+    private static final TodoStatus[] STATUSES = TodoStatus.values();
+
+    private final JdkSerializationRedisSerializer fallbackSerializer = new JdkSerializationRedisSerializer();
+    private final int compressionThreshold;
+
+    /**
+     * @param compressionThreshold taille du corps (octets) au-delà de laquelle la compression est tentée
+     */
+    public TodoCacheValueSerializer(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(buffer);
+            byte type = writeBody(out, value);
+            out.flush();
+            return frame(type, buffer.toByteArray());
+        } catch (IOException e) {
+            throw new SerializationException("Cannot serialize cache value", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER_LENGTH || bytes[0] != MAGIC || bytes[1] != FORMAT_VERSION) {
+            return null;
+        }
+
+        try {
+            byte[] body = (bytes[3] & FLAG_DEFLATED) != 0
+                ? inflate(bytes)
+                : Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+
+            return switch (bytes[2]) {
+                case TYPE_TODO -> readTodo(in);
+                case TYPE_TODO_PAGE -> readTodoPage(in);
+                case TYPE_STATISTICS -> readStatistics(in);
+                case TYPE_SERIALIZABLE -> fallbackSerializer.deserialize(body);
+                default -> null;
+            };
+        } catch (IOException | DataFormatException | RuntimeException e) {
+            throw new SerializationException("Cannot deserialize cache value", e);
+        }
+    }
+
+    private byte writeBody(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof TodoResponse todo) {
+            writeTodo(out, todo);
+            return TYPE_TODO;
+        }
+        if (value instanceof PageResult<?> page && page.getContent().stream().allMatch(TodoResponse.class::isInstance)) {
+            writeVarInt(out, page.getPageNumber());
+            writeVarInt(out, page.getPageSize());
+            writeVarLong(out, page.getTotalElements());
+            writeVarInt(out, page.getContent().size());
+            for (Object todo : page.getContent()) {
+                writeTodo(out, (TodoResponse) todo);
+            }
+            return TYPE_TODO_PAGE;
+        }
+        if (value instanceof TodoStatisticsResponse statistics) {
+            writeStatistics(out, statistics);
+            return TYPE_STATISTICS;
+        }
+
+        out.write(fallbackSerializer.serialize(value));
+        return TYPE_SERIALIZABLE;
+    }
+
+    private byte[] frame(byte type, byte[] body) {
+        byte flags = 0;
+        byte[] payload = body;
+
+        if (body.length > compressionThreshold) {
+            byte[] deflated = deflate(body);
+            if (deflated.length < body.length) {
+                flags = FLAG_DEFLATED;
+                payload = deflated;
+            }
+        }
+
+        byte[] framed = new byte[HEADER_LENGTH + payload.length];
+        framed[0] = MAGIC;
+        framed[1] = FORMAT_VERSION;
+        framed[2] = type;
+        framed[3] = flags;
+        System.arraycopy(payload, 0, framed, HEADER_LENGTH, payload.length);
+        return framed;
+    }
+
+    // ---- Codecs par type ----
+
+    private static void writeTodo(DataOutputStream out, TodoResponse todo) throws IOException {
+        writeString(out, todo.id());
+        writeString(out, todo.title());
+        writeString(out, todo.description());
+        out.writeByte(todo.status().ordinal());
+        out.writeByte(todo.priority().level());
+        writeString(out, todo.priority().name());
+        writeInstant(out, todo.dueDate());
+        writeString(out, todo.userId());
+        writeInstant(out, todo.createdAt());
+        writeInstant(out, todo.updatedAt());
+        writeInstant(out, todo.completedAt());
+        out.writeByte((todo.overdue() ? 1 : 0) | (todo.editable() ? 2 : 0));
+    }
+
+    private static TodoResponse readTodo(DataInputStream in) throws IOException {
+        String id = readString(in);
+        String title = readString(in);
+        String description = readString(in);
+        TodoStatus status = STATUSES[in.readUnsignedByte()];
+        TodoPriority priority = new TodoPriority(in.readUnsignedByte(), readString(in));
+        Instant dueDate = readInstant(in);
+        String userId = readString(in);
+        Instant createdAt = readInstant(in);
+        Instant updatedAt = readInstant(in);
+        Instant completedAt = readInstant(in);
+        int booleans = in.readUnsignedByte();
+
+        return new TodoResponse(id, title, description, status, priority, dueDate, userId,
+                                createdAt, updatedAt, completedAt, (booleans & 1) != 0, (booleans & 2) != 0);
+    }
+
+    private static PageResult<TodoResponse> readTodoPage(DataInputStream in) throws IOException {
+        int pageNumber = readVarInt(in);
+        int pageSize = readVarInt(in);
+        long totalElements = readVarLong(in);
+        int size = readVarInt(in);
+
+        List<TodoResponse> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(readTodo(in));
+        }
+        return new PageResult<>(content, pageNumber, pageSize, totalElements);
+    }
+
+    private static void writeStatistics(DataOutputStream out, TodoStatisticsResponse statistics) throws IOException {
+        writeVarLong(out, statistics.total());
+        writeVarInt(out, statistics.byStatus().size());
+        for (Map.Entry<TodoStatus, Long> entry : statistics.byStatus().entrySet()) {
+            out.writeByte(entry.getKey().ordinal());
+            writeVarLong(out, entry.getValue());
+        }
+        writeVarInt(out, statistics.byPriorityLevel().size());
+        for (Map.Entry<Integer, Long> entry : statistics.byPriorityLevel().entrySet()) {
+            writeVarInt(out, entry.getKey());
+            writeVarLong(out, entry.getValue());
+        }
+        writeVarLong(out, statistics.overdue());
+        writeVarInt(out, statistics.completionRate());
+        writeVarInt(out, statistics.productivityScore());
+    }
+
+    private static TodoStatisticsResponse readStatistics(DataInputStream in) throws IOException {
+        long total = readVarLong(in);
+        Map<TodoStatus, Long> byStatus = new EnumMap<>(TodoStatus.class);
+        for (int i = readVarInt(in); i > 0; i--) {
+            byStatus.put(STATUSES[in.readUnsignedByte()], readVarLong(in));
+        }
+        Map<Integer, Long> byPriorityLevel = new HashMap<>();
+        for (int i = readVarInt(in); i > 0; i--) {
+            byPriorityLevel.put(readVarInt(in), readVarLong(in));
+        }
+
+        return new TodoStatisticsResponse(total, byStatus, byPriorityLevel,
+                                          readVarLong(in), readVarInt(in), readVarInt(in));
+    }
+
+    // ---- Primitives ----
+
+    /**
+     * Chaîne UTF-8 préfixée par sa longueur + 1 (0 pour null)
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Instant en secondes (zigzag) puis nanosecondes + 1 (0 pour null)
+     */
+    private static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, value.getNano() + 1);
+        long seconds = value.getEpochSecond();
+        writeVarLong(out, (seconds << 1) ^ (seconds >> 63));
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        int nanos = readVarInt(in);
+        if (nanos == 0) {
+            return null;
+        }
+        long zigzag = readVarLong(in);
+        return Instant.ofEpochSecond((zigzag >>> 1) ^ -(zigzag & 1), nanos - 1);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    // ---- Compression ----
+
+    /**
+     * Corps compressé, précédé de sa taille décompressée
+     */
+    private static byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 2 + 8);
+            DataOutputStream out = new DataOutputStream(buffer);
+            writeVarInt(out, body.length);
+            byte[] chunk = new byte[1024];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(chunk);
+                out.write(chunk, 0, length);
+            }
+            out.flush();
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Cannot compress cache value", e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] framed) throws IOException, DataFormatException {
+        DataInputStream in = new DataInputStream(
+            new ByteArrayInputStream(framed, HEADER_LENGTH, framed.length - HEADER_LENGTH));
+        int length = readVarInt(in);
+        int offset = framed.length - in.available();
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(framed, offset, framed.length - offset);
+            byte[] body = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int inflated = inflater.inflate(body, read, length - read);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new DataFormatException("Truncated compressed cache value");
+                }
+                read += inflated;
+            }
+            return body;
+        } finally {
+            inflater.end();
+        }
+    }
+}
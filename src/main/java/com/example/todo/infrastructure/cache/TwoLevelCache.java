@@ -0,0 +1,436 @@
+package com.example.todo.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * TwoLevelCache
+ *
+ * Cache à deux niveaux : un cache Caffeine borné en mémoire (L1) devant le cache
+ * partagé Redis (L2). Les lectures consultent L1 puis L2, un succès en L2 alimente L1.
+ * Les écritures passent par L2 puis diffusent une invalidation pour que les autres
+ * nœuds retirent leur copie locale.
+ *
+ * Les clés locales sont la représentation textuelle des clés du cache, comme pour
+ * Redis, afin qu'une invalidation reçue d'un autre nœud désigne la même entrée.
+ *
+ * Chargement ({@code @Cacheable(sync = true)}) : les défauts de cache simultanés sur
+ * une même clé partagent un seul chargement en cours (single-flight), sans verrou
+ * global sur le cache. Les entrées chargées par ce nœud peuvent être rechargées en
+ * arrière-plan avant leur expiration selon l'{@link EarlyRefreshPolicy} ; l'appelant
+ * qui déclenche le rechargement reçoit immédiatement la valeur encore valide.
+ *
+ * Avec un {@link AsyncCacheWriter}, la valeur chargée après un défaut est écrite
+ * dans le cache partagé en arrière-plan ; l'appelant n'attend que L1.
+ *
+ * Lecture groupée ({@link #getAll}) : L1 puis, pour les clés absentes, un seul
+ * aller-retour vers L2 quand il le permet.
+ *
+ * @author Todo Team
+ */
+public class TwoLevelCache implements MultiGetCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final String origin;
+    private final TierStatistics localStatistics;
+    private final TierStatistics remoteStatistics;
+    private final EarlyRefreshPolicy earlyRefreshPolicy;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LoadStamp> loadStamps;
+    private final AsyncCacheWriter remoteWriter;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter coalescedLoads;
+    private final Counter earlyRefreshes;
+
+    /**
+     * @param loadStamps dates d'expiration et durées de chargement des entrées chargées
+     *                   par ce nœud, null si le rafraîchissement anticipé est désactivé
+     * @param remoteWriter écriture en arrière-plan des valeurs chargées, null pour écrire
+     *                     dans le cache partagé sur le thread appelant
+     */
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache remoteCache,
+                         CacheInvalidationBus invalidationBus,
+                         String origin,
+                         MeterRegistry meterRegistry,
+                         EarlyRefreshPolicy earlyRefreshPolicy,
+                         com.github.benmanes.caffeine.cache.Cache<String, LoadStamp> loadStamps,
+                         AsyncCacheWriter remoteWriter) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationBus = invalidationBus;
+        this.origin = origin;
+        this.localStatistics = new TierStatistics(meterRegistry, name, "l1");
+        this.remoteStatistics = new TierStatistics(meterRegistry, name, "l2");
+        this.earlyRefreshPolicy = earlyRefreshPolicy;
+        this.loadStamps = loadStamps;
+        this.remoteWriter = remoteWriter;
+        this.loads = loadCounter(meterRegistry, name, "load");
+        this.coalescedLoads = loadCounter(meterRegistry, name, "coalesced");
+        this.earlyRefreshes = loadCounter(meterRegistry, name, "early-refresh");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            localStatistics.hit();
+            return new SimpleValueWrapper(value);
+        }
+        localStatistics.miss();
+
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null) {
+            remoteStatistics.miss();
+            return null;
+        }
+        remoteStatistics.hit();
+        if (wrapper.get() != null) {
+            localCache.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new HashMap<>();
+        List<Object> missing = new ArrayList<>();
+        for (Object key : keys) {
+            Object value = localCache.getIfPresent(localKey(key));
+            if (value != null) {
+                localStatistics.hit();
+                found.put(key, value);
+            } else {
+                localStatistics.miss();
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        Map<Object, Object> remoteValues = remoteCache instanceof MultiGetCache multiGetCache
+            ? multiGetCache.getAll(missing)
+            : getAllRemote(missing);
+        for (Object key : missing) {
+            Object value = remoteValues.get(key);
+            if (value == null) {
+                remoteStatistics.miss();
+                continue;
+            }
+            remoteStatistics.hit();
+            localCache.put(localKey(key), value);
+            found.put(key, value);
+        }
+        return found;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            refreshIfExpiringSoon(key, localKey, valueLoader);
+            return (T) wrapper.get();
+        }
+
+        // Absente des deux niveaux : un seul chargement par clé, partagé par les appelants
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(localKey, load);
+        if (inFlight != null) {
+            coalescedLoads.increment();
+            return (T) awaitLoad(inFlight, key, valueLoader);
+        }
+
+        try {
+            // Un chargement concurrent a pu se terminer entre la lecture et l'inscription
+            Object value = localCache.getIfPresent(localKey);
+            if (value == null) {
+                value = load(key, localKey, valueLoader);
+                if (value != null) {
+                    storeRemote(key, value);
+                }
+            }
+            load.complete(value);
+            return (T) value;
+        } catch (Throwable ex) {
+            load.completeExceptionally(ex);
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            inFlightLoads.remove(localKey, load);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        String localKey = localKey(key);
+        if (value != null) {
+            localCache.put(localKey, value);
+        } else {
+            localCache.invalidate(localKey);
+        }
+        invalidationBus.publish(new CacheInvalidation(origin, name, localKey));
+    }
+
+    /**
+     * Enregistre une valeur chargée hors de {@link #get(Object, Callable)} (lecture
+     * groupée, préchauffage) : aucune valeur présente n'est remplacée, ni en L1 ni en
+     * L2, d'où l'absence d'invalidation diffusée. Avec un {@link AsyncCacheWriter},
+     * seule L1 est consultée pour la valeur retournée.
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (value == null) {
+            return get(key);
+        }
+
+        Object existing = localCache.asMap().putIfAbsent(localKey(key), value);
+        if (existing != null) {
+            return new SimpleValueWrapper(existing);
+        }
+        if (remoteWriter != null) {
+            remoteWriter.putIfAbsent(remoteCache, key, value);
+            return null;
+        }
+        ValueWrapper remoteExisting = remoteCache.putIfAbsent(key, value);
+        if (remoteExisting != null && remoteExisting.get() != null) {
+            // L1 suit la valeur conservée en L2
+            localCache.put(localKey(key), remoteExisting.get());
+        }
+        return remoteExisting;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        String localKey = localKey(key);
+        localCache.invalidate(localKey);
+        if (loadStamps != null) {
+            loadStamps.invalidate(localKey);
+        }
+        invalidationBus.publish(new CacheInvalidation(origin, name, localKey));
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        if (loadStamps != null) {
+            loadStamps.invalidateAll();
+        }
+        invalidationBus.publish(new CacheInvalidation(origin, name, null));
+    }
+
+    /**
+     * Retire une entrée du seul cache local (invalidation reçue d'un autre nœud)
+     */
+    void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    /**
+     * Vide le seul cache local (invalidation reçue d'un autre nœud)
+     */
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * Charge une valeur et l'enregistre en L1 ; l'écriture en L2 revient à l'appelant
+     */
+    private Object load(Object key, String localKey, Callable<?> valueLoader) throws Exception {
+        loads.increment();
+        long start = System.currentTimeMillis();
+        Object value = valueLoader.call();
+        long end = System.currentTimeMillis();
+
+        if (value != null) {
+            localCache.put(localKey, value);
+            if (loadStamps != null) {
+                long expiresAt = end + earlyRefreshPolicy.remoteTimeToLive().apply(name).toMillis();
+                loadStamps.put(localKey, new LoadStamp(end - start, expiresAt));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Écrit en L2 une valeur chargée après un défaut, en arrière-plan si possible
+     */
+    private void storeRemote(Object key, Object value) {
+        if (remoteWriter != null) {
+            remoteWriter.putIfAbsent(remoteCache, key, value);
+        } else {
+            remoteCache.put(key, value);
+        }
+    }
+
+    private Map<Object, Object> getAllRemote(List<Object> keys) {
+        Map<Object, Object> found = new HashMap<>();
+        for (Object key : keys) {
+            ValueWrapper wrapper = remoteCache.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                found.put(key, wrapper.get());
+            }
+        }
+        return found;
+    }
+
+    private static Object awaitLoad(CompletableFuture<Object> load, Object key, Callable<?> valueLoader) {
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+        }
+    }
+
+    /**
+     * Déclenche le rechargement en arrière-plan d'une entrée proche de l'expiration
+     * (tirage XFetch), sauf si un chargement de la même clé est déjà en cours
+     */
+    private void refreshIfExpiringSoon(Object key, String localKey, Callable<?> valueLoader) {
+        if (loadStamps == null) {
+            return;
+        }
+        LoadStamp stamp = loadStamps.getIfPresent(localKey);
+        if (stamp == null
+            || !earlyRefreshPolicy.shouldRefresh(System.currentTimeMillis(), stamp.loadMillis(), stamp.expiresAtMillis())) {
+            return;
+        }
+
+        CompletableFuture<Object> refresh = new CompletableFuture<>();
+        if (inFlightLoads.putIfAbsent(localKey, refresh) != null) {
+            return;
+        }
+        // Une seule tentative par chargement : la prochaine dépend du nouveau tampon
+        loadStamps.invalidate(localKey);
+        earlyRefreshes.increment();
+
+        try {
+            earlyRefreshPolicy.executor().execute(() -> {
+                try {
+                    // Déjà hors du thread appelant : écriture directe, qui remplace l'ancienne valeur
+                    Object value = load(key, localKey, valueLoader);
+                    if (value != null) {
+                        remoteCache.put(key, value);
+                    }
+                    invalidationBus.publish(new CacheInvalidation(origin, name, localKey));
+                    refresh.complete(value);
+                } catch (Throwable ex) {
+                    logger.debug("Early refresh of {}/{} failed", name, localKey, ex);
+                    refresh.completeExceptionally(ex);
+                } finally {
+                    inFlightLoads.remove(localKey, refresh);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            logger.debug("Early refresh of {}/{} rejected", name, localKey);
+            inFlightLoads.remove(localKey, refresh);
+            refresh.cancel(false);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return key.toString();
+    }
+
+    private static Counter loadCounter(MeterRegistry registry, String cacheName, String mode) {
+        return Counter.builder("cache.loads")
+            .description("Cache value loads per mode")
+            .tags("cache", cacheName, "mode", mode)
+            .register(registry);
+    }
+
+    /**
+     * Durée du dernier chargement d'une entrée et date d'expiration dans le cache partagé
+     */
+    public record LoadStamp(long loadMillis, long expiresAtMillis) {
+    }
+
+    /**
+     * Succès et échecs d'un niveau de cache, exportés vers Micrometer
+     * (compteurs cache.tier.gets et ratio cache.tier.hit.ratio)
+     */
+    private static final class TierStatistics {
+
+        private final Counter hits;
+        private final Counter misses;
+
+        TierStatistics(MeterRegistry registry, String cacheName, String tier) {
+            this.hits = Counter.builder("cache.tier.gets")
+                .description("Cache lookups per tier")
+                .tags("cache", cacheName, "tier", tier, "result", "hit")
+                .register(registry);
+            this.misses = Counter.builder("cache.tier.gets")
+                .description("Cache lookups per tier")
+                .tags("cache", cacheName, "tier", tier, "result", "miss")
+                .register(registry);
+            Gauge.builder("cache.tier.hit.ratio", this, TierStatistics::hitRatio)
+                .description("Cache hit ratio per tier since startup")
+                .tags("cache", cacheName, "tier", tier)
+                .register(registry);
+        }
+
+        void hit() {
+            hits.increment();
+        }
+
+        void miss() {
+            misses.increment();
+        }
+
+        double hitRatio() {
+            double lookups = hits.count() + misses.count();
+            return lookups == 0 ? 0.0 : hits.count() / lookups;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.todo.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * TwoLevelCacheManager
+ *
+ * Gestionnaire de caches à deux niveaux : chaque cache du gestionnaire partagé (L2)
+ * reçoit un cache local Caffeine (L1) borné en nombre d'entrées et en durée de vie.
+ * Le gestionnaire écoute le bus d'invalidation et retire des caches locaux les
+ * entrées modifiées par les autres nœuds.
+ *
+ * Les caches dont la durée de vie partagée est connue de l'{@link EarlyRefreshPolicy}
+ * reçoivent en outre un registre borné des chargements pour le rafraîchissement anticipé.
+ *
+ * @author Todo Team
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final long localMaximumSize;
+    private final Duration localTimeToLive;
+    private final EarlyRefreshPolicy earlyRefreshPolicy;
+    private final AsyncCacheWriter remoteWriter;
+    private final String origin = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                CacheInvalidationBus invalidationBus,
+                                MeterRegistry meterRegistry,
+                                long localMaximumSize,
+                                Duration localTimeToLive) {
+        this(remoteCacheManager, invalidationBus, meterRegistry, localMaximumSize, localTimeToLive,
+             EarlyRefreshPolicy.disabled());
+    }
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                CacheInvalidationBus invalidationBus,
+                                MeterRegistry meterRegistry,
+                                long localMaximumSize,
+                                Duration localTimeToLive,
+                                EarlyRefreshPolicy earlyRefreshPolicy) {
+        this(remoteCacheManager, invalidationBus, meterRegistry, localMaximumSize, localTimeToLive,
+             earlyRefreshPolicy, null);
+    }
+
+    /**
+     * @param remoteWriter écriture en arrière-plan des valeurs chargées dans le cache partagé,
+     *                     null pour une écriture synchrone
+     */
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                CacheInvalidationBus invalidationBus,
+                                MeterRegistry meterRegistry,
+                                long localMaximumSize,
+                                Duration localTimeToLive,
+                                EarlyRefreshPolicy earlyRefreshPolicy,
+                                AsyncCacheWriter remoteWriter) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        this.localMaximumSize = localMaximumSize;
+        this.localTimeToLive = localTimeToLive;
+        this.earlyRefreshPolicy = earlyRefreshPolicy;
+        this.remoteWriter = remoteWriter;
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+            cacheName,
+            Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTimeToLive)
+                .build(),
+            remoteCache,
+            invalidationBus,
+            origin,
+            meterRegistry,
+            earlyRefreshPolicy,
+            loadStamps(cacheName),
+            remoteWriter
+        ));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCache.LoadStamp> loadStamps(String cacheName) {
+        if (!earlyRefreshPolicy.isEnabled(cacheName)) {
+            return null;
+        }
+        return Caffeine.newBuilder()
+            .maximumSize(localMaximumSize)
+            .expireAfterWrite(earlyRefreshPolicy.remoteTimeToLive().apply(cacheName))
+            .build();
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (origin.equals(invalidation.origin())) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+
+        logger.debug("Applying cache invalidation from node {}: {}/{}",
+            invalidation.origin(), invalidation.cacheName(), invalidation.key());
+        if (invalidation.clearsAll()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(invalidation.key());
+        }
+    }
+}
@@ -1,20 +1,53 @@
 package com.example.todo.infrastructure.config;
 
+import com.example.todo.application.usecase.ListTodosUseCase;
+import com.example.todo.domain.repository.BatchCachePort;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.TodoIdFilter;
+import com.example.todo.infrastructure.cache.AsyncCacheWriter;
+import com.example.todo.infrastructure.cache.BloomTodoIdFilter;
+import com.example.todo.infrastructure.cache.CacheInvalidationBus;
+import com.example.todo.infrastructure.cache.CacheManagerBatchCache;
+import com.example.todo.infrastructure.cache.CacheWarmUpRunner;
+import com.example.todo.infrastructure.cache.EarlyRefreshPolicy;
+import com.example.todo.infrastructure.cache.LocalCacheInvalidationBus;
+import com.example.todo.infrastructure.cache.LocalCacheVersions;
+import com.example.todo.infrastructure.cache.RedisCacheInvalidationBus;
+import com.example.todo.infrastructure.cache.RedisCacheMultiGet;
+import com.example.todo.infrastructure.cache.RedisCacheVersions;
+import com.example.todo.infrastructure.cache.RedisCircuitBreaker;
+import com.example.todo.infrastructure.cache.ResilientCacheManager;
+import com.example.todo.infrastructure.cache.TodoCacheValueSerializer;
+import com.example.todo.infrastructure.cache.TwoLevelCacheManager;
+import com.example.todo.infrastructure.persistence.TodoJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * CacheConfig
@@ -22,51 +55,239 @@ import java.util.Map;
  * Configuration du cache Redis pour optimiser les performances.
  * Définit les stratégies de cache par type de données.
  *
+ * Chaque cache Redis (L2) est précédé d'un cache local Caffeine (L1) ; les
+ * invalidations du cache local sont diffusées aux autres nœuds via Redis pub/sub
+ * (app.cache.invalidation.bus=redis) ou en mémoire (app.cache.invalidation.bus=local).
+ *
+ * Les listes paginées sont indexées par la version de cache de l'utilisateur
+ * (bean cacheVersionPort, référencé dans les clés SpEL des use cases) : une écriture
+ * incrémente la version et rend toutes les pages de cet utilisateur inaccessibles.
+ *
+ * Les lectures en {@code @Cacheable(sync = true)} partagent un seul chargement par clé ;
+ * les clés lues souvent sont rechargées en arrière-plan avant expiration
+ * (app.cache.early-refresh). Les valeurs chargées sont écrites dans Redis en
+ * arrière-plan, par une file bornée (app.cache.async-write).
+ *
+ * Les use cases d'écriture alimentent le cache todos avec le Todo enregistré
+ * (write-through) ; le gestionnaire est transactionnel, les écritures et évictions
+ * n'ont lieu qu'après le commit. Deux mises à jour concurrentes d'un même Todo
+ * peuvent écrire dans l'ordre inverse de leurs commits : l'entrée reste alors
+ * périmée jusqu'à l'écriture suivante ou son expiration.
+ *
+ * Les accès Redis passent par un disjoncteur (app.cache.circuit-breaker) : Redis
+ * indisponible, le cache local et la base servent seuls les lectures, sans attendre
+ * le délai d'expiration des commandes. L'état est exposé par le health indicator
+ * redisCache (DEGRADED) et la métrique cache.redis.circuit.open.
+ *
+ * Les identifiants de Todos inconnus sont écartés par un filtre de Bloom avant
+ * toute lecture du cache (app.todo-id-filter).
+ *
+ * Les lectures groupées (bean batchCachePort) consultent L1 puis lisent les clés
+ * absentes en un seul MGET Redis.
+ *
+ * Au démarrage, les caches sont préchauffés pour les utilisateurs les plus récemment
+ * actifs avant que l'application ne se déclare prête (app.cache.warm-up).
+ *
  * @author Todo Team
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    /**
+     * Durée de vie des entrées Redis par cache (défaut : 10 minutes)
+     */
+    private static final Map<String, Duration> TIME_TO_LIVES = Map.of(
+        // Cache pour les Todos individuels - TTL court car données fréquemment modifiées
+        "todos", Duration.ofMinutes(5),
+
+        // Cache pour les listes de Todos - TTL plus long car pagination stable
+        "todoLists", Duration.ofMinutes(15),
+
+        // Cache pour les listes filtrées par statut
+        "todoListsByStatus", Duration.ofMinutes(10),
+
+        // Cache pour les statistiques - évincé à chaque écriture ; TTL court car
+        // le nombre de Todos en retard évolue avec le temps sans écriture
+        "statistics", Duration.ofMinutes(5),
+
+        // Cache pour les données de référence (configurations, etc.)
+        "reference", Duration.ofHours(24)
+    );
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, ObjectMapper objectMapper) {
-        // Configuration par défaut du cache
-        // Default: JSON serializer for most caches
-        RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-            .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper)))
-            .entryTtl(Duration.ofMinutes(10)) // TTL par défaut : 10 minutes
-            .disableCachingNullValues();
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.cache.local.maximum-size:10000}") long localMaximumSize,
+                                     @Value("${app.cache.local.time-to-live:60s}") Duration localTimeToLive,
+                                     @Value("${app.cache.compression-threshold:512}") int compressionThreshold,
+                                     @Value("${app.cache.early-refresh.enabled:true}") boolean earlyRefreshEnabled,
+                                     @Value("${app.cache.early-refresh.beta:1.0}") double earlyRefreshBeta,
+                                     @Value("${app.cache.circuit-breaker.max-stale-keys:10000}") int maxStaleKeys,
+                                     @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                     RedisCircuitBreaker redisCircuitBreaker,
+                                     ObjectProvider<AsyncCacheWriter> asyncCacheWriter) {
+        EarlyRefreshPolicy earlyRefreshPolicy = earlyRefreshEnabled
+            ? new EarlyRefreshPolicy(earlyRefreshBeta,
+                                     cacheName -> TIME_TO_LIVES.getOrDefault(cacheName, DEFAULT_TIME_TO_LIVE),
+                                     cacheRefreshExecutor)
+            : EarlyRefreshPolicy.disabled();
 
-        // JDK (Java) serializer for caches that store complex types not easily reconstructed by Jackson
-        RedisCacheConfiguration jdkSerializedCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-            .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new JdkSerializationRedisSerializer()))
-            .entryTtl(Duration.ofMinutes(15))
-            .disableCachingNullValues();
+        // Écritures et évictions différées après le commit : aucune donnée non validée n'est publiée
+        return new TransactionAwareCacheManagerProxy(new TwoLevelCacheManager(
+            new ResilientCacheManager(redisCacheManager(redisConnectionFactory, compressionThreshold),
+                                      redisCircuitBreaker, maxStaleKeys, new RedisCacheMultiGet(redisConnectionFactory)),
+            cacheInvalidationBus,
+            meterRegistry,
+            localMaximumSize,
+            localTimeToLive,
+            earlyRefreshPolicy,
+            asyncCacheWriter.getIfAvailable()
+        ));
+    }
 
-        // Configurations spécifiques par cache
-        Map<String, RedisCacheConfiguration> cacheConfigurations = Map.of(
-            // Cache pour les Todos individuels - TTL court car données fréquemment modifiées
-            "todos", defaultCacheConfig.entryTtl(Duration.ofMinutes(5)),
+    @Bean
+    public BatchCachePort batchCachePort(CacheManager cacheManager) {
+        return new CacheManagerBatchCache(cacheManager);
+    }
 
-            // Cache pour les listes de Todos - TTL plus long car pagination stable
-            // Cache pour les listes de Todos - TTL plus long car pagination stable
-            "todoLists", defaultCacheConfig.entryTtl(Duration.ofMinutes(15)),
+    @Bean
+    public RedisCircuitBreaker redisCircuitBreaker(RedisConnectionFactory redisConnectionFactory,
+                                                   MeterRegistry meterRegistry,
+                                                   @Value("${app.cache.circuit-breaker.failure-threshold:5}") int failureThreshold) {
+        return new RedisCircuitBreaker(() -> {
+            try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+                connection.ping();
+            }
+        }, failureThreshold, meterRegistry);
+    }
 
-            // Cache pour les listes filtrées par statut
-            "todoListsByStatus", defaultCacheConfig.entryTtl(Duration.ofMinutes(10)),
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "app.cache.async-write.enabled", havingValue = "true", matchIfMissing = true)
+    public AsyncCacheWriter asyncCacheWriter(MeterRegistry meterRegistry,
+                                             @Value("${app.cache.async-write.threads:2}") int threads,
+                                             @Value("${app.cache.async-write.queue-capacity:1000}") int queueCapacity) {
+        return new AsyncCacheWriter(threads, queueCapacity, meterRegistry);
+    }
 
-            // Cache pour les statistiques - TTL long car calculs coûteux
-            "statistics", defaultCacheConfig.entryTtl(Duration.ofHours(1)),
+    /**
+     * État du cache Redis pour actuator : DEGRADED tant que le disjoncteur est ouvert
+     */
+    @Bean
+    public HealthIndicator redisCacheHealthIndicator(RedisCircuitBreaker redisCircuitBreaker) {
+        return () -> redisCircuitBreaker.isOpen()
+            ? Health.status("DEGRADED").withDetail("mode", "local cache only").build()
+            : Health.up().withDetail("mode", "two-level").build();
+    }
+
+    /**
+     * Exécuteur des rafraîchissements anticipés : borné, un rafraîchissement refusé
+     * est abandonné (l'entrée sera rechargée à son expiration)
+     */
+    @Bean(name = "cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("CacheRefresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation.bus", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation.bus", havingValue = "redis", matchIfMissing = true)
+    public CacheInvalidationBus redisCacheInvalidationBus(RedisMessageListenerContainer cacheInvalidationListenerContainer,
+                                                          StringRedisTemplate stringRedisTemplate,
+                                                          ObjectMapper objectMapper,
+                                                          @Value("${app.cache.invalidation.channel:todo:cache:invalidation}") String channel,
+                                                          RedisCircuitBreaker redisCircuitBreaker) {
+        return new RedisCacheInvalidationBus(cacheInvalidationListenerContainer, stringRedisTemplate, objectMapper, channel,
+                                             redisCircuitBreaker);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation.bus", havingValue = "local")
+    public CacheInvalidationBus localCacheInvalidationBus() {
+        return new LocalCacheInvalidationBus();
+    }
+
+    @Bean("cacheVersionPort")
+    @ConditionalOnProperty(name = "app.cache.invalidation.bus", havingValue = "redis", matchIfMissing = true)
+    public CacheVersionPort redisCacheVersions(StringRedisTemplate stringRedisTemplate, RedisCircuitBreaker redisCircuitBreaker) {
+        return new RedisCacheVersions(stringRedisTemplate, redisCircuitBreaker);
+    }
 
-            // Cache pour les données de référence (configurations, etc.)
-            "reference", defaultCacheConfig.entryTtl(Duration.ofHours(24))
-        );
+    @Bean("cacheVersionPort")
+    @ConditionalOnProperty(name = "app.cache.invalidation.bus", havingValue = "local")
+    public CacheVersionPort localCacheVersions() {
+        return new LocalCacheVersions();
+    }
+
+    /**
+     * Filtre des identifiants existants (bean todoIdFilter, référencé dans la condition
+     * SpEL de GetTodoUseCase) : un identifiant inconnu ne consulte ni Redis ni la base
+     */
+    @Bean("todoIdFilter")
+    public TodoIdFilter todoIdFilter(TodoJpaRepository todoJpaRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     RedisCircuitBreaker redisCircuitBreaker,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.todo-id-filter.expected-insertions:1000000}") long expectedInsertions,
+                                     @Value("${app.todo-id-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+                                     @Value("${app.todo-id-filter.grace-period:PT1M}") Duration gracePeriod) {
+        return new BloomTodoIdFilter(todoJpaRepository, transactionManager, cacheInvalidationBus, redisCircuitBreaker,
+                                     meterRegistry, expectedInsertions, falsePositiveProbability, gracePeriod);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheWarmUpRunner cacheWarmUpRunner(TodoJpaRepository todoJpaRepository,
+                                               ListTodosUseCase listTodosUseCase,
+                                               CacheManager cacheManager,
+                                               CacheVersionPort cacheVersionPort,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${app.cache.warm-up.users:1000}") int users,
+                                               @Value("${app.cache.warm-up.page-size:20}") int pageSize,
+                                               @Value("${app.cache.warm-up.parallelism:4}") int parallelism,
+                                               @Value("${app.cache.warm-up.lookback:P7D}") Duration lookback,
+                                               @Value("${app.cache.warm-up.time-budget:30s}") Duration timeBudget) {
+        return new CacheWarmUpRunner(todoJpaRepository, listTodosUseCase, cacheManager, cacheVersionPort, meterRegistry,
+                                     users, pageSize, parallelism, lookback, timeBudget);
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory, int compressionThreshold) {
+        // Configuration par défaut du cache
+        // Valeurs en binaire compact (TodoCacheValueSerializer), compressées au-delà du seuil
+        RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
+            .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new TodoCacheValueSerializer(compressionThreshold)))
+            .entryTtl(DEFAULT_TIME_TO_LIVE)
+            .disableCachingNullValues();
+
+        // Configurations spécifiques par cache
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        TIME_TO_LIVES.forEach((cacheName, timeToLive) ->
+            cacheConfigurations.put(cacheName, defaultCacheConfig.entryTtl(timeToLive)));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
             .cacheDefaults(defaultCacheConfig)
             .withInitialCacheConfigurations(cacheConfigurations)
             .build();
+        // Non exposé comme bean : initialisation des caches configurés à la main
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
     }
 }
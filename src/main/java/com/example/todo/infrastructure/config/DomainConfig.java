@@ -1,13 +1,21 @@
 package com.example.todo.infrastructure.config;
 
+import com.example.todo.domain.repository.ActiveTodoCounter;
 import com.example.todo.domain.repository.TodoRepository;
 import com.example.todo.domain.service.TodoDomainService;
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.infrastructure.events.DomainEventBatchHandler;
+import com.example.todo.infrastructure.events.DomainEventBus;
+import com.example.todo.infrastructure.events.RingBufferEventDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * DomainConfig
@@ -17,28 +25,61 @@ import java.util.concurrent.Executor;
  * @author Todo Team
  */
 @Configuration
-@EnableAsync
 public class DomainConfig {
 
     /**
      * Configuration du TodoDomainService
      */
     @Bean
-    public TodoDomainService todoDomainService(TodoRepository todoRepository) {
-        return new TodoDomainService(todoRepository);
+    public TodoDomainService todoDomainService(TodoRepository todoRepository, ActiveTodoCounter activeTodoCounter) {
+        return new TodoDomainService(todoRepository, activeTodoCounter);
     }
 
     /**
-     * Configuration de l'executor pour les tâches asynchrones
+     * Diffusion des événements du domaine aux gestionnaires, par lots et par voies
+     * ordonnées par agrégat
      */
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(50);
-        executor.setQueueCapacity(10000);
-        executor.setThreadNamePrefix("TodoApp-");
-        executor.initialize();
-        return executor;
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public RingBufferEventDispatcher eventDispatcher(List<DomainEventBatchHandler> handlers,
+                                                     MeterRegistry meterRegistry,
+                                                     @Value("${app.events.dispatcher.buffer-size:4096}") int bufferSize,
+                                                     @Value("${app.events.dispatcher.max-batch-size:256}") int maxBatchSize,
+                                                     @Value("${app.events.dispatcher.lanes:4}") int lanes,
+                                                     @Value("${app.events.dispatcher.hot-key.window:PT10S}") Duration hotKeyWindow,
+                                                     @Value("${app.events.dispatcher.hot-key.share:0.5}") double hotKeyShare) {
+        return new RingBufferEventDispatcher(handlers, bufferSize, maxBatchSize, lanes, hotKeyWindow, hotKeyShare,
+                                             meterRegistry);
+    }
+
+    /**
+     * État du dispatcher pour actuator : DOWN dès qu'une voie s'est arrêtée, les
+     * événements restent alors dans la boîte d'envoi
+     */
+    @Bean
+    public HealthIndicator eventDispatcherHealthIndicator(RingBufferEventDispatcher eventDispatcher) {
+        return () -> eventDispatcher.isFailed()
+            ? Health.down().withDetail("reason", "a dispatch lane stopped, events stay in the outbox").build()
+            : Health.up().build();
+    }
+
+    /**
+     * Bus des événements du domaine relayés depuis la boîte d'envoi
+     *
+     * Le dispatcher est abonné aux seuls types traités par les gestionnaires
+     * ({@link DomainEventBatchHandler#eventTypes()}) : les autres (mises à jour,
+     * suppressions) sont écartés par le bus sans occuper le tampon. La remise se fait
+     * toujours dans le thread du relais : elle conserve l'ordre par agrégat et un refus
+     * du dispatcher annule la transaction du relais, qui laisse les événements dans la
+     * boîte d'envoi.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public DomainEventBus domainEventBus(RingBufferEventDispatcher eventDispatcher,
+                                         List<DomainEventBatchHandler> handlers) {
+        List<Class<? extends DomainEvent>> eventTypes = handlers.stream()
+            .flatMap(handler -> handler.eventTypes().stream())
+            .toList();
+        return DomainEventBus.builder()
+            .subscribeAll(eventTypes, eventDispatcher::publish)
+            .build();
     }
 }
@@ -0,0 +1,42 @@
+package com.example.todo.infrastructure.events;
+
+import com.example.todo.domain.events.DomainEvent;
+
+import java.util.List;
+
+/**
+ * DomainEventBatchHandler
+ *
+ * Gestionnaire d'événements du domaine alimenté par {@link RingBufferEventDispatcher}.
+ * Chaque gestionnaire est servi par plusieurs voies, chacune avec son thread, et
+ * reçoit les événements par lots : un lot regroupe les événements en attente des
+ * agrégats de la voie, dans la limite de la taille maximale configurée.
+ *
+ * Les événements d'un même agrégat arrivent toujours par la même voie, dans l'ordre
+ * de publication ; les voies appelant le gestionnaire simultanément, il doit être
+ * thread-safe.
+ *
+ * @author Todo Team
+ */
+public interface DomainEventBatchHandler {
+
+    /**
+     * Traite un lot d'événements
+     *
+     * La liste n'est valable que pendant l'appel et ne doit pas être conservée.
+     * Une exception est journalisée et comptée ; le lot n'est pas rejoué.
+     *
+     * @param events événements, dans l'ordre de publication
+     */
+    void onEvents(List<DomainEvent> events);
+
+    /**
+     * Types d'événements traités : seuls ceux-ci entrent dans le tampon du dispatcher.
+     * Un gestionnaire reçoit aussi les types déclarés par les autres et les ignore.
+     *
+     * @return types traités, tous les événements par défaut
+     */
+    default List<Class<? extends DomainEvent>> eventTypes() {
+        return List.of(DomainEvent.class);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.todo.infrastructure.events;
+
+import com.example.todo.domain.events.DomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * DomainEventBus
+ *
+ * Bus des événements du domaine, à la place de {@code ApplicationEventPublisher} :
+ * les abonnements sont déclarés dans le code, typés par sous-type de
+ * {@link DomainEvent}, à la construction du bus. Les gestionnaires d'un type
+ * concret d'événement (abonnés à ce type ou à l'un de ses supertypes) sont réunis
+ * une fois pour toutes dans un tableau, au premier événement du type ; une
+ * publication se réduit ensuite à une lecture de ce tableau et à des appels
+ * directs, sans résolution des listeners ni proxy.
+ *
+ * Par défaut un gestionnaire est appelé dans le thread de publication : l'ordre des
+ * événements est conservé et son erreur interrompt la publication et remonte à
+ * l'appelant (le relais annule alors sa transaction). Un gestionnaire qui tolère
+ * pertes et réordonnancement peut être abonné avec sa propre
+ * {@link EventExecutionStrategy} (pool, threads virtuels) ; son erreur est alors
+ * seulement journalisée.
+ *
+ * @author Todo Team
+ */
+public final class DomainEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventBus.class);
+
+    private static final Subscription<?>[] NO_SUBSCRIPTIONS = new Subscription<?>[0];
+
+    private final List<Subscription<?>> subscriptions;
+    private final ClassValue<Subscription<?>[]> subscriptionsByType = new ClassValue<>() {
+        @Override
+        protected Subscription<?>[] computeValue(Class<?> eventType) {
+            Subscription<?>[] matching = subscriptions.stream()
+                .filter(subscription -> subscription.type().isAssignableFrom(eventType))
+                .toArray(Subscription<?>[]::new);
+            return matching.length > 0 ? matching : NO_SUBSCRIPTIONS;
+        }
+    };
+
+    private DomainEventBus(List<Subscription<?>> subscriptions) {
+        this.subscriptions = List.copyOf(subscriptions);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Transmet un événement aux gestionnaires de son type, dans l'ordre d'abonnement
+     *
+     * @param event événement du domaine
+     */
+    public void publish(DomainEvent event) {
+        for (Subscription<?> subscription : subscriptionsByType.get(event.getClass())) {
+            if (subscription.executionStrategy() == EventExecutionStrategy.SAME_THREAD) {
+                subscription.deliver(event);
+                continue;
+            }
+            subscription.executionStrategy().execute(() -> {
+                try {
+                    subscription.deliver(event);
+                } catch (RuntimeException e) {
+                    logger.error("Handler failed on domain event {} for aggregate {}",
+                                event.getEventType(), event.getAggregateId(), e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Termine les appels en cours (arrêt du contexte)
+     */
+    public void shutdown() throws InterruptedException {
+        Set<EventExecutionStrategy> strategies = new LinkedHashSet<>();
+        subscriptions.forEach(subscription -> strategies.add(subscription.executionStrategy()));
+        for (EventExecutionStrategy strategy : strategies) {
+            strategy.shutdown();
+        }
+    }
+
+    /**
+     * Abonnement d'un gestionnaire à un type d'événement
+     */
+    private record Subscription<E extends DomainEvent>(Class<E> type, Consumer<? super E> handler,
+                                                       EventExecutionStrategy executionStrategy) {
+
+        void deliver(DomainEvent event) {
+            handler.accept(type.cast(event));
+        }
+    }
+
+    /**
+     * Déclaration des abonnements du bus
+     */
+    public static final class Builder {
+
+        private final List<Subscription<?>> subscriptions = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Abonne un gestionnaire aux événements du type et de ses sous-types, appelé
+         * dans le thread de publication
+         */
+        public <E extends DomainEvent> Builder subscribe(Class<E> type, Consumer<? super E> handler) {
+            return subscribe(type, handler, EventExecutionStrategy.SAME_THREAD);
+        }
+
+        /**
+         * Abonne un gestionnaire exécuté selon la stratégie donnée
+         *
+         * Hors du thread de publication, le gestionnaire doit tolérer la perte d'un
+         * événement (erreur journalisée seulement) et leur réordonnancement.
+         */
+        public <E extends DomainEvent> Builder subscribe(Class<E> type, Consumer<? super E> handler,
+                                                         EventExecutionStrategy executionStrategy) {
+            subscriptions.add(new Subscription<>(type, handler, executionStrategy));
+            return this;
+        }
+
+        /**
+         * Abonne un même gestionnaire à plusieurs types, appelé dans le thread de
+         * publication. Un type dont un supertype figure dans la liste n'est pas abonné :
+         * le gestionnaire ne reçoit chaque événement qu'une fois.
+         */
+        public Builder subscribeAll(Collection<Class<? extends DomainEvent>> types, Consumer<DomainEvent> handler) {
+            for (Class<? extends DomainEvent> type : new LinkedHashSet<>(types)) {
+                boolean covered = types.stream().anyMatch(other -> other != type && other.isAssignableFrom(type));
+                if (!covered) {
+                    subscribe(type, handler);
+                }
+            }
+            return this;
+        }
+
+        public DomainEventBus build() {
+            return new DomainEventBus(subscriptions);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.todo.infrastructure.events;
+
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.domain.events.TodoCompletedEvent;
+import com.example.todo.domain.events.TodoCreatedEvent;
+import com.example.todo.domain.events.TodoStatusChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DomainEventSerializer
+ *
+ * Sérialisation JSON des événements du domaine pour la boîte d'envoi. Le type
+ * enregistré est {@link DomainEvent#getEventType()} ; seuls les types déclarés
+ * ici peuvent être relus. Les propriétés dérivées (eventType, version) écrites
+ * avec l'événement sont ignorées à la lecture.
+ *
+ * @author Todo Team
+ */
+public class DomainEventSerializer {
+
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = List.of(
+            TodoCreatedEvent.class,
+            TodoCompletedEvent.class,
+            TodoStatusChangedEvent.class
+        ).stream()
+        .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    public String serialize(DomainEvent event) {
+        if (!EVENT_TYPES.containsKey(event.getEventType())) {
+            throw new IllegalArgumentException("Unsupported domain event type: " + event.getEventType());
+        }
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize domain event " + event.getEventType(), e);
+        }
+    }
+
+    public DomainEvent deserialize(String eventType, String payload) {
+        Class<? extends DomainEvent> type = EVENT_TYPES.get(eventType);
+        if (type == null) {
+            throw new IllegalArgumentException("Unsupported domain event type: " + eventType);
+        }
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot deserialize domain event " + eventType, e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.todo.infrastructure.events;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventExecutionStrategy
+ *
+ * Stratégie d'exécution des gestionnaires du {@link DomainEventBus} : dans le thread
+ * de publication, sur un pool de threads fixe ou sur un thread virtuel par appel.
+ * Seule l'exécution dans le thread de publication conserve l'ordre des événements et
+ * propage les erreurs des gestionnaires à l'appelant.
+ *
+ * @author Todo Team
+ */
+public interface EventExecutionStrategy {
+
+    /**
+     * Exécution dans le thread de publication
+     */
+    EventExecutionStrategy SAME_THREAD = Runnable::run;
+
+    /**
+     * Exécute l'appel d'un gestionnaire
+     *
+     * @param invocation appel du gestionnaire
+     */
+    void execute(Runnable invocation);
+
+    /**
+     * Termine les appels en cours (arrêt du contexte)
+     */
+    default void shutdown() throws InterruptedException {
+    }
+
+    /**
+     * Pool de threads fixe
+     */
+    static EventExecutionStrategy pooled(int threads) {
+        return executor(Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("EventBus-")));
+    }
+
+    /**
+     * Un thread virtuel par appel
+     */
+    static EventExecutionStrategy virtualThreads() {
+        return executor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    private static EventExecutionStrategy executor(ExecutorService executor) {
+        return new EventExecutionStrategy() {
+            @Override
+            public void execute(Runnable invocation) {
+                executor.execute(invocation);
+            }
+
+            @Override
+            public void shutdown() throws InterruptedException {
+                executor.shutdown();
+                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            }
+        };
+    }
+}
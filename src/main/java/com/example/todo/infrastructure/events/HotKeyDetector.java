@@ -0,0 +1,108 @@
+package com.example.todo.infrastructure.events;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HotKeyDetector
+ *
+ * Repère, fenêtre après fenêtre, l'agrégat qui monopolise une voie du dispatcher :
+ * tous ses événements passant par la même voie, un agrégat très actif ralentit les
+ * autres agrégats de sa voie sans que le parallélisme des voies puisse l'absorber.
+ *
+ * Les événements sont comptés par clé pendant la fenêtre (au plus
+ * {@value #MAX_TRACKED_KEYS} clés distinctes) ; en fin de fenêtre, la clé la plus
+ * fréquente est signalée si sa part atteint le seuil sur un volume suffisant.
+ *
+ * Non thread-safe : une instance par voie, utilisée par le seul thread de la voie.
+ *
+ * @author Todo Team
+ */
+class HotKeyDetector {
+
+    static final int MAX_TRACKED_KEYS = 1024;
+
+    private final long windowNanos;
+    private final double shareThreshold;
+    private final int minEvents;
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    private long windowStart;
+    private int total;
+    private volatile double lastTopShare;
+
+    HotKeyDetector(Duration window, double shareThreshold, int minEvents, long now) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Hot key window must be positive");
+        }
+        if (shareThreshold <= 0 || shareThreshold > 1) {
+            throw new IllegalArgumentException("Hot key share must be in (0, 1]");
+        }
+        this.windowNanos = window.toNanos();
+        this.shareThreshold = shareThreshold;
+        this.minEvents = minEvents;
+        this.windowStart = now;
+    }
+
+    /**
+     * Compte un événement de la clé
+     */
+    void record(String key) {
+        total++;
+        Integer count = counts.get(key);
+        if (count != null) {
+            counts.put(key, count + 1);
+        } else if (counts.size() < MAX_TRACKED_KEYS) {
+            counts.put(key, 1);
+        }
+    }
+
+    /**
+     * Clôt la fenêtre si elle est écoulée
+     *
+     * @param now instant courant (System.nanoTime)
+     * @return clé chaude de la fenêtre close, ou null
+     */
+    HotKey rollIfElapsed(long now) {
+        if (now - windowStart < windowNanos) {
+            return null;
+        }
+
+        String topKey = null;
+        int topCount = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > topCount) {
+                topKey = entry.getKey();
+                topCount = entry.getValue();
+            }
+        }
+        int windowTotal = total;
+        lastTopShare = windowTotal > 0 ? (double) topCount / windowTotal : 0;
+
+        counts.clear();
+        total = 0;
+        windowStart = now;
+
+        if (windowTotal >= minEvents && lastTopShare >= shareThreshold) {
+            return new HotKey(topKey, topCount, windowTotal);
+        }
+        return null;
+    }
+
+    /**
+     * Part de la clé la plus fréquente sur la dernière fenêtre close
+     */
+    double lastTopShare() {
+        return lastTopShare;
+    }
+
+    /**
+     * Clé chaude d'une fenêtre
+     *
+     * @param key identifiant de l'agrégat
+     * @param count événements de la clé
+     * @param total événements de la voie sur la fenêtre
+     */
+    record HotKey(String key, int count, int total) {}
+}
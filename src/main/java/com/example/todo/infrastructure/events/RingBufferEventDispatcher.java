@@ -0,0 +1,466 @@
+package com.example.todo.infrastructure.events;
+
+import com.example.todo.domain.events.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/**
+ * RingBufferEventDispatcher
+ *
+ * Diffusion des événements du domaine aux {@link DomainEventBatchHandler} par un
+ * tampon circulaire préalloué, à la place d'une tâche {@code @Async} par événement
+ * et par gestionnaire.
+ *
+ * Les producteurs réservent une séquence (CAS sur le curseur), écrivent l'événement
+ * dans l'emplacement correspondant puis le marquent publié. Chaque gestionnaire est
+ * servi par un nombre fixe de voies, chacune avec son thread et sa propre séquence :
+ * une voie lit d'un coup tous les événements publiés à la suite (au plus
+ * max-batch-size), garde ceux dont l'agrégat lui revient (hachage de
+ * {@link DomainEvent#getAggregateId()}) et les traite en un lot. Les événements d'un
+ * même agrégat passent donc toujours par la même voie, dans l'ordre de publication,
+ * tandis que des agrégats différents sont traités en parallèle. Les voies avancent
+ * indépendamment ; une voie lente ne retarde qu'elle-même tant que le tampon n'est
+ * pas plein. Une voie sans événement attend activement puis cède le processeur,
+ * et au-delà s'endort jusqu'à ce qu'un producteur la réveille.
+ *
+ * Tampon plein, le producteur attend que le gestionnaire le plus en retard libère
+ * un emplacement : la contre-pression remonte jusqu'au relais de la boîte d'envoi,
+ * qui laisse les événements suivants en base. Les événements encore dans le tampon
+ * à l'arrêt sont perdus au-delà du délai de vidange ; ceux qui n'ont pas été
+ * acceptés restent dans la boîte d'envoi.
+ *
+ * Une exception d'un gestionnaire est journalisée et le lot compté en erreur. Une
+ * {@link Error} arrête sa voie, qui n'avancerait plus : le dispatcher passe alors en
+ * échec, refuse les publications et libère les producteurs en attente, pour que le
+ * relais annule sa transaction au lieu d'attendre indéfiniment. L'échec est exposé
+ * par {@link #isFailed()} (indicateur de santé) et la jauge events.dispatcher.failed.
+ *
+ * Métriques : events.published, events.dispatched (traités sans erreur) et
+ * events.handler.errors (débit par gestionnaire), events.queue.depth (événements
+ * non traités par le gestionnaire le plus en retard), events.dispatch.delay
+ * (attente dans le tampon), events.handler.latency (durée de traitement d'un lot) et events.batch.size, par
+ * gestionnaire et par voie ; events.lane.depth (retard de chaque voie) et, pour le
+ * détecteur de clés chaudes, events.lane.hot.key.share (part de l'agrégat le plus
+ * actif de la voie sur la dernière fenêtre) et events.lane.hot.keys (fenêtres où
+ * un agrégat a dépassé le seuil, journalisées en avertissement).
+ *
+ * @author Todo Team
+ */
+public class RingBufferEventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RingBufferEventDispatcher.class);
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    // Détection des clés chaudes par défaut : un agrégat portant au moins la moitié
+    // des événements d'une voie (sur au moins 100 événements) en 10 secondes
+    private static final Duration DEFAULT_HOT_KEY_WINDOW = Duration.ofSeconds(10);
+    private static final double DEFAULT_HOT_KEY_SHARE = 0.5;
+    private static final int HOT_KEY_MIN_EVENTS = 100;
+
+    // Attente active puis cession du processeur puis mise en sommeil courte
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    // Voie inactive endormie jusqu'à la prochaine publication ; le réveil périodique
+    // clôt la fenêtre du détecteur de clés chaudes
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Slot[] slots;
+    private final AtomicLongArray publishedSequences;
+    private final int bufferSize;
+    private final int mask;
+    private final int maxBatchSize;
+    private final int lanes;
+    private final Duration hotKeyWindow;
+    private final double hotKeyShare;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final List<BatchConsumer> consumers;
+    private final List<Thread> threads = new ArrayList<>();
+    private final Counter publishedEvents;
+
+    private volatile boolean accepting;
+    private volatile boolean stopped;
+    private volatile Throwable failure;
+
+    public RingBufferEventDispatcher(List<DomainEventBatchHandler> handlers, int bufferSize, int maxBatchSize,
+                                     MeterRegistry meterRegistry) {
+        this(handlers, bufferSize, maxBatchSize, 1, DEFAULT_HOT_KEY_WINDOW, DEFAULT_HOT_KEY_SHARE, meterRegistry);
+    }
+
+    public RingBufferEventDispatcher(List<DomainEventBatchHandler> handlers, int bufferSize, int maxBatchSize,
+                                     int lanes, Duration hotKeyWindow, double hotKeyShare,
+                                     MeterRegistry meterRegistry) {
+        if (bufferSize < 2 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Event buffer size must be a power of two");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Event batch size must be at least 1");
+        }
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Event lanes must be at least 1");
+        }
+        this.bufferSize = bufferSize;
+        this.mask = bufferSize - 1;
+        this.maxBatchSize = maxBatchSize;
+        this.lanes = lanes;
+        this.hotKeyWindow = hotKeyWindow;
+        this.hotKeyShare = hotKeyShare;
+
+        this.slots = new Slot[bufferSize];
+        this.publishedSequences = new AtomicLongArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            slots[i] = new Slot();
+            publishedSequences.set(i, -1);
+        }
+
+        this.consumers = handlers.stream()
+            .flatMap(handler -> IntStream.range(0, lanes).mapToObj(lane -> new BatchConsumer(handler, lane, meterRegistry)))
+            .toList();
+
+        this.publishedEvents = Counter.builder("events.published")
+            .description("Domain events accepted by the dispatcher")
+            .register(meterRegistry);
+        Gauge.builder("events.queue.depth", this, RingBufferEventDispatcher::queueDepth)
+            .description("Domain events not yet handled by the slowest handler")
+            .register(meterRegistry);
+        Gauge.builder("events.dispatcher.failed", this, dispatcher -> dispatcher.isFailed() ? 1 : 0)
+            .description("1 once a dispatch lane has stopped and the dispatcher rejects events")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Démarre un thread par voie de chaque gestionnaire
+     */
+    public synchronized void start() {
+        if (accepting) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("EventDispatch-");
+        threadFactory.setDaemon(true);
+        for (BatchConsumer consumer : consumers) {
+            Thread thread = threadFactory.newThread(consumer);
+            thread.setName("EventDispatch-" + consumer.handlerName + "-" + consumer.lane);
+            consumer.thread = thread;
+            threads.add(thread);
+            thread.start();
+        }
+        accepting = true;
+        logger.info("Event dispatcher started - handlers: {}, lanes: {}, buffer: {}, max batch: {}",
+                   consumers.size() / lanes, lanes, bufferSize, maxBatchSize);
+    }
+
+    /**
+     * Publie un événement à tous les gestionnaires
+     *
+     * Attend qu'un emplacement se libère si le tampon est plein.
+     *
+     * @param event événement du domaine
+     * @throws IllegalStateException si le dispatcher n'est pas démarré ou est arrêté
+     */
+    public void publish(DomainEvent event) {
+        checkAccepting();
+
+        long sequence = claim();
+        int index = (int) sequence & mask;
+        Slot slot = slots[index];
+        slot.event = event;
+        slot.publishedAt = System.nanoTime();
+        // Écriture volatile, ordonnée avant la lecture de l'état endormi des voies
+        publishedSequences.set(index, sequence);
+        wakeSleepingLanes();
+        publishedEvents.increment();
+    }
+
+    /**
+     * Indique si une voie s'est arrêtée : le dispatcher refuse alors les publications
+     */
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * Cesse d'accepter des événements, vide le tampon puis arrête les threads
+     */
+    public synchronized void shutdown() throws InterruptedException {
+        accepting = false;
+        long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+        while (queueDepth() > 0 && failure == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        long pending = queueDepth();
+        if (pending > 0) {
+            logger.warn("Dropping {} undispatched domain events on shutdown", pending);
+        }
+
+        stopped = true;
+        for (Thread thread : threads) {
+            thread.interrupt();
+            thread.join(SHUTDOWN_TIMEOUT.toMillis());
+        }
+        threads.clear();
+    }
+
+    private void checkAccepting() {
+        if (failure != null) {
+            throw new IllegalStateException("Event dispatcher failed", failure);
+        }
+        if (!accepting) {
+            throw new IllegalStateException("Event dispatcher is not accepting events");
+        }
+    }
+
+    /**
+     * Met le dispatcher en échec après l'arrêt d'une voie
+     */
+    private void fail(String handlerName, int lane, Throwable cause) {
+        failure = cause;
+        accepting = false;
+        logger.error("Lane {} of {} stopped, event dispatcher failed", lane, handlerName, cause);
+    }
+
+    private void wakeSleepingLanes() {
+        for (BatchConsumer consumer : consumers) {
+            if (consumer.sleeping) {
+                LockSupport.unpark(consumer.thread);
+            }
+        }
+    }
+
+    /**
+     * Événements réservés mais pas encore traités par le gestionnaire le plus en retard
+     */
+    long queueDepth() {
+        return Math.max(0, cursor.get() - minimumConsumerSequence());
+    }
+
+    private long claim() {
+        int idle = 0;
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            if (next - bufferSize > minimumConsumerSequence()) {
+                if (failure != null) {
+                    checkAccepting();
+                }
+                idle = backOff(idle);
+            } else if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long minimumConsumerSequence() {
+        long minimum = cursor.get();
+        for (BatchConsumer consumer : consumers) {
+            minimum = Math.min(minimum, consumer.sequence.get());
+        }
+        return minimum;
+    }
+
+    /**
+     * Dernière séquence publiée sans trou entre from et to inclus
+     */
+    private long highestPublished(long from, long to) {
+        for (long sequence = from; sequence <= to; sequence++) {
+            if (publishedSequences.getAcquire((int) sequence & mask) != sequence) {
+                return sequence - 1;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Voie d'un agrégat, identique pour tous ses événements
+     */
+    private int laneOf(DomainEvent event) {
+        int hash = event.getAggregateId().hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes);
+    }
+
+    private static int backOff(int idle) {
+        if (idle < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (idle < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return idle + 1;
+    }
+
+    /**
+     * Emplacement préalloué du tampon, réécrit à chaque tour
+     */
+    private static final class Slot {
+        private DomainEvent event;
+        private long publishedAt;
+    }
+
+    /**
+     * Boucle d'une voie d'un gestionnaire : lit les événements publiés par lots et lui
+     * transmet ceux des agrégats de la voie
+     */
+    private final class BatchConsumer implements Runnable {
+
+        private final DomainEventBatchHandler handler;
+        private final String handlerName;
+        private final int lane;
+        private final AtomicLong sequence = new AtomicLong(-1);
+        private volatile Thread thread;
+        private volatile boolean sleeping;
+        private final List<DomainEvent> batch;
+        private final List<DomainEvent> batchView;
+        private final HotKeyDetector hotKeyDetector;
+        private final Counter hotKeys;
+        private final Counter dispatched;
+        private final Counter errors;
+        private final Timer dispatchDelay;
+        private final Timer latency;
+        private final DistributionSummary batchSizes;
+
+        private BatchConsumer(DomainEventBatchHandler handler, int lane, MeterRegistry meterRegistry) {
+            this.handler = handler;
+            this.handlerName = ClassUtils.getUserClass(handler).getSimpleName();
+            this.lane = lane;
+            this.batch = new ArrayList<>(maxBatchSize);
+            this.batchView = Collections.unmodifiableList(batch);
+            this.hotKeyDetector = new HotKeyDetector(hotKeyWindow, hotKeyShare, HOT_KEY_MIN_EVENTS, System.nanoTime());
+
+            Tags tags = Tags.of("handler", handlerName, "lane", String.valueOf(lane));
+            this.hotKeys = Counter.builder("events.lane.hot.keys")
+                .description("Windows in which one aggregate dominated a dispatch lane")
+                .tags(tags)
+                .register(meterRegistry);
+            Gauge.builder("events.lane.hot.key.share", hotKeyDetector, HotKeyDetector::lastTopShare)
+                .description("Share of the most active aggregate of a lane over the last window")
+                .tags(tags)
+                .register(meterRegistry);
+            Gauge.builder("events.lane.depth", sequence, laneSequence -> Math.max(0, cursor.get() - laneSequence.get()))
+                .description("Domain events not yet read by a dispatch lane")
+                .tags(tags)
+                .register(meterRegistry);
+            this.dispatched = Counter.builder("events.dispatched")
+                .description("Domain events a handler processed without error")
+                .tags(tags)
+                .register(meterRegistry);
+            this.errors = Counter.builder("events.handler.errors")
+                .description("Domain events whose handler failed")
+                .tags(tags)
+                .register(meterRegistry);
+            this.dispatchDelay = Timer.builder("events.dispatch.delay")
+                .description("Time the oldest event of a batch waited in the buffer")
+                .tags(tags)
+                .register(meterRegistry);
+            this.latency = Timer.builder("events.handler.latency")
+                .description("Time a handler took to process a batch of events")
+                .tags(tags)
+                .register(meterRegistry);
+            this.batchSizes = DistributionSummary.builder("events.batch.size")
+                .description("Domain events handed to a handler at once")
+                .tags(tags)
+                .register(meterRegistry);
+        }
+
+        @Override
+        public void run() {
+            int idle = 0;
+            while (true) {
+                long next = sequence.get() + 1;
+                long last = highestPublished(next, Math.min(cursor.get(), next + maxBatchSize - 1));
+                if (last < next) {
+                    if (stopped) {
+                        return;
+                    }
+                    if (idle < YIELD_TRIES) {
+                        idle = backOff(idle);
+                    } else {
+                        rollHotKeyWindow(System.nanoTime());
+                        awaitPublication(next);
+                    }
+                    continue;
+                }
+                idle = 0;
+
+                long oldestPublishedAt = 0;
+                for (long s = next; s <= last; s++) {
+                    Slot slot = slots[(int) s & mask];
+                    if (laneOf(slot.event) == lane) {
+                        if (batch.isEmpty()) {
+                            oldestPublishedAt = slot.publishedAt;
+                        }
+                        batch.add(slot.event);
+                        hotKeyDetector.record(slot.event.getAggregateId().value());
+                    }
+                }
+                if (batch.isEmpty()) {
+                    sequence.set(last);
+                    continue;
+                }
+
+                long start = System.nanoTime();
+                dispatchDelay.record(start - oldestPublishedAt, TimeUnit.NANOSECONDS);
+                try {
+                    handler.onEvents(batchView);
+                    dispatched.increment(batch.size());
+                } catch (RuntimeException e) {
+                    errors.increment(batch.size());
+                    logger.error("Handler {} failed on a batch of {} domain events", handlerName, batch.size(), e);
+                } catch (Throwable e) {
+                    errors.increment(batch.size());
+                    fail(handlerName, lane, e);
+                    return;
+                } finally {
+                    latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+                batchSizes.record(batch.size());
+                batch.clear();
+                sequence.set(last);
+                rollHotKeyWindow(System.nanoTime());
+            }
+        }
+
+        /**
+         * Endort la voie jusqu'à la publication de la séquence attendue. L'état
+         * endormi est écrit avant de relire la séquence, que le producteur écrit
+         * avant de lire cet état : l'un des deux voit toujours l'autre.
+         */
+        private void awaitPublication(long next) {
+            sleeping = true;
+            try {
+                if (publishedSequences.get((int) next & mask) != next && !stopped) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            } finally {
+                sleeping = false;
+            }
+        }
+
+        private void rollHotKeyWindow(long now) {
+            HotKeyDetector.HotKey hotKey = hotKeyDetector.rollIfElapsed(now);
+            if (hotKey != null) {
+                hotKeys.increment();
+                logger.warn("Hot aggregate on lane {} of {}: {} carried {} of {} events over the last window",
+                           lane, handlerName, hotKey.key(), hotKey.count(), hotKey.total());
+            }
+        }
+    }
+}
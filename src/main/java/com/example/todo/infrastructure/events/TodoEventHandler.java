@@ -1,20 +1,28 @@
 package com.example.todo.infrastructure.events;
 
+import com.example.todo.domain.events.DomainEvent;
 import com.example.todo.domain.events.TodoCompletedEvent;
 import com.example.todo.domain.events.TodoCreatedEvent;
 import com.example.todo.domain.events.TodoStatusChangedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * TodoEventHandler
  *
  * Gestionnaire d'événements du domaine Todo.
  * Démontre le découplage via les événements et les traitements asynchrones.
  *
+ * Les événements arrivent par lots sur les voies du gestionnaire
+ * ({@link RingBufferEventDispatcher}), ceux d'un même Todo toujours dans l'ordre :
+ * chacun est journalisé, puis les traitements secondaires sont effectués une fois
+ * par lot plutôt qu'une fois par événement. Sans état, le gestionnaire traite
+ * plusieurs voies en parallèle. Les mises à jour et suppressions, qu'il ne traite
+ * pas, n'entrent pas dans le dispatcher ({@link #eventTypes()}).
+ *
  * Concepts DDD appliqués :
  * - Event Handlers : Réaction aux événements du domaine
  * - Loose Coupling : Découplage entre agrégats
@@ -23,17 +31,61 @@ import org.springframework.stereotype.Component;
  * @author Todo Team
  */
 @Component
-public class TodoEventHandler {
+public class TodoEventHandler implements DomainEventBatchHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(TodoEventHandler.class);
 
+    @Override
+    public List<Class<? extends DomainEvent>> eventTypes() {
+        return List.of(TodoCreatedEvent.class, TodoCompletedEvent.class, TodoStatusChangedEvent.class);
+    }
+
+    /**
+     * Traite un lot d'événements dans l'ordre de publication
+     *
+     * @param events lot d'événements
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        int created = 0;
+        int completed = 0;
+        for (DomainEvent event : events) {
+            switch (event) {
+                case TodoCreatedEvent createdEvent -> {
+                    handle(createdEvent);
+                    created++;
+                }
+                case TodoCompletedEvent completedEvent -> {
+                    handle(completedEvent);
+                    completed++;
+                }
+                case TodoStatusChangedEvent statusChangedEvent -> handle(statusChangedEvent);
+                default -> logger.trace("Ignoring domain event: {}", event.getEventType());
+            }
+        }
+
+        // Simulation des traitements secondaires, regroupés pour tout le lot :
+        // un appel externe pour les créations, un pour les complétions
+        try {
+            if (created > 0) {
+                Thread.sleep(100);
+                logger.debug("{} todo creation events processed", created);
+            }
+            if (completed > 0) {
+                Thread.sleep(50);
+                logger.debug("{} todo completion events processed", completed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while processing a batch of {} domain events", events.size());
+        }
+    }
+
     /**
      * Traite l'événement de création d'un Todo
      *
      * @param event événement de création
      */
-    @Async
-    @EventListener
     public void handle(TodoCreatedEvent event) {
         logger.info("Todo created: {} for user: {} at {}",
                    event.aggregateId(), event.userId(), event.occurredOn());
@@ -43,25 +95,11 @@ public class TodoEventHandler {
         // - Mise à jour de statistiques utilisateur
         // - Audit log
         // - Intégration avec systèmes externes
-
-        try {
-            // Simulation d'un traitement asynchrone
-            Thread.sleep(100);
-
-            // Ici on pourrait :
-            // - Incrémenter un compteur de todos créés
-            // - Envoyer une notification push
-            // - Logger dans un système d'audit externe
-
-            logger.debug("Todo creation event processed successfully for: {}", event.aggregateId());
-
-        } catch (Exception e) {
-            logger.error("Error processing TodoCreatedEvent for: {}", event.aggregateId(), e);
-            // En cas d'erreur, on pourrait :
-            // - Republier l'événement
-            // - L'envoyer dans une dead letter queue
-            // - Alerter les administrateurs
-        }
+        //
+        // En cas d'erreur, on pourrait :
+        // - Republier l'événement
+        // - L'envoyer dans une dead letter queue
+        // - Alerter les administrateurs
     }
 
     /**
@@ -69,26 +107,15 @@ public class TodoEventHandler {
      *
      * @param event événement de complétion
      */
-    @Async
-    @EventListener
     public void handle(TodoCompletedEvent event) {
         logger.info("Todo completed: {} by user: {} at {}",
                    event.aggregateId(), event.userId(), event.completedAt());
 
-        try {
-            // Exemples de traitements pour la complétion :
-            // - Calcul du score de productivité
-            // - Déclenchement de workflows suivants
-            // - Mise à jour de tableaux de bord
-            // - Notifications d'équipe
-
-            Thread.sleep(50);
-
-            logger.debug("Todo completion event processed for: {}", event.aggregateId());
-
-        } catch (Exception e) {
-            logger.error("Error processing TodoCompletedEvent for: {}", event.aggregateId(), e);
-        }
+        // Exemples de traitements pour la complétion :
+        // - Calcul du score de productivité
+        // - Déclenchement de workflows suivants
+        // - Mise à jour de tableaux de bord
+        // - Notifications d'équipe
     }
 
     /**
@@ -96,8 +123,6 @@ public class TodoEventHandler {
      *
      * @param event événement de changement de statut
      */
-    @Async
-    @EventListener
     public void handle(TodoStatusChangedEvent event) {
         logger.info("Todo status changed: {} from {} to {} by user: {}",
                    event.aggregateId(), event.previousStatus(),
@@ -0,0 +1,185 @@
+package com.example.todo.infrastructure.events;
+
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.infrastructure.persistence.TodoOutboxJpaEntity;
+import com.example.todo.infrastructure.persistence.TodoOutboxJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TodoOutboxRelay
+ *
+ * Relais de la boîte d'envoi : publie sur le {@link DomainEventBus} les événements
+ * du domaine enregistrés par des transactions validées, par lots dans l'ordre
+ * d'insertion.
+ * Chaque lot est verrouillé (SELECT ... FOR UPDATE SKIP LOCKED), publié puis marqué
+ * relayé dans une même transaction ; plusieurs nœuds relaient ainsi des lots
+ * disjoints sans s'attendre. Au sein d'un nœud les événements sont publiés dans
+ * l'ordre ; entre deux nœuds, deux lots peuvent être publiés simultanément.
+ *
+ * L'ordre des identifiants n'est pas l'ordre des commits : l'identifiant est attribué
+ * à l'insertion, et une transaction plus longue peut valider un identifiant plus
+ * petit qu'un événement déjà relayé. Cet événement n'est pas perdu (le lot suivant
+ * reprend toute ligne non relayée) mais il est publié après ; seul l'ordre des
+ * événements d'une même transaction est garanti.
+ *
+ * Livraison au moins une fois jusqu'au bus seulement : un lot dont la transaction
+ * échoue après publication est republié au cycle suivant, mais une ligne est marquée
+ * relayée dès que le bus a accepté l'événement, pas quand les gestionnaires l'ont
+ * traité. Au-delà, la livraison est au plus une fois : un événement encore dans le
+ * tampon du {@link RingBufferEventDispatcher} à l'arrêt du nœud, ou dont le
+ * gestionnaire échoue, n'est pas republié. Les gestionnaires ne doivent donc porter
+ * que des effets qu'on peut perdre (caches, notifications, métriques). Un événement
+ * illisible est écarté (journalisé et compté) pour ne pas bloquer les suivants.
+ *
+ * Les événements relayés sont supprimés après la durée de rétention.
+ *
+ * Métriques : outbox.events (résultat delivered/failed), outbox.delivery.lag (délai
+ * entre l'enregistrement et le relais), outbox.pending et outbox.oldest.pending.age
+ * (retard du plus ancien événement en attente).
+ *
+ * @author Todo Team
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class TodoOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoOutboxRelay.class);
+
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private final TodoOutboxJpaRepository outboxRepository;
+    private final DomainEventBus eventBus;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventSerializer serializer = new DomainEventSerializer();
+    private final int batchSize;
+    private final Duration retention;
+    private final Counter deliveredEvents;
+    private final Counter failedEvents;
+    private final Timer deliveryLag;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    public TodoOutboxRelay(TodoOutboxJpaRepository outboxRepository,
+                           DomainEventBus eventBus,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.outbox.batch-size:100}") int batchSize,
+                           @Value("${app.outbox.retention:PT1H}") Duration retention) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Outbox batch size must be at least 1");
+        }
+        this.outboxRepository = outboxRepository;
+        this.eventBus = eventBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+
+        this.deliveredEvents = eventCounter(meterRegistry, "delivered");
+        this.failedEvents = eventCounter(meterRegistry, "failed");
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+            .description("Time between the recording of a domain event and its relay")
+            .register(meterRegistry);
+        Gauge.builder("outbox.pending", pendingEvents, AtomicLong::get)
+            .description("Domain events waiting in the outbox")
+            .register(meterRegistry);
+        Gauge.builder("outbox.oldest.pending.age", oldestPendingAgeMillis, age -> age.get() / 1000.0)
+            .description("Age of the oldest domain event waiting in the outbox")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Relaie les événements en attente, lot après lot, jusqu'à vider la boîte d'envoi
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public void relay() {
+        int relayed;
+        do {
+            Integer batch = transactionTemplate.execute(status -> relayBatch());
+            relayed = batch != null ? batch : 0;
+        } while (relayed == batchSize);
+
+        refreshBacklog();
+    }
+
+    /**
+     * Supprime les événements relayés depuis plus longtemps que la rétention
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval:PT10M}")
+    public void cleanup() {
+        Instant before = Instant.now().minus(retention);
+        long total = 0;
+        int deleted;
+        do {
+            Integer batch = transactionTemplate.execute(status ->
+                outboxRepository.deleteDeliveredBefore(before, CLEANUP_BATCH_SIZE));
+            deleted = batch != null ? batch : 0;
+            total += deleted;
+        } while (deleted == CLEANUP_BATCH_SIZE);
+
+        if (total > 0) {
+            logger.info("Deleted {} relayed domain events from the outbox", total);
+        }
+    }
+
+    /**
+     * Publie un lot verrouillé puis le marque relayé
+     *
+     * @return taille du lot
+     */
+    private int relayBatch() {
+        List<TodoOutboxJpaEntity> batch = outboxRepository.lockPendingBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Instant now = Instant.now();
+        for (TodoOutboxJpaEntity entry : batch) {
+            DomainEvent event;
+            try {
+                event = serializer.deserialize(entry.getEventType(), entry.getPayload());
+            } catch (IllegalArgumentException e) {
+                logger.error("Discarding unreadable outbox event {} of type {}", entry.getId(), entry.getEventType(), e);
+                failedEvents.increment();
+                continue;
+            }
+
+            eventBus.publish(event);
+            deliveredEvents.increment();
+            deliveryLag.record(Duration.between(entry.getCreatedAt(), now));
+        }
+
+        outboxRepository.markDelivered(batch.stream().map(TodoOutboxJpaEntity::getId).toList(), now);
+        logger.debug("Relayed {} domain events from the outbox", batch.size());
+        return batch.size();
+    }
+
+    private void refreshBacklog() {
+        pendingEvents.set(outboxRepository.countByDeliveredAtIsNull());
+        Instant oldest = outboxRepository.findOldestPendingCreatedAt();
+        oldestPendingAgeMillis.set(oldest != null ? Duration.between(oldest, Instant.now()).toMillis() : 0);
+    }
+
+    private static Counter eventCounter(MeterRegistry registry, String result) {
+        return Counter.builder("outbox.events")
+            .description("Domain events relayed from the outbox per result")
+            .tags("result", result)
+            .register(registry);
+    }
+}
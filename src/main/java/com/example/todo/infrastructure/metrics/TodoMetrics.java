@@ -12,6 +12,7 @@ import java.util.function.Supplier;
 public class TodoMetrics implements MetricsPort {
     private final Counter todoCreatedCounter;
     private final Counter todoCompletedCounter;
+    private final Counter todoImportedCounter;
     private final Timer todoCreationTimer;
 
     public TodoMetrics(MeterRegistry registry) {
@@ -23,6 +24,10 @@ public class TodoMetrics implements MetricsPort {
                 .description("Number of todos completed")
                 .register(registry);
 
+        this.todoImportedCounter = Counter.builder("todos.imported")
+                .description("Number of todos imported in bulk")
+                .register(registry);
+
         this.todoCreationTimer = Timer.builder("todos.creation.time")
                 .description("Time taken to create todos")
                 .register(registry);
@@ -43,6 +48,11 @@ public class TodoMetrics implements MetricsPort {
         todoCompletedCounter.increment();
     }
 
+    @Override
+    public void incrementTodosImported(long count) {
+        todoImportedCounter.increment(count);
+    }
+
     public Timer getTodoCreationTimer() {
         return todoCreationTimer;
     }
@@ -0,0 +1,113 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.domain.events.DomainEventCoalescer;
+import com.example.todo.domain.repository.DomainEventOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CoalescingDomainEventOutbox
+ *
+ * Boîte d'envoi qui fusionne les événements du domaine d'une transaction avant de
+ * les enregistrer : les événements ajoutés au cours de la transaction sont retenus,
+ * puis fusionnés par agrégat ({@link DomainEventCoalescer#forTodos()}) et écrits
+ * en une fois par {@link JdbcDomainEventOutbox} juste avant le commit. Un Todo
+ * sauvegardé plusieurs fois dans la transaction ne produit ainsi que ses
+ * événements nets, et moins de lignes sont relayées aux gestionnaires.
+ *
+ * Les événements retenus sont liés à la transaction qui les a produits : une
+ * transaction suspendue (REQUIRES_NEW, NOT_SUPPORTED) délie sa liste le temps de la
+ * suspension, et la transaction interne écrit les siens à son propre commit.
+ *
+ * Sans synchronisation de transaction active, les événements sont fusionnés et
+ * écrits immédiatement (le délégué exige alors une transaction).
+ *
+ * Métrique : events.suppressed (événements retirés par la fusion).
+ *
+ * @author Todo Team
+ */
+@Repository
+@Primary
+public class CoalescingDomainEventOutbox implements DomainEventOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingDomainEventOutbox.class);
+
+    private final JdbcDomainEventOutbox delegate;
+    private final DomainEventCoalescer coalescer = DomainEventCoalescer.forTodos();
+    private final Counter suppressedEvents;
+
+    public CoalescingDomainEventOutbox(JdbcDomainEventOutbox delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.suppressedEvents = Counter.builder("events.suppressed")
+            .description("Redundant domain events removed before reaching the outbox")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void append(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            flush(events);
+            return;
+        }
+
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.addAll(events);
+    }
+
+    private void flush(List<DomainEvent> events) {
+        List<DomainEvent> coalesced = coalescer.coalesce(events);
+        int suppressed = events.size() - coalesced.size();
+        if (suppressed > 0) {
+            suppressedEvents.increment(suppressed);
+            logger.debug("Coalesced {} domain events into {}", events.size(), coalesced.size());
+        }
+        delegate.append(coalesced);
+    }
+
+    /**
+     * Événements retenus pour la transaction courante, écrits avant son commit
+     */
+    private final class PendingEvents implements TransactionSynchronization {
+
+        private final List<DomainEvent> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flush(events);
+            events.clear();
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(CoalescingDomainEventOutbox.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(CoalescingDomainEventOutbox.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CoalescingDomainEventOutbox.this);
+        }
+    }
+}
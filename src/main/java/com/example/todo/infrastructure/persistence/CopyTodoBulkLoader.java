@@ -0,0 +1,200 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.repository.TodoBulkLoader;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+
+/**
+ * CopyTodoBulkLoader
+ *
+ * Ingestion massive des Todos par {@code COPY todos FROM STDIN} sur PostgreSQL.
+ * Les Todos sont encodés en CSV dans un tampon envoyé par blocs au CopyManager du
+ * driver, sans passer par Hibernate ni par une requête INSERT par ligne.
+ *
+ * Sur les autres bases (H2 en dev/test), le chargement retombe sur des INSERT
+ * JDBC regroupés en lots. Dans les deux cas, la connexion de la transaction
+ * courante est utilisée.
+ *
+ * @author Todo Team
+ */
+@Repository
+public class CopyTodoBulkLoader implements TodoBulkLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CopyTodoBulkLoader.class);
+
+    static final String COLUMNS =
+        "id, title, description, status, priority_level, priority_name, due_date, user_id, created_at, updated_at, completed_at";
+
+    private static final String COPY_SQL = "COPY todos (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    private static final String INSERT_SQL = "INSERT INTO todos (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Taille des blocs envoyés au serveur pendant le COPY
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public CopyTodoBulkLoader(JdbcTemplate jdbcTemplate,
+                              @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public long load(Collection<Todo> todos) {
+        if (todos.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                return copy(connection.unwrap(BaseConnection.class), todos);
+            }
+            return batchInsert(connection, todos);
+        });
+    }
+
+    /**
+     * Envoie les Todos au serveur par COPY, par blocs de {@link #COPY_BUFFER_SIZE} octets
+     */
+    private long copy(BaseConnection connection, Collection<Todo> todos) throws SQLException {
+        logger.debug("Loading {} todos with COPY", todos.size());
+
+        CopyIn copyIn = new CopyManager(connection).copyIn(COPY_SQL);
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+            for (Todo todo : todos) {
+                appendCsvRow(buffer, todo);
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    writeToCopy(copyIn, buffer);
+                }
+            }
+            writeToCopy(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Repli hors PostgreSQL : INSERT JDBC regroupés par lots de batch_size
+     */
+    private long batchInsert(Connection connection, Collection<Todo> todos) throws SQLException {
+        logger.debug("Loading {} todos with batched INSERT", todos.size());
+
+        long inserted = 0;
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            int pending = 0;
+            for (Todo todo : todos) {
+                bind(statement, todo);
+                statement.addBatch();
+                if (++pending == batchSize) {
+                    inserted += sum(statement.executeBatch());
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                inserted += sum(statement.executeBatch());
+            }
+        }
+        return inserted;
+    }
+
+    private static void bind(PreparedStatement statement, Todo todo) throws SQLException {
+        statement.setString(1, todo.getId().value());
+        statement.setString(2, todo.getTitle());
+        statement.setString(3, todo.getDescription());
+        statement.setString(4, todo.getStatus().name());
+        statement.setInt(5, todo.getPriority().level());
+        statement.setString(6, todo.getPriority().name());
+        setTimestamp(statement, 7, todo.getDueDate());
+        statement.setString(8, todo.getUserId());
+        setTimestamp(statement, 9, todo.getCreatedAt());
+        setTimestamp(statement, 10, todo.getUpdatedAt());
+        setTimestamp(statement, 11, todo.getCompletedAt());
+    }
+
+    private static void setTimestamp(PreparedStatement statement, int index, Instant instant) throws SQLException {
+        if (instant == null) {
+            statement.setNull(index, Types.TIMESTAMP_WITH_TIMEZONE);
+        } else {
+            statement.setObject(index, instant.atOffset(ZoneOffset.UTC));
+        }
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            // Certains drivers renvoient SUCCESS_NO_INFO (-2) pour les lots
+            total += count == PreparedStatement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return total;
+    }
+
+    /**
+     * Encode un Todo en ligne CSV pour COPY : les valeurs absentes sont laissées vides
+     * (NULL), les textes sont toujours entre guillemets pour distinguer la chaîne vide
+     */
+    static void appendCsvRow(StringBuilder buffer, Todo todo) {
+        appendText(buffer, todo.getId().value()).append(',');
+        appendText(buffer, todo.getTitle()).append(',');
+        appendText(buffer, todo.getDescription()).append(',');
+        buffer.append(todo.getStatus().name()).append(',');
+        buffer.append(todo.getPriority().level()).append(',');
+        appendText(buffer, todo.getPriority().name()).append(',');
+        appendInstant(buffer, todo.getDueDate()).append(',');
+        appendText(buffer, todo.getUserId()).append(',');
+        appendInstant(buffer, todo.getCreatedAt()).append(',');
+        appendInstant(buffer, todo.getUpdatedAt()).append(',');
+        appendInstant(buffer, todo.getCompletedAt()).append('\n');
+    }
+
+    private static StringBuilder appendText(StringBuilder buffer, String value) {
+        if (value == null) {
+            return buffer;
+        }
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        return buffer.append('"');
+    }
+
+    private static StringBuilder appendInstant(StringBuilder buffer, Instant instant) {
+        return instant == null ? buffer : buffer.append(instant);
+    }
+}
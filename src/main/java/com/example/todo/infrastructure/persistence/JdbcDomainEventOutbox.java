@@ -0,0 +1,58 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.domain.repository.DomainEventOutbox;
+import com.example.todo.infrastructure.events.DomainEventSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JdbcDomainEventOutbox
+ *
+ * Implémentation du port {@link DomainEventOutbox} sur la table todo_outbox.
+ * Les événements sont insérés par des INSERT JDBC regroupés en un lot, sur la
+ * connexion de la transaction courante : l'identifiant, attribué par la base à
+ * chaque ligne à l'insertion, conserve l'ordre de la liste sans un aller-retour par
+ * événement (mais pas l'ordre des commits entre transactions concurrentes).
+ *
+ * @author Todo Team
+ */
+@Repository
+public class JdbcDomainEventOutbox implements DomainEventOutbox {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO todo_outbox (aggregate_id, event_type, payload, occurred_on, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventSerializer serializer = new DomainEventSerializer();
+
+    public JdbcDomainEventOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = events.stream()
+            .map(event -> new Object[] {
+                event.getAggregateId().value(),
+                event.getEventType(),
+                serializer.serialize(event),
+                Timestamp.from(event.getOccurredOn()),
+                createdAt
+            })
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
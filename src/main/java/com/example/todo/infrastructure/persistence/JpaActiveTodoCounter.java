@@ -0,0 +1,81 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.repository.ActiveTodoCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JpaActiveTodoCounter
+ *
+ * Implémentation des compteurs de Todos actifs sur la table user_todo_counters.
+ * Le contrôle de quota verrouille une seule ligne par clé primaire, et chaque
+ * transition applique un UPDATE relatif sur cette même ligne.
+ *
+ * Les compteurs manquants (utilisateur créé après la migration) sont
+ * initialisés à la demande par {@link UserTodoCounterInitializer}.
+ *
+ * @author Todo Team
+ */
+@Repository
+public class JpaActiveTodoCounter implements ActiveTodoCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JpaActiveTodoCounter.class);
+
+    private final UserTodoCounterJpaRepository counterRepository;
+    private final TodoJpaRepository todoJpaRepository;
+    private final UserTodoCounterInitializer initializer;
+
+    public JpaActiveTodoCounter(UserTodoCounterJpaRepository counterRepository,
+                                TodoJpaRepository todoJpaRepository,
+                                UserTodoCounterInitializer initializer) {
+        this.counterRepository = counterRepository;
+        this.todoJpaRepository = todoJpaRepository;
+        this.initializer = initializer;
+    }
+
+    @Override
+    public long lockActiveCount(String userId) {
+        return counterRepository.lockActiveCount(userId)
+            .orElseGet(() -> {
+                ensureInitialized(userId);
+                return counterRepository.lockActiveCount(userId)
+                    .orElseThrow(() -> new IllegalStateException("Active todo counter missing for user: " + userId));
+            });
+    }
+
+    @Override
+    public long getActiveCount(String userId) {
+        return counterRepository.findActiveCount(userId)
+            .orElseGet(() -> todoJpaRepository.countActiveByUserId(userId));
+    }
+
+    @Override
+    public void adjust(String userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        logger.debug("Adjusting active todo counter for user: {} by {}", userId, delta);
+
+        if (counterRepository.adjust(userId, delta) == 0) {
+            ensureInitialized(userId);
+            counterRepository.adjust(userId, delta);
+        }
+    }
+
+    @Override
+    public void reset(String userId) {
+        counterRepository.reset(userId);
+    }
+
+    private void ensureInitialized(String userId) {
+        try {
+            initializer.initialize(userId);
+        } catch (DataIntegrityViolationException e) {
+            // Créé par une transaction concurrente : la ligne existe désormais
+            logger.debug("Active todo counter for user: {} initialized concurrently", userId);
+        }
+    }
+}
@@ -2,19 +2,25 @@ package com.example.todo.infrastructure.persistence;
 
 import com.example.todo.domain.model.Todo;
 import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoStatistics;
 import com.example.todo.domain.model.TodoStatus;
 import com.example.todo.domain.repository.TodoRepository;
+import com.example.todo.domain.specification.Specification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import com.example.todo.domain.model.PageResult;
 import com.example.todo.domain.model.PageRequest;
+import com.example.todo.domain.model.CursorPageResult;
+import com.example.todo.domain.model.PageCursor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @Transactional
@@ -29,15 +35,34 @@ public class JpaTodoRepository implements TodoRepository {
     public Todo save(Todo todo) {
         var entity = TodoMapper.toJpaEntity(todo);
         var savedEntity = jpaRepository.save(entity);
+        todo.markAsPersisted();
         return TodoMapper.toDomainEntity(savedEntity);
     }
 
+    @Override
+    public List<Todo> saveAll(Collection<Todo> todos) {
+        var entities = todos.stream().map(TodoMapper::toJpaEntity).collect(Collectors.toList());
+        var savedEntities = jpaRepository.saveAll(entities);
+        todos.forEach(Todo::markAsPersisted);
+        return savedEntities.stream()
+                .map(TodoMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Todo> findById(TodoId id) {
         return jpaRepository.findById(id.value())
                 .map(TodoMapper::toDomainEntity);
     }
 
+    @Override
+    public List<Todo> findAllByIds(Collection<TodoId> ids) {
+        var values = ids.stream().map(TodoId::value).collect(Collectors.toList());
+        return jpaRepository.findAllById(values).stream()
+                .map(TodoMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public PageResult<Todo> findByUserId(String userId, PageRequest pageRequest) {
         Pageable pageable = org.springframework.data.domain.PageRequest.of(pageRequest.getPageNumber(), pageRequest.getPageSize());
@@ -46,6 +71,28 @@ public class JpaTodoRepository implements TodoRepository {
     return new PageResult<>(content, page.getNumber(), page.getSize(), page.getTotalElements());
     }
 
+    @Override
+    public PageResult<Todo> findAll(String userId, Specification<Todo> specification, PageRequest pageRequest) {
+        TodoSpecificationTranslator.Translation translation = TodoSpecificationTranslator.translate(specification);
+        var where = TodoSpecificationTranslator.belongsTo(userId).and(translation.predicate());
+
+        if (translation.exact()) {
+            Pageable pageable = org.springframework.data.domain.PageRequest.of(
+                pageRequest.getPageNumber(), pageRequest.getPageSize(), TodoSpecificationTranslator.DEFAULT_SORT);
+            Page<TodoJpaEntity> page = jpaRepository.findAll(where, pageable);
+            var content = page.map(TodoMapper::toDomainEntity).getContent();
+            return new PageResult<>(content, page.getNumber(), page.getSize(), page.getTotalElements());
+        }
+
+        List<Todo> matching = jpaRepository.findAll(where, TodoSpecificationTranslator.DEFAULT_SORT).stream()
+            .map(TodoMapper::toDomainEntity)
+            .filter(specification::isSatisfiedBy)
+            .collect(Collectors.toList());
+        int from = Math.min(pageRequest.getPageNumber() * pageRequest.getPageSize(), matching.size());
+        int to = Math.min(from + pageRequest.getPageSize(), matching.size());
+        return new PageResult<>(matching.subList(from, to), pageRequest.getPageNumber(), pageRequest.getPageSize(), matching.size());
+    }
+
     @Override
     public PageResult<Todo> findByUserIdAndStatus(String userId, TodoStatus status, PageRequest pageRequest) {
         Pageable pageable = org.springframework.data.domain.PageRequest.of(pageRequest.getPageNumber(), pageRequest.getPageSize());
@@ -54,6 +101,30 @@ public class JpaTodoRepository implements TodoRepository {
     return new PageResult<>(content, page.getNumber(), page.getSize(), page.getTotalElements());
     }
 
+    @Override
+    public CursorPageResult<Todo> findByUserIdAfter(String userId, PageCursor after, int pageSize) {
+        Pageable limit = org.springframework.data.domain.PageRequest.of(0, pageSize + 1);
+        List<TodoJpaEntity> rows = after == null
+                ? jpaRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+                : jpaRepository.findByUserIdAfter(userId, after.createdAt(), after.id().value(), limit);
+        return toCursorPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPageResult<Todo> findByUserIdAndStatusAfter(String userId, TodoStatus status, PageCursor after, int pageSize) {
+        Pageable limit = org.springframework.data.domain.PageRequest.of(0, pageSize + 1);
+        List<TodoJpaEntity> rows = after == null
+                ? jpaRepository.findByUserIdAndStatusOrderByCreatedAtDescIdDesc(userId, status, limit)
+                : jpaRepository.findByUserIdAndStatusAfter(userId, status, after.createdAt(), after.id().value(), limit);
+        return toCursorPage(rows, pageSize);
+    }
+
+    @Override
+    public Stream<Todo> streamByUserId(String userId) {
+        return jpaRepository.streamByUserId(userId)
+                .map(TodoMapper::toDomainEntity);
+    }
+
     @Override
     public List<Todo> findOverdueTodosByUserId(String userId, Instant currentTime) {
         return jpaRepository.findOverdueTodosByUserId(userId, currentTime).stream()
@@ -63,7 +134,7 @@ public class JpaTodoRepository implements TodoRepository {
 
     @Override
     public List<Todo> findByUserIdAndDueDateBetween(String userId, Instant from, Instant to) {
-        return jpaRepository.findByUserIdAndDueDateBetweenOrderByDueDateAsc(userId, from, to).stream()
+        return jpaRepository.findByUserIdAndDueDateBetweenOrderByDueDateAscCreatedAtDesc(userId, from, to).stream()
                 .map(TodoMapper::toDomainEntity)
                 .collect(Collectors.toList());
     }
@@ -73,6 +144,11 @@ public class JpaTodoRepository implements TodoRepository {
         return jpaRepository.countByUserIdAndStatus(userId, status);
     }
 
+    @Override
+    public TodoStatistics getStatistics(String userId, Instant now, Instant windowStart) {
+        return TodoMapper.toStatistics(jpaRepository.computeStatistics(userId, now, windowStart));
+    }
+
     @Override
     public boolean existsById(TodoId id) {
         return jpaRepository.existsById(id.value());
@@ -87,4 +163,14 @@ public class JpaTodoRepository implements TodoRepository {
     public void deleteByUserId(String userId) {
         jpaRepository.deleteByUserId(userId);
     }
+
+    private CursorPageResult<Todo> toCursorPage(List<TodoJpaEntity> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Todo> content = rows.stream()
+                .limit(pageSize)
+                .map(TodoMapper::toDomainEntity)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? PageCursor.after(content.get(content.size() - 1)).encode() : null;
+        return new CursorPageResult<>(content, pageSize, nextCursor);
+    }
 }
@@ -7,6 +7,7 @@ import com.example.todo.domain.model.TodoStatus;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.Instant;
 
@@ -22,12 +23,22 @@ import java.time.Instant;
  * - Infrastructure Layer : Détails techniques de persistence
  * - Mapping : Conversion entre domaine et infrastructure
  *
+ * L'identifiant étant assigné par le domaine, l'entité implémente Persistable :
+ * un Todo nouveau est inséré par persist (un seul INSERT) au lieu d'un merge
+ * précédé d'un SELECT par clé primaire.
+ *
  * @author Todo Team
  */
 @Entity
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+    // Reflète les index de V2__covering_list_indexes.sql pour le schéma généré (H2) ;
+    // les migrations Flyway restent la référence (index partiels inclus).
+    @Index(name = "idx_todos_user_created", columnList = "user_id, created_at DESC, id DESC"),
+    @Index(name = "idx_todos_user_status_created", columnList = "user_id, status, created_at DESC, id DESC"),
+    @Index(name = "idx_todos_user_due_created", columnList = "user_id, due_date, created_at DESC")
+})
 @EntityListeners(AuditingEntityListener.class)
-public class TodoJpaEntity {
+public class TodoJpaEntity implements Persistable<String> {
 
     @Id
     @Column(name = "id", length = 36)
@@ -66,6 +77,9 @@ public class TodoJpaEntity {
     @Column(name = "completed_at")
     private Instant completedAt;
 
+    @Transient
+    private boolean isNew;
+
     // Constructeur par défaut pour JPA
     protected TodoJpaEntity() {}
 
@@ -113,7 +127,7 @@ public class TodoJpaEntity {
      * @return entité JPA
      */
     public static TodoJpaEntity fromDomain(Todo todo) {
-        return new TodoJpaEntity(
+        TodoJpaEntity entity = new TodoJpaEntity(
             todo.getId().value(),
             todo.getTitle(),
             todo.getDescription(),
@@ -126,9 +140,26 @@ public class TodoJpaEntity {
             todo.getUpdatedAt(),
             todo.getCompletedAt()
         );
+        entity.isNew = todo.isNew();
+        return entity;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Une entité chargée ou insérée n'est plus nouvelle
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
     }
 
     // Getters et Setters
+    @Override
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
 
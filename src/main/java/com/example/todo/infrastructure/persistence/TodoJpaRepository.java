@@ -1,14 +1,20 @@
 package com.example.todo.infrastructure.persistence;
 
 import com.example.todo.domain.model.TodoStatus;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.Tuple;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * TodoJpaRepository
@@ -19,7 +25,7 @@ import java.util.List;
  * @author Todo Team
  */
 @Repository
-public interface TodoJpaRepository extends JpaRepository<TodoJpaEntity, String> {
+public interface TodoJpaRepository extends JpaRepository<TodoJpaEntity, String>, JpaSpecificationExecutor<TodoJpaEntity> {
 
     /**
      * Trouve tous les Todos d'un utilisateur avec pagination
@@ -32,24 +38,125 @@ public interface TodoJpaRepository extends JpaRepository<TodoJpaEntity, String>
     Page<TodoJpaEntity> findByUserIdAndStatusOrderByCreatedAtDesc(String userId, TodoStatus status, Pageable pageable);
 
     /**
-     * Trouve les Todos en retard pour un utilisateur
+     * Première page keyset des Todos d'un utilisateur (sans COUNT)
+     */
+    List<TodoJpaEntity> findByUserIdOrderByCreatedAtDescIdDesc(String userId, Pageable pageable);
+
+    /**
+     * Page keyset suivante : reprend strictement après (createdAt, id).
+     * La borne redondante createdAt <= :createdAt permet un seek sur l'index.
+     */
+    @Query("SELECT t FROM TodoJpaEntity t WHERE t.userId = :userId " +
+           "AND t.createdAt <= :createdAt " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TodoJpaEntity> findByUserIdAfter(@Param("userId") String userId,
+                                          @Param("createdAt") Instant createdAt,
+                                          @Param("id") String id,
+                                          Pageable pageable);
+
+    /**
+     * Première page keyset des Todos d'un utilisateur par statut (sans COUNT)
+     */
+    List<TodoJpaEntity> findByUserIdAndStatusOrderByCreatedAtDescIdDesc(String userId, TodoStatus status, Pageable pageable);
+
+    /**
+     * Page keyset suivante des Todos d'un utilisateur par statut
+     */
+    @Query("SELECT t FROM TodoJpaEntity t WHERE t.userId = :userId AND t.status = :status " +
+           "AND t.createdAt <= :createdAt " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TodoJpaEntity> findByUserIdAndStatusAfter(@Param("userId") String userId,
+                                                   @Param("status") TodoStatus status,
+                                                   @Param("createdAt") Instant createdAt,
+                                                   @Param("id") String id,
+                                                   Pageable pageable);
+
+    /**
+     * Trouve les Todos en retard pour un utilisateur.
+     * Le filtre de statut littéral correspond au prédicat de l'index partiel idx_todos_user_overdue_created.
      */
     @Query("SELECT t FROM TodoJpaEntity t WHERE t.userId = :userId " +
            "AND t.dueDate < :currentTime " +
-           "AND t.status IN ('PENDING', 'IN_PROGRESS')")
+           "AND t.status IN ('PENDING', 'IN_PROGRESS') " +
+           "ORDER BY t.dueDate ASC, t.createdAt DESC")
     List<TodoJpaEntity> findOverdueTodosByUserId(@Param("userId") String userId,
                                                  @Param("currentTime") Instant currentTime);
 
     /**
      * Trouve les Todos avec date d'échéance dans une période
      */
-    List<TodoJpaEntity> findByUserIdAndDueDateBetweenOrderByDueDateAsc(String userId, Instant from, Instant to);
+    List<TodoJpaEntity> findByUserIdAndDueDateBetweenOrderByDueDateAscCreatedAtDesc(String userId, Instant from, Instant to);
+
+    /**
+     * Parcourt tous les Todos d'un utilisateur via un curseur JDBC.
+     * Le fetch size borne le nombre de lignes chargées par aller-retour (PostgreSQL ne
+     * l'applique qu'à l'intérieur d'une transaction) ; le Stream doit être fermé.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TodoJpaEntity t WHERE t.userId = :userId ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<TodoJpaEntity> streamByUserId(@Param("userId") String userId);
+
+    /**
+     * Parcourt les identifiants de tous les Todos via un curseur JDBC, sans charger
+     * les entités ; le Stream doit être consommé dans une transaction puis fermé.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id FROM TodoJpaEntity t")
+    Stream<String> streamAllIds();
+
+    /**
+     * Utilisateurs dont un Todo a été modifié depuis {@code since}, du plus récemment
+     * actif au moins récent (préchauffage du cache au démarrage)
+     */
+    @Query("SELECT t.userId FROM TodoJpaEntity t WHERE t.updatedAt >= :since " +
+           "GROUP BY t.userId ORDER BY MAX(t.updatedAt) DESC")
+    List<String> findRecentlyActiveUserIds(@Param("since") Instant since, Pageable pageable);
 
     /**
      * Compte les Todos par utilisateur et statut
      */
     long countByUserIdAndStatus(String userId, TodoStatus status);
 
+    /**
+     * Compte les Todos actifs (PENDING ou IN_PROGRESS) d'un utilisateur, en une requête.
+     * Sert uniquement à initialiser le compteur d'un utilisateur.
+     */
+    @Query("SELECT COUNT(t) FROM TodoJpaEntity t WHERE t.userId = :userId " +
+           "AND t.status IN (com.example.todo.domain.model.TodoStatus.PENDING, com.example.todo.domain.model.TodoStatus.IN_PROGRESS)")
+    long countActiveByUserId(@Param("userId") String userId);
+
+    /**
+     * Statistiques d'un utilisateur en un seul parcours de ses Todos.
+     * Agrégats conditionnels COUNT(CASE ...) : équivalent portable de COUNT(*) FILTER (WHERE ...),
+     * le paramètre typé dans une clause FILTER n'étant pas rendu correctement pour H2.
+     */
+    @Query("SELECT COUNT(t) AS total, " +
+           "COUNT(CASE WHEN t.status = com.example.todo.domain.model.TodoStatus.PENDING THEN 1 END) AS pending, " +
+           "COUNT(CASE WHEN t.status = com.example.todo.domain.model.TodoStatus.IN_PROGRESS THEN 1 END) AS inProgress, " +
+           "COUNT(CASE WHEN t.status = com.example.todo.domain.model.TodoStatus.COMPLETED THEN 1 END) AS completed, " +
+           "COUNT(CASE WHEN t.status = com.example.todo.domain.model.TodoStatus.CANCELLED THEN 1 END) AS cancelled, " +
+           "COUNT(CASE WHEN t.priorityLevel = 1 THEN 1 END) AS priority1, " +
+           "COUNT(CASE WHEN t.priorityLevel = 2 THEN 1 END) AS priority2, " +
+           "COUNT(CASE WHEN t.priorityLevel = 3 THEN 1 END) AS priority3, " +
+           "COUNT(CASE WHEN t.priorityLevel = 4 THEN 1 END) AS priority4, " +
+           "COUNT(CASE WHEN t.dueDate < :now " +
+           "    AND t.status IN (com.example.todo.domain.model.TodoStatus.PENDING, com.example.todo.domain.model.TodoStatus.IN_PROGRESS) THEN 1 END) AS overdue, " +
+           "COUNT(CASE WHEN t.dueDate BETWEEN :windowStart AND :now THEN 1 END) AS dueInWindow, " +
+           "COUNT(CASE WHEN t.dueDate BETWEEN :windowStart AND :now " +
+           "    AND t.status = com.example.todo.domain.model.TodoStatus.COMPLETED THEN 1 END) AS completedInWindow " +
+           "FROM TodoJpaEntity t WHERE t.userId = :userId")
+    Tuple computeStatistics(@Param("userId") String userId,
+                            @Param("now") Instant now,
+                            @Param("windowStart") Instant windowStart);
+
     /**
      * Supprime tous les Todos d'un utilisateur
      */
@@ -1,6 +1,13 @@
 package com.example.todo.infrastructure.persistence;
 
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoStatistics;
+import com.example.todo.domain.model.TodoStatus;
+import jakarta.persistence.Tuple;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * TodoMapper
@@ -34,4 +41,37 @@ public class TodoMapper {
     public static Todo toDomainEntity(TodoJpaEntity entity) {
         return entity.toDomain();
     }
+
+    /**
+     * Convertit la ligne d'agrégats de TodoJpaRepository.computeStatistics
+     *
+     * @param row ligne de résultat
+     * @return statistiques du domaine
+     */
+    public static TodoStatistics toStatistics(Tuple row) {
+        Map<TodoStatus, Long> byStatus = new EnumMap<>(TodoStatus.class);
+        byStatus.put(TodoStatus.PENDING, count(row, "pending"));
+        byStatus.put(TodoStatus.IN_PROGRESS, count(row, "inProgress"));
+        byStatus.put(TodoStatus.COMPLETED, count(row, "completed"));
+        byStatus.put(TodoStatus.CANCELLED, count(row, "cancelled"));
+
+        Map<Integer, Long> byPriorityLevel = new HashMap<>();
+        for (int level = 1; level <= 4; level++) {
+            byPriorityLevel.put(level, count(row, "priority" + level));
+        }
+
+        return new TodoStatistics(
+            count(row, "total"),
+            byStatus,
+            byPriorityLevel,
+            count(row, "overdue"),
+            count(row, "dueInWindow"),
+            count(row, "completedInWindow")
+        );
+    }
+
+    private static long count(Tuple row, String alias) {
+        Object value = row.get(alias);
+        return value == null ? 0L : ((Number) value).longValue();
+    }
 }
@@ -0,0 +1,80 @@
+package com.example.todo.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * TodoOutboxJpaEntity
+ *
+ * Entité JPA d'un événement du domaine en attente de relais (table todo_outbox).
+ * L'identifiant, attribué par la base dans l'ordre des insertions, fixe l'ordre
+ * de relais ; delivered_at reste nul jusqu'au relais.
+ *
+ * @author Todo Team
+ */
+@Entity
+@Table(name = "todo_outbox", indexes = {
+    @Index(name = "idx_todo_outbox_delivered_at", columnList = "delivered_at")
+})
+public class TodoOutboxJpaEntity {
+
+    // Attribué par la base (BIGSERIAL) à l'insertion, pas au commit : croissant au sein
+    // d'une transaction, mais deux transactions concurrentes, même sur un Todo, peuvent
+    // valider dans l'ordre inverse de leurs identifiants. Les insertions passent par
+    // JdbcDomainEventOutbox, l'entité ne sert qu'à la lecture par le relais
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false, length = 36)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "occurred_on", nullable = false)
+    private Instant occurredOn;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "delivered_at")
+    private Instant deliveredAt;
+
+    // Constructeur par défaut pour JPA
+    protected TodoOutboxJpaEntity() {}
+
+    public TodoOutboxJpaEntity(String aggregateId, String eventType, String payload,
+                               Instant occurredOn, Instant createdAt) {
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredOn = occurredOn;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+
+    public String getAggregateId() { return aggregateId; }
+
+    public String getEventType() { return eventType; }
+
+    public String getPayload() { return payload; }
+
+    public Instant getOccurredOn() { return occurredOn; }
+
+    public Instant getCreatedAt() { return createdAt; }
+
+    public Instant getDeliveredAt() { return deliveredAt; }
+}
@@ -0,0 +1,61 @@
+package com.example.todo.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * TodoOutboxJpaRepository
+ *
+ * Repository Spring Data JPA de la boîte d'envoi des événements du domaine.
+ *
+ * @author Todo Team
+ */
+@Repository
+public interface TodoOutboxJpaRepository extends JpaRepository<TodoOutboxJpaEntity, Long> {
+
+    /**
+     * Verrouille le prochain lot d'événements non relayés, dans l'ordre d'insertion.
+     * SKIP LOCKED : les lignes déjà prises par un autre relais sont ignorées au lieu
+     * d'être attendues, plusieurs nœuds relaient donc des lots disjoints.
+     */
+    @Query(value = "SELECT * FROM todo_outbox WHERE delivered_at IS NULL " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<TodoOutboxJpaEntity> lockPendingBatch(@Param("limit") int limit);
+
+    /**
+     * Marque un lot d'événements comme relayé
+     */
+    @Modifying
+    @Query("UPDATE TodoOutboxJpaEntity e SET e.deliveredAt = :deliveredAt WHERE e.id IN :ids")
+    int markDelivered(@Param("ids") Collection<Long> ids, @Param("deliveredAt") Instant deliveredAt);
+
+    /**
+     * Nombre d'événements non relayés
+     */
+    long countByDeliveredAtIsNull();
+
+    /**
+     * Date d'enregistrement du plus ancien événement non relayé (null si aucun)
+     */
+    @Query("SELECT MIN(e.createdAt) FROM TodoOutboxJpaEntity e WHERE e.deliveredAt IS NULL")
+    Instant findOldestPendingCreatedAt();
+
+    /**
+     * Supprime un lot d'événements relayés avant une date
+     *
+     * @return nombre de lignes supprimées
+     */
+    @Modifying
+    @Query(value = "DELETE FROM todo_outbox WHERE id IN (" +
+                   "SELECT id FROM todo_outbox WHERE delivered_at < :before ORDER BY id LIMIT :limit)",
+           nativeQuery = true)
+    int deleteDeliveredBefore(@Param("before") Instant before, @Param("limit") int limit);
+}
@@ -1,22 +1,40 @@
 package com.example.todo.infrastructure.persistence;
 
 import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.domain.events.TodoCreatedEvent;
+import com.example.todo.domain.events.TodoStatusChangedEvent;
 import com.example.todo.domain.model.Todo;
 import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoStatistics;
 import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.domain.repository.ActiveTodoCounter;
+import com.example.todo.domain.repository.DomainEventOutbox;
 import com.example.todo.domain.repository.TodoRepository;
+import com.example.todo.domain.specification.Specification;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import com.example.todo.domain.model.PageRequest;
 import com.example.todo.domain.model.PageResult;
+import com.example.todo.domain.model.CursorPageResult;
+import com.example.todo.domain.model.PageCursor;
 import org.springframework.stereotype.Repository;
 import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * TodoRepositoryImpl
@@ -29,6 +47,12 @@ import java.util.Optional;
  * - Domain Events Publishing : Publication automatique des événements
  * - Adapter Pattern : Adaptation entre les interfaces
  *
+ * Les compteurs de Todos actifs sont ajustés à partir des événements du domaine,
+ * dans la même transaction que l'écriture des Todos. Les événements sont enregistrés
+ * dans la boîte d'envoi (todo_outbox) de cette même transaction, fusionnés par
+ * agrégat avant le commit, puis relayés aux gestionnaires après le commit. Les
+ * compteurs sont ajustés sur les événements bruts, avant toute fusion.
+ *
  * @author Todo Team
  */
 @Repository
@@ -38,11 +62,21 @@ public class TodoRepositoryImpl implements TodoRepository {
     private static final Logger logger = LoggerFactory.getLogger(TodoRepositoryImpl.class);
 
     private final TodoJpaRepository jpaRepository;
-    private final ApplicationEventPublisher eventPublisher;
-
-    public TodoRepositoryImpl(TodoJpaRepository jpaRepository, ApplicationEventPublisher eventPublisher) {
+    private final DomainEventOutbox domainEventOutbox;
+    private final EntityManager entityManager;
+    private final ActiveTodoCounter activeTodoCounter;
+    private final int batchSize;
+
+    public TodoRepositoryImpl(TodoJpaRepository jpaRepository,
+                              DomainEventOutbox domainEventOutbox,
+                              EntityManager entityManager,
+                              ActiveTodoCounter activeTodoCounter,
+                              @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}") int batchSize) {
         this.jpaRepository = jpaRepository;
-        this.eventPublisher = eventPublisher;
+        this.domainEventOutbox = domainEventOutbox;
+        this.entityManager = entityManager;
+        this.activeTodoCounter = activeTodoCounter;
+        this.batchSize = Math.max(1, batchSize);
     }
 
     @Override
@@ -52,20 +86,70 @@ public class TodoRepositoryImpl implements TodoRepository {
         // Conversion vers l'entité JPA
         TodoJpaEntity entity = TodoJpaEntity.fromDomain(todo);
 
-        // Sauvegarde
+        // Sauvegarde (persist direct pour un nouveau Todo, merge sinon)
         TodoJpaEntity savedEntity = jpaRepository.save(entity);
+        todo.markAsPersisted();
 
         // Conversion vers le domaine
         Todo savedTodo = savedEntity.toDomain();
 
-        // Publication des événements du domaine
-        publishDomainEvents(todo);
+        // Mise à jour du compteur de Todos actifs puis publication des événements du domaine
+        List<DomainEvent> events = todo.getAndClearDomainEvents();
+        activeTodoCounter.adjust(todo.getUserId(), activeCountDelta(events));
+        publishDomainEvents(events);
 
         logger.debug("Todo saved successfully with id: {}", savedTodo.getId());
 
         return savedTodo;
     }
 
+    /**
+     * Sauvegarde un lot de Todos avec batching JDBC
+     *
+     * Le lot est traité par tranches de {@code hibernate.jdbc.batch_size} : les nouveaux
+     * Todos sont persistés sans SELECT préalable, une seule requête IN charge les lignes
+     * des Todos reconstruits de la tranche, puis la tranche est flushée (INSERT/UPDATE
+     * en lots) et le contexte de persistance vidé pour borner la mémoire.
+     * Les événements du domaine sont publiés en une passe, après toutes les écritures.
+     *
+     * Attention : le contexte de persistance est vidé, les entités gérées par
+     * l'appelant dans la même transaction sont détachées.
+     */
+    @Override
+    @Transactional
+    public List<Todo> saveAll(Collection<Todo> todos) {
+        logger.debug("Saving batch of {} todos with batch size {}", todos.size(), batchSize);
+
+        List<Todo> batch = List.copyOf(todos);
+        List<Todo> savedTodos = new ArrayList<>(batch.size());
+
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            List<Todo> chunk = batch.subList(from, Math.min(from + batchSize, batch.size()));
+            List<TodoJpaEntity> written = writeChunk(chunk);
+
+            entityManager.flush();
+            written.forEach(entity -> savedTodos.add(entity.toDomain()));
+            entityManager.clear();
+        }
+
+        // Compteurs ajustés une fois par utilisateur, puis publication des événements
+        // du domaine en une seule passe, après le flush
+        Map<String, Long> activeCountDeltas = new LinkedHashMap<>();
+        List<DomainEvent> events = new ArrayList<>();
+        for (Todo todo : batch) {
+            todo.markAsPersisted();
+            List<DomainEvent> todoEvents = todo.getAndClearDomainEvents();
+            activeCountDeltas.merge(todo.getUserId(), activeCountDelta(todoEvents), Long::sum);
+            events.addAll(todoEvents);
+        }
+        activeCountDeltas.forEach(activeTodoCounter::adjust);
+        publishDomainEvents(events);
+
+        logger.debug("Batch of {} todos saved successfully", savedTodos.size());
+
+        return savedTodos;
+    }
+
     @Override
     public Optional<Todo> findById(TodoId id) {
         logger.debug("Finding todo by id: {}", id);
@@ -74,6 +158,19 @@ public class TodoRepositoryImpl implements TodoRepository {
             .map(TodoJpaEntity::toDomain);
     }
 
+    @Override
+    public List<Todo> findAllByIds(Collection<TodoId> ids) {
+        logger.debug("Finding {} todos by id", ids.size());
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // Une seule requête WHERE id IN (...)
+        return jpaRepository.findAllById(ids.stream().map(TodoId::value).toList()).stream()
+            .map(TodoJpaEntity::toDomain)
+            .toList();
+    }
+
     @Override
     public PageResult<Todo> findByUserId(String userId, PageRequest pageRequest) {
         logger.debug("Finding todos by userId: {} with pageRequest: {}", userId, pageRequest);
@@ -84,6 +181,46 @@ public class TodoRepositoryImpl implements TodoRepository {
         return new PageResult<>(content, page.getNumber(), page.getSize(), page.getTotalElements());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResult<Todo> findAll(String userId, Specification<Todo> specification, PageRequest pageRequest) {
+        logger.debug("Finding todos by userId: {} matching: {} with pageRequest: {}", userId, specification, pageRequest);
+
+        TodoSpecificationTranslator.Translation translation = TodoSpecificationTranslator.translate(specification);
+        var where = TodoSpecificationTranslator.belongsTo(userId).and(translation.predicate());
+
+        if (translation.exact()) {
+            Pageable pageable = org.springframework.data.domain.PageRequest.of(
+                pageRequest.getPageNumber(), pageRequest.getPageSize(), TodoSpecificationTranslator.DEFAULT_SORT);
+            Page<TodoJpaEntity> page = jpaRepository.findAll(where, pageable);
+            var content = page.map(TodoJpaEntity::toDomain).getContent();
+            return new PageResult<>(content, page.getNumber(), page.getSize(), page.getTotalElements());
+        }
+
+        // Repli : parcours des lignes préfiltrées et évaluation en mémoire, seule la page est conservée
+        logger.debug("Specification not fully translatable, evaluating in memory for userId: {}", userId);
+        long offset = (long) pageRequest.getPageNumber() * pageRequest.getPageSize();
+        List<Todo> content = new ArrayList<>(pageRequest.getPageSize());
+        long total = 0;
+
+        try (Stream<TodoJpaEntity> rows = jpaRepository.findBy(where,
+                query -> query.sortBy(TodoSpecificationTranslator.DEFAULT_SORT).stream())) {
+            for (TodoJpaEntity entity : (Iterable<TodoJpaEntity>) rows::iterator) {
+                entityManager.detach(entity);
+                Todo todo = entity.toDomain();
+                if (!specification.isSatisfiedBy(todo)) {
+                    continue;
+                }
+                if (total >= offset && content.size() < pageRequest.getPageSize()) {
+                    content.add(todo);
+                }
+                total++;
+            }
+        }
+
+        return new PageResult<>(content, pageRequest.getPageNumber(), pageRequest.getPageSize(), total);
+    }
+
     @Override
     public PageResult<Todo> findByUserIdAndStatus(String userId, TodoStatus status, PageRequest pageRequest) {
         logger.debug("Finding todos by userId: {} and status: {} with pageRequest: {}", userId, status, pageRequest);
@@ -94,6 +231,41 @@ public class TodoRepositoryImpl implements TodoRepository {
         return new PageResult<>(content, page.getNumber(), page.getSize(), page.getTotalElements());
     }
 
+    @Override
+    public CursorPageResult<Todo> findByUserIdAfter(String userId, PageCursor after, int pageSize) {
+        logger.debug("Finding todos by userId: {} after cursor: {} with pageSize: {}", userId, after, pageSize);
+
+        // Une ligne de plus que la page pour savoir s'il existe une page suivante
+        Pageable limit = org.springframework.data.domain.PageRequest.of(0, pageSize + 1);
+        List<TodoJpaEntity> rows = after == null
+            ? jpaRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+            : jpaRepository.findByUserIdAfter(userId, after.createdAt(), after.id().value(), limit);
+        return toCursorPage(rows, pageSize);
+    }
+
+    @Override
+    public CursorPageResult<Todo> findByUserIdAndStatusAfter(String userId, TodoStatus status, PageCursor after, int pageSize) {
+        logger.debug("Finding todos by userId: {} and status: {} after cursor: {} with pageSize: {}", userId, status, after, pageSize);
+
+        Pageable limit = org.springframework.data.domain.PageRequest.of(0, pageSize + 1);
+        List<TodoJpaEntity> rows = after == null
+            ? jpaRepository.findByUserIdAndStatusOrderByCreatedAtDescIdDesc(userId, status, limit)
+            : jpaRepository.findByUserIdAndStatusAfter(userId, status, after.createdAt(), after.id().value(), limit);
+        return toCursorPage(rows, pageSize);
+    }
+
+    @Override
+    public Stream<Todo> streamByUserId(String userId) {
+        logger.debug("Streaming todos for userId: {}", userId);
+
+        // Chaque entité est détachée après conversion : le contexte de persistance reste vide
+        return jpaRepository.streamByUserId(userId)
+            .map(entity -> {
+                entityManager.detach(entity);
+                return entity.toDomain();
+            });
+    }
+
     @Override
     public List<Todo> findOverdueTodosByUserId(String userId, Instant currentTime) {
         logger.debug("Finding overdue todos for userId: {} at time: {}", userId, currentTime);
@@ -108,7 +280,7 @@ public class TodoRepositoryImpl implements TodoRepository {
     public List<Todo> findByUserIdAndDueDateBetween(String userId, Instant from, Instant to) {
         logger.debug("Finding todos by userId: {} between {} and {}", userId, from, to);
 
-        return jpaRepository.findByUserIdAndDueDateBetweenOrderByDueDateAsc(userId, from, to)
+        return jpaRepository.findByUserIdAndDueDateBetweenOrderByDueDateAscCreatedAtDesc(userId, from, to)
             .stream()
             .map(TodoJpaEntity::toDomain)
             .toList();
@@ -121,6 +293,13 @@ public class TodoRepositoryImpl implements TodoRepository {
         return jpaRepository.countByUserIdAndStatus(userId, status);
     }
 
+    @Override
+    public TodoStatistics getStatistics(String userId, Instant now, Instant windowStart) {
+        logger.debug("Computing statistics for userId: {} at {} since {}", userId, now, windowStart);
+
+        return TodoMapper.toStatistics(jpaRepository.computeStatistics(userId, now, windowStart));
+    }
+
     @Override
     public boolean existsById(TodoId id) {
         logger.debug("Checking existence of todo with id: {}", id);
@@ -132,7 +311,12 @@ public class TodoRepositoryImpl implements TodoRepository {
     public void deleteById(TodoId id) {
         logger.debug("Deleting todo with id: {}", id);
 
-        jpaRepository.deleteById(id.value());
+        jpaRepository.findById(id.value()).ifPresent(entity -> {
+            if (!entity.getStatus().isFinal()) {
+                activeTodoCounter.adjust(entity.getUserId(), -1);
+            }
+            jpaRepository.delete(entity);
+        });
     }
 
     @Override
@@ -140,21 +324,78 @@ public class TodoRepositoryImpl implements TodoRepository {
         logger.debug("Deleting all todos for userId: {}", userId);
 
         jpaRepository.deleteByUserId(userId);
+        activeTodoCounter.reset(userId);
     }
 
     /**
-     * Publie les événements du domaine via Spring's ApplicationEventPublisher
-     *
-     * @param todo agrégat contenant les événements
+     * Écrit une tranche : persist pour les nouveaux Todos, merge pour les existants
+     * (déjà chargés dans le contexte, donc sans SELECT supplémentaire)
      */
-    private void publishDomainEvents(Todo todo) {
-        List<DomainEvent> events = todo.getAndClearDomainEvents();
+    private List<TodoJpaEntity> writeChunk(List<Todo> chunk) {
+        Set<String> ids = chunk.stream()
+            .filter(todo -> !todo.isNew())
+            .map(todo -> todo.getId().value())
+            .collect(Collectors.toSet());
+        Set<String> existingIds = ids.isEmpty()
+            ? new HashSet<>()
+            : jpaRepository.findAllById(ids).stream()
+                .map(TodoJpaEntity::getId)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<TodoJpaEntity> written = new ArrayList<>(chunk.size());
+        for (Todo todo : chunk) {
+            TodoJpaEntity entity = TodoJpaEntity.fromDomain(todo);
+            if (existingIds.contains(entity.getId())) {
+                written.add(entityManager.merge(entity));
+            } else {
+                entityManager.persist(entity);
+                existingIds.add(entity.getId());
+                written.add(entity);
+            }
+        }
+        return written;
+    }
 
+    /**
+     * Construit une page keyset à partir de pageSize + 1 lignes
+     */
+    private CursorPageResult<Todo> toCursorPage(List<TodoJpaEntity> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Todo> content = rows.stream()
+            .limit(pageSize)
+            .map(TodoJpaEntity::toDomain)
+            .toList();
+        String nextCursor = hasNext ? PageCursor.after(content.get(content.size() - 1)).encode() : null;
+        return new CursorPageResult<>(content, pageSize, nextCursor);
+    }
+
+    /**
+     * Variation du nombre de Todos actifs induite par les événements d'un agrégat
+     */
+    static long activeCountDelta(List<DomainEvent> events) {
+        long delta = 0;
+        for (DomainEvent event : events) {
+            switch (event) {
+                case TodoCreatedEvent created -> delta++;
+                case TodoStatusChangedEvent changed ->
+                    delta += (changed.newStatus().isFinal() ? 0 : 1) - (changed.previousStatus().isFinal() ? 0 : 1);
+                default -> { }
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Enregistre les événements du domaine dans la boîte d'envoi, dans la transaction
+     * de l'écriture : ils ne sont relayés qu'après son commit
+     *
+     * @param events événements à publier
+     */
+    private void publishDomainEvents(List<DomainEvent> events) {
         for (DomainEvent event : events) {
             logger.debug("Publishing domain event: {} for aggregate: {}",
                         event.getEventType(), event.getAggregateId());
-
-            eventPublisher.publishEvent(event);
         }
+        domainEventOutbox.append(events);
     }
 }
@@ -0,0 +1,128 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.specification.AndSpecification;
+import com.example.todo.domain.specification.NotSpecification;
+import com.example.todo.domain.specification.OrSpecification;
+import com.example.todo.domain.specification.PrioritySpecification;
+import com.example.todo.domain.specification.StatusSpecification;
+import com.example.todo.domain.specification.TemporalSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+
+/**
+ * TodoSpecificationTranslator
+ *
+ * Traduit une spécification du domaine en Specification JPA (prédicat Criteria),
+ * afin que le filtrage soit exécuté par la base de données.
+ *
+ * Une feuille non reconnue (lambda arbitraire) n'est pas traduisible : la traduction
+ * fournit alors un prédicat plus large (ou aucun prédicat) et n'est pas exacte ;
+ * l'appelant doit réévaluer la spécification en mémoire sur les lignes retournées.
+ *
+ * @author Todo Team
+ */
+final class TodoSpecificationTranslator {
+
+    /**
+     * Tri des recherches par spécification, servi par l'index (user_id, created_at)
+     */
+    static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private static final Translation UNTRANSLATABLE = new Translation(null, false);
+
+    private TodoSpecificationTranslator() {
+        // Utility class
+    }
+
+    /**
+     * Résultat d'une traduction
+     *
+     * @param predicate prédicat JPA, au moins aussi large que la spécification (null : aucun filtre)
+     * @param exact true si le prédicat équivaut exactement à la spécification
+     */
+    record Translation(Specification<TodoJpaEntity> predicate, boolean exact) {
+    }
+
+    /**
+     * Restreint la recherche aux Todos d'un utilisateur
+     */
+    static Specification<TodoJpaEntity> belongsTo(String userId) {
+        return (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+
+    /**
+     * Traduit une spécification du domaine
+     *
+     * @param specification spécification composée
+     * @return traduction exacte, ou préfiltre à compléter en mémoire
+     */
+    static Translation translate(com.example.todo.domain.specification.Specification<Todo> specification) {
+        return switch (specification) {
+            case AndSpecification<Todo>(var left, var right) -> and(translate(left), translate(right));
+            case OrSpecification<Todo>(var left, var right) -> or(translate(left), translate(right));
+            case NotSpecification<Todo>(var negated) -> not(translate(negated));
+            case StatusSpecification status -> exact((root, query, cb) -> status.statuses().isEmpty()
+                ? cb.disjunction()
+                : root.get("status").in(status.statuses()));
+            case PrioritySpecification priority -> exact((root, query, cb) ->
+                cb.equal(root.get("priorityLevel"), priority.level()));
+            case TemporalSpecification temporal -> exact((root, query, cb) ->
+                compare(cb, root.get(attributeName(temporal.attribute())), temporal));
+            default -> UNTRANSLATABLE;
+        };
+    }
+
+    private static Translation exact(Specification<TodoJpaEntity> predicate) {
+        return new Translation(predicate, true);
+    }
+
+    private static Translation and(Translation left, Translation right) {
+        // Chaque côté restreint le résultat : un côté non traduisible est simplement omis
+        Specification<TodoJpaEntity> predicate = left.predicate() == null ? right.predicate()
+            : right.predicate() == null ? left.predicate()
+            : left.predicate().and(right.predicate());
+        return new Translation(predicate, left.exact() && right.exact());
+    }
+
+    private static Translation or(Translation left, Translation right) {
+        // Un côté sans prédicat accepte tout : la disjonction n'est plus filtrable
+        if (left.predicate() == null || right.predicate() == null) {
+            return UNTRANSLATABLE;
+        }
+        return new Translation(left.predicate().or(right.predicate()), left.exact() && right.exact());
+    }
+
+    private static Translation not(Translation negated) {
+        // La négation d'un préfiltre élargi n'en est pas un
+        if (!negated.exact()) {
+            return UNTRANSLATABLE;
+        }
+        return exact(Specification.not(negated.predicate()));
+    }
+
+    private static Predicate compare(CriteriaBuilder cb, Expression<Instant> value, TemporalSpecification temporal) {
+        Instant instant = temporal.instant();
+        Predicate comparison = switch (temporal.comparison()) {
+            case BEFORE -> cb.lessThan(value, instant);
+            case NOT_BEFORE -> cb.greaterThanOrEqualTo(value, instant);
+            case AFTER -> cb.greaterThan(value, instant);
+            case NOT_AFTER -> cb.lessThanOrEqualTo(value, instant);
+        };
+        // Comparaison jamais NULL : une négation garde alors la sémantique de l'évaluation en mémoire
+        return cb.and(cb.isNotNull(value), comparison);
+    }
+
+    private static String attributeName(TemporalSpecification.Attribute attribute) {
+        return switch (attribute) {
+            case DUE_DATE -> "dueDate";
+            case CREATED_AT -> "createdAt";
+            case UPDATED_AT -> "updatedAt";
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.todo.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * UserTodoCounterInitializer
+ *
+ * Crée le compteur d'un utilisateur qui n'en a pas encore, à partir des Todos
+ * déjà validés en base. S'exécute dans sa propre transaction pour que la ligne
+ * soit visible (et verrouillable) par toutes les transactions concurrentes ;
+ * les Todos non validés de la transaction appelante ne sont donc pas comptés,
+ * c'est à l'appelant d'appliquer ensuite ses propres deltas.
+ *
+ * {@code @Repository} et non {@code @Component} : l'échec de la clé primaire, levé
+ * par le flush, est ainsi traduit en {@link org.springframework.dao.DataIntegrityViolationException}
+ * à la sortie de la méthode, que l'appelant peut intercepter.
+ *
+ * La transaction propre occupe une seconde connexion du pool pendant la première
+ * création d'un utilisateur, la transaction appelante gardant la sienne : avec
+ * N connexions, au plus N/2 premières créations simultanées sont servies sans
+ * attente de connexion.
+ *
+ * @author Todo Team
+ */
+@Repository
+public class UserTodoCounterInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserTodoCounterInitializer.class);
+
+    private final TodoJpaRepository todoJpaRepository;
+    private final EntityManager entityManager;
+
+    public UserTodoCounterInitializer(TodoJpaRepository todoJpaRepository, EntityManager entityManager) {
+        this.todoJpaRepository = todoJpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Insère le compteur initial ; échoue sur la clé primaire si une transaction
+     * concurrente l'a créé entre-temps
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void initialize(String userId) {
+        long activeCount = todoJpaRepository.countActiveByUserId(userId);
+
+        logger.debug("Initializing active todo counter for user: {} at {}", userId, activeCount);
+
+        // persist (et non save/merge) : une ligne existante ne doit jamais être écrasée
+        entityManager.persist(new UserTodoCounterJpaEntity(userId, activeCount));
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.todo.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * UserTodoCounterJpaEntity
+ *
+ * Entité JPA du compteur de Todos actifs d'un utilisateur.
+ * Les mises à jour passent par des requêtes UPDATE relatives (active_count + delta)
+ * pour rester correctes sous concurrence.
+ *
+ * @author Todo Team
+ */
+@Entity
+@Table(name = "user_todo_counters")
+public class UserTodoCounterJpaEntity {
+
+    @Id
+    @Column(name = "user_id", length = 100)
+    private String userId;
+
+    @Column(name = "active_count", nullable = false)
+    private long activeCount;
+
+    // Constructeur par défaut pour JPA
+    protected UserTodoCounterJpaEntity() {}
+
+    public UserTodoCounterJpaEntity(String userId, long activeCount) {
+        this.userId = userId;
+        this.activeCount = activeCount;
+    }
+
+    public String getUserId() { return userId; }
+
+    public long getActiveCount() { return activeCount; }
+}
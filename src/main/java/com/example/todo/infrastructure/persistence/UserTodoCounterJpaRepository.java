@@ -0,0 +1,51 @@
+package com.example.todo.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * UserTodoCounterJpaRepository
+ *
+ * Repository Spring Data JPA des compteurs de Todos actifs.
+ *
+ * @author Todo Team
+ */
+@Repository
+public interface UserTodoCounterJpaRepository extends JpaRepository<UserTodoCounterJpaEntity, String> {
+
+    /**
+     * Lit le compteur en posant un verrou de ligne jusqu'à la fin de la transaction
+     * (requête native : la valeur n'est pas mise en cache dans le contexte de persistance)
+     */
+    @Query(value = "SELECT active_count FROM user_todo_counters WHERE user_id = :userId FOR UPDATE",
+           nativeQuery = true)
+    Optional<Long> lockActiveCount(@Param("userId") String userId);
+
+    /**
+     * Lit le compteur sans verrou
+     */
+    @Query("SELECT c.activeCount FROM UserTodoCounterJpaEntity c WHERE c.userId = :userId")
+    Optional<Long> findActiveCount(@Param("userId") String userId);
+
+    /**
+     * Applique un delta au compteur
+     *
+     * @return nombre de lignes mises à jour (0 si le compteur n'existe pas encore)
+     */
+    @Modifying
+    @Query("UPDATE UserTodoCounterJpaEntity c SET c.activeCount = c.activeCount + :delta WHERE c.userId = :userId")
+    int adjust(@Param("userId") String userId, @Param("delta") long delta);
+
+    /**
+     * Remet le compteur à zéro. La ligne est conservée : la supprimer obligerait
+     * une initialisation concurrente à attendre la fin de cette transaction.
+     */
+    @Modifying
+    @Query("UPDATE UserTodoCounterJpaEntity c SET c.activeCount = 0 WHERE c.userId = :userId")
+    int reset(@Param("userId") String userId);
+}
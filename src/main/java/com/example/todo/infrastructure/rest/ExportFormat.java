@@ -0,0 +1,50 @@
+package com.example.todo.infrastructure.rest;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * ExportFormat
+ *
+ * Formats supportés par l'export des Todos.
+ *
+ * @author Todo Team
+ */
+public enum ExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(new MediaType("text", "csv", java.nio.charset.StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Résout un format à partir du paramètre de requête (insensible à la casse)
+     *
+     * @param value valeur du paramètre
+     * @return format correspondant
+     * @throws IllegalArgumentException si le format n'est pas supporté
+     */
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equals(value.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value);
+    }
+}
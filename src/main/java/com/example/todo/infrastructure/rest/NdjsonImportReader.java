@@ -0,0 +1,78 @@
+package com.example.todo.infrastructure.rest;
+
+import com.example.todo.application.dto.CreateTodoCommand;
+import com.example.todo.application.dto.ImportLine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * NdjsonImportReader
+ *
+ * Lit un flux NDJSON ligne par ligne et le présente comme une suite de lignes d'import.
+ * Une ligne illisible produit une ligne invalide au lieu d'interrompre la lecture ;
+ * les lignes vides sont ignorées.
+ *
+ * @author Todo Team
+ */
+class NdjsonImportReader implements Iterator<ImportLine> {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long lineNumber;
+    private ImportLine next;
+
+    NdjsonImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectReader = objectMapper.readerFor(CreateTodoCommand.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readLine();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportLine line = next;
+        next = null;
+        return line;
+    }
+
+    private ImportLine readLine() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+            } while (line != null && line.isBlank());
+
+            if (line == null) {
+                return null;
+            }
+            return parse(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ImportLine parse(String line) {
+        try {
+            return ImportLine.of(lineNumber, objectReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return ImportLine.invalid(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+}
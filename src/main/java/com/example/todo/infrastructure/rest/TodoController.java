@@ -2,8 +2,10 @@ package com.example.todo.infrastructure.rest;
 
 import com.example.todo.application.dto.CreateTodoCommand;
 import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.application.dto.TodoStatisticsResponse;
 import com.example.todo.application.dto.UpdateTodoCommand;
 import com.example.todo.application.usecase.*;
+import com.example.todo.domain.model.CursorPageResult;
 import com.example.todo.domain.model.TodoStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,6 +23,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * TodoController
  *
@@ -43,23 +47,29 @@ public class TodoController {
 
     private final CreateTodoUseCase createTodoUseCase;
     private final GetTodoUseCase getTodoUseCase;
+    private final GetTodosUseCase getTodosUseCase;
     private final UpdateTodoUseCase updateTodoUseCase;
     private final CompleteTodoUseCase completeTodoUseCase;
     private final ListTodosUseCase listTodosUseCase;
     private final DeleteTodoUseCase deleteTodoUseCase;
+    private final GetTodoStatisticsUseCase getTodoStatisticsUseCase;
 
     public TodoController(CreateTodoUseCase createTodoUseCase,
                          GetTodoUseCase getTodoUseCase,
+                         GetTodosUseCase getTodosUseCase,
                          UpdateTodoUseCase updateTodoUseCase,
                          CompleteTodoUseCase completeTodoUseCase,
                          ListTodosUseCase listTodosUseCase,
-                         DeleteTodoUseCase deleteTodoUseCase) {
+                         DeleteTodoUseCase deleteTodoUseCase,
+                         GetTodoStatisticsUseCase getTodoStatisticsUseCase) {
         this.createTodoUseCase = createTodoUseCase;
         this.getTodoUseCase = getTodoUseCase;
+        this.getTodosUseCase = getTodosUseCase;
         this.updateTodoUseCase = updateTodoUseCase;
         this.completeTodoUseCase = completeTodoUseCase;
         this.listTodosUseCase = listTodosUseCase;
         this.deleteTodoUseCase = deleteTodoUseCase;
+        this.getTodoStatisticsUseCase = getTodoStatisticsUseCase;
     }
 
     @Operation(
@@ -120,6 +130,61 @@ public class TodoController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+        summary = "Lister les Todos par curseur",
+        description = "Liste les Todos de l'utilisateur par pagination par curseur (pagination=cursor). " +
+                      "Le curseur opaque nextCursor de la réponse permet d'obtenir la page suivante."
+    )
+    @ApiResponse(responseCode = "200", description = "Page de Todos")
+    @ApiResponse(responseCode = "400", description = "Curseur ou taille de page invalide")
+    @ApiResponse(responseCode = "401", description = "Non authentifié")
+    @GetMapping(params = "pagination=cursor")
+    public ResponseEntity<CursorPageResult<TodoResponse>> listTodosWithCursor(
+            @Parameter(description = "Filtre par statut (optionnel)") @RequestParam(required = false) TodoStatus status,
+            @Parameter(description = "Curseur de la page précédente (absent pour la première page)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Taille de la page (1-100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) @RequestHeader("X-User-ID") String userId) {
+        logger.debug("Listing todos with cursor for user: {} with status: {}", userId, status);
+
+        CursorPageResult<TodoResponse> response = status != null
+            ? listTodosUseCase.executeByStatusWithCursor(userId, status, cursor, size)
+            : listTodosUseCase.executeWithCursor(userId, cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+        summary = "Récupérer plusieurs Todos",
+        description = "Récupère jusqu'à 100 Todos par leurs identifiants (ids=id1,id2,...), dans l'ordre demandé. " +
+                      "Les identifiants inconnus ou d'un autre utilisateur sont omis de la réponse."
+    )
+    @ApiResponse(responseCode = "200", description = "Todos trouvés")
+    @ApiResponse(responseCode = "400", description = "Liste d'identifiants vide, trop longue ou invalide")
+    @ApiResponse(responseCode = "401", description = "Non authentifié")
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<TodoResponse>> getTodos(
+            @Parameter(description = "Identifiants des Todos, séparés par des virgules") @RequestParam List<String> ids,
+            @Parameter(hidden = true) @RequestHeader("X-User-ID") String userId) {
+        logger.debug("Getting {} todos for user: {}", ids.size(), userId);
+
+        return ResponseEntity.ok(getTodosUseCase.execute(ids, userId));
+    }
+
+    @Operation(
+        summary = "Statistiques des Todos",
+        description = "Comptes par statut et par priorité, retards, taux de complétion et score de productivité " +
+                      "de l'utilisateur, calculés en une seule requête"
+    )
+    @ApiResponse(responseCode = "200", description = "Statistiques de l'utilisateur")
+    @ApiResponse(responseCode = "401", description = "Non authentifié")
+    @GetMapping("/statistics")
+    public ResponseEntity<TodoStatisticsResponse> getStatistics(
+            @Parameter(hidden = true) @RequestHeader("X-User-ID") String userId) {
+        logger.debug("Getting statistics for user: {}", userId);
+
+        return ResponseEntity.ok(getTodoStatisticsUseCase.execute(userId));
+    }
+
     @Operation(
         summary = "Mettre à jour un Todo",
         description = "Met à jour un Todo existant (mise à jour partielle supportée)"
@@ -0,0 +1,88 @@
+package com.example.todo.infrastructure.rest;
+
+import com.example.todo.application.usecase.ExportTodosUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * TodoExportController
+ *
+ * Contrôleur REST pour l'export des Todos d'un utilisateur.
+ * Les lignes sont écrites directement sur le flux de la réponse au fil de la
+ * lecture du curseur : la mémoire reste constante quel que soit le volume.
+ *
+ * @author Todo Team
+ */
+@RestController
+@RequestMapping("/api/v1/todos")
+@Tag(name = "Todos", description = "API de gestion des Todos")
+public class TodoExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoExportController.class);
+
+    private final ExportTodosUseCase exportTodosUseCase;
+    private final ObjectMapper objectMapper;
+
+    public TodoExportController(ExportTodosUseCase exportTodosUseCase, ObjectMapper objectMapper) {
+        this.exportTodosUseCase = exportTodosUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(
+        summary = "Exporter les Todos",
+        description = "Exporte tous les Todos de l'utilisateur en flux NDJSON (une ligne JSON par Todo) ou CSV"
+    )
+    @ApiResponse(responseCode = "200", description = "Flux d'export")
+    @ApiResponse(responseCode = "400", description = "Format non supporté")
+    @ApiResponse(responseCode = "401", description = "Non authentifié")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(
+            @Parameter(description = "Format d'export : ndjson ou csv") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(hidden = true) @RequestHeader("X-User-ID") String userId) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        logger.info("Exporting todos for user: {} as {}", userId, exportFormat);
+
+        // Le corps est écrit après le retour du contrôleur ; la transaction de lecture
+        // est ouverte par le use case dans le thread d'écriture
+        StreamingResponseBody body = out -> {
+            try (TodoExportWriter writer = TodoExportWriter.create(exportFormat, out, objectMapper)) {
+                exportTodosUseCase.execute(userId, todo -> {
+                    try {
+                        writer.write(todo);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("todos." + exportFormat.extension())
+                .build()
+                .toString())
+            .body(body);
+    }
+}
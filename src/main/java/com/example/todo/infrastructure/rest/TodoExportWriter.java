@@ -0,0 +1,138 @@
+package com.example.todo.infrastructure.rest;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * TodoExportWriter
+ *
+ * Écrit les Todos exportés ligne par ligne sur un flux de sortie.
+ * Seul le tampon d'écriture est conservé en mémoire ; close() vide le tampon
+ * sans fermer le flux sous-jacent, qui appartient au conteneur de servlets.
+ *
+ * @author Todo Team
+ */
+abstract class TodoExportWriter implements AutoCloseable {
+
+    /**
+     * Crée l'écrivain correspondant au format demandé
+     */
+    static TodoExportWriter create(ExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(out, objectMapper);
+            case CSV -> new CsvWriter(out);
+        };
+    }
+
+    abstract void write(TodoResponse todo) throws IOException;
+
+    @Override
+    public abstract void close() throws IOException;
+
+    /**
+     * Un objet JSON par ligne, avec le même mapping Jackson que l'API
+     */
+    private static final class NdjsonWriter extends TodoExportWriter {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter objectWriter;
+
+        private NdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+            // Pas de flush par ligne : le tampon du générateur est vidé lorsqu'il est plein
+            this.objectWriter = objectMapper.writerFor(TodoResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        void write(TodoResponse todo) throws IOException {
+            objectWriter.writeValue(generator, todo);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * CSV RFC 4180 avec ligne d'en-tête
+     */
+    private static final class CsvWriter extends TodoExportWriter {
+
+        private static final String HEADER =
+            "id,title,description,status,priority,dueDate,userId,createdAt,updatedAt,completedAt,overdue";
+
+        private final Writer writer;
+
+        private CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.writer.write(HEADER);
+            this.writer.write("\r\n");
+        }
+
+        @Override
+        void write(TodoResponse todo) throws IOException {
+            writer.write(todo.id());
+            writer.write(',');
+            writer.write(escape(todo.title()));
+            writer.write(',');
+            writer.write(escape(todo.description()));
+            writer.write(',');
+            writer.write(todo.status().name());
+            writer.write(',');
+            writer.write(escape(todo.priority().name()));
+            writer.write(',');
+            writer.write(format(todo.dueDate()));
+            writer.write(',');
+            writer.write(escape(todo.userId()));
+            writer.write(',');
+            writer.write(format(todo.createdAt()));
+            writer.write(',');
+            writer.write(format(todo.updatedAt()));
+            writer.write(',');
+            writer.write(format(todo.completedAt()));
+            writer.write(',');
+            writer.write(Boolean.toString(todo.overdue()));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+
+        private static String format(Instant instant) {
+            return instant != null ? instant.toString() : "";
+        }
+
+        /**
+         * Entoure de guillemets les valeurs contenant un séparateur, un guillemet ou un saut de ligne
+         */
+        static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+        }
+    }
+}
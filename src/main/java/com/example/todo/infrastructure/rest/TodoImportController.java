@@ -0,0 +1,66 @@
+package com.example.todo.infrastructure.rest;
+
+import com.example.todo.application.dto.ImportReport;
+import com.example.todo.application.usecase.ImportTodosUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TodoImportController
+ *
+ * Contrôleur REST pour l'import en masse de Todos au format NDJSON.
+ * Le corps de la requête est lu au fil de l'eau, sans être chargé en mémoire.
+ *
+ * @author Todo Team
+ */
+@RestController
+@RequestMapping("/api/v1/todos")
+@Tag(name = "Todos", description = "API de gestion des Todos")
+public class TodoImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoImportController.class);
+
+    private final ImportTodosUseCase importTodosUseCase;
+    private final ObjectMapper objectMapper;
+
+    public TodoImportController(ImportTodosUseCase importTodosUseCase, ObjectMapper objectMapper) {
+        this.importTodosUseCase = importTodosUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(
+        summary = "Importer des Todos",
+        description = "Importe des Todos au format NDJSON (une commande de création JSON par ligne). " +
+                      "Les lignes invalides sont rejetées individuellement et listées dans le rapport."
+    )
+    @ApiResponse(responseCode = "200", description = "Rapport d'import")
+    @ApiResponse(responseCode = "401", description = "Non authentifié")
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "application/json"})
+    public ResponseEntity<ImportReport> importTodos(
+            InputStream body,
+            @Parameter(hidden = true) @RequestHeader("X-User-ID") String userId) throws IOException {
+
+        logger.info("Importing todos for user: {}", userId);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            ImportReport report = importTodosUseCase.execute(userId, new NdjsonImportReader(reader, objectMapper));
+            return ResponseEntity.ok(report);
+        }
+    }
+}
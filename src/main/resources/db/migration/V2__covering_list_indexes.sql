@@ -0,0 +1,36 @@
+-- =================================================================
+-- Todo DDD Application Database Migration
+-- Version: V2__covering_list_indexes.sql
+-- Description: Index composites (user_id, ..., created_at DESC) alignés sur
+--              les requêtes du repository et suppression des index redondants
+-- =================================================================
+
+-- Liste paginée (offset et keyset) :
+--   WHERE user_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_todos_user_created ON todos(user_id, created_at DESC, id DESC);
+
+-- Liste par statut (offset et keyset) et comptage par statut (index-only scan) :
+--   WHERE user_id = ? AND status = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_todos_user_status_created ON todos(user_id, status, created_at DESC, id DESC);
+
+-- Échéances dans une période :
+--   WHERE user_id = ? AND due_date BETWEEN ? AND ? ORDER BY due_date, created_at DESC
+CREATE INDEX idx_todos_user_due_created ON todos(user_id, due_date, created_at DESC)
+    WHERE due_date IS NOT NULL;
+
+-- Todos en retard (le prédicat partiel reprend le filtre littéral de la requête) :
+--   WHERE user_id = ? AND due_date < ? AND status IN ('PENDING', 'IN_PROGRESS') ORDER BY due_date, created_at DESC
+CREATE INDEX idx_todos_user_overdue_created ON todos(user_id, due_date, created_at DESC)
+    WHERE status IN ('PENDING', 'IN_PROGRESS') AND due_date IS NOT NULL;
+
+-- Index couverts par les index composites ci-dessus (préfixe user_id)
+-- ou jamais utilisés seuls (status, priority_level, created_at global) :
+-- chacun coûtait une écriture supplémentaire par INSERT.
+DROP INDEX IF EXISTS idx_todos_user_id;
+DROP INDEX IF EXISTS idx_todos_status;
+DROP INDEX IF EXISTS idx_todos_user_status;
+DROP INDEX IF EXISTS idx_todos_due_date;
+DROP INDEX IF EXISTS idx_todos_created_at;
+DROP INDEX IF EXISTS idx_todos_priority;
+DROP INDEX IF EXISTS idx_todos_user_status_due;
+DROP INDEX IF EXISTS idx_todos_overdue;
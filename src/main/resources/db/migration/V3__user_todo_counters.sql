@@ -0,0 +1,18 @@
+-- =================================================================
+-- Version: V3__user_todo_counters.sql
+-- Description: Compteurs de Todos actifs par utilisateur
+-- =================================================================
+
+-- Nombre de Todos PENDING ou IN_PROGRESS par utilisateur, maintenu par
+-- l'application dans la même transaction que les Todos. Remplace les deux
+-- COUNT par statut du contrôle de quota à la création.
+CREATE TABLE user_todo_counters (
+    user_id VARCHAR(100) NOT NULL PRIMARY KEY,
+    active_count BIGINT NOT NULL DEFAULT 0
+);
+
+-- Initialisation à partir des Todos existants
+INSERT INTO user_todo_counters (user_id, active_count)
+SELECT user_id, COUNT(*) FILTER (WHERE status IN ('PENDING', 'IN_PROGRESS'))
+FROM todos
+GROUP BY user_id;
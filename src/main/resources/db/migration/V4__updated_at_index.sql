@@ -0,0 +1,11 @@
+-- =================================================================
+-- Todo DDD Application Database Migration
+-- Version: V4__updated_at_index.sql
+-- Description: Index sur la date de modification pour le préchauffage du cache
+-- =================================================================
+
+-- Utilisateurs récemment actifs (préchauffage au démarrage) :
+--   WHERE updated_at >= ? GROUP BY user_id ORDER BY MAX(updated_at) DESC
+-- L'index borne le parcours aux Todos modifiés dans la fenêtre ; user_id inclus
+-- pour un index-only scan.
+CREATE INDEX idx_todos_updated_user ON todos(updated_at DESC, user_id);
@@ -0,0 +1,25 @@
+-- =================================================================
+-- Todo DDD Application Database Migration
+-- Version: V5__todo_outbox.sql
+-- Description: Boîte d'envoi (outbox) des événements du domaine
+-- =================================================================
+
+-- Un événement sérialisé en JSON par ligne, inséré dans la transaction qui écrit
+-- le Todo ; delivered_at est renseigné par le relais une fois l'événement publié.
+CREATE TABLE todo_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_on TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    delivered_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Lots du relais :
+--   WHERE delivered_at IS NULL ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED
+-- L'index partiel ne contient que les événements en attente et reste petit.
+CREATE INDEX idx_todo_outbox_pending ON todo_outbox(id) WHERE delivered_at IS NULL;
+
+-- Purge des événements relayés : WHERE delivered_at < ?
+CREATE INDEX idx_todo_outbox_delivered_at ON todo_outbox(delivered_at);
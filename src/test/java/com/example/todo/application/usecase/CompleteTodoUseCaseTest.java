@@ -5,6 +5,8 @@ import com.example.todo.domain.model.Todo;
 import com.example.todo.domain.model.TodoId;
 import com.example.todo.domain.model.TodoPriority;
 import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.TodoIdFilter;
 import com.example.todo.domain.repository.TodoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +21,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,13 +38,20 @@ class CompleteTodoUseCaseTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private CacheVersionPort cacheVersionPort;
+
+    @Mock
+    private TodoIdFilter todoIdFilter;
+
     private CompleteTodoUseCase useCase;
 
     private static final String USER_ID = "user123";
 
     @BeforeEach
     void setUp() {
-        useCase = new CompleteTodoUseCase(todoRepository);
+        useCase = new CompleteTodoUseCase(todoRepository, cacheVersionPort, todoIdFilter);
+        lenient().when(todoIdFilter.mightExist(any(TodoId.class))).thenReturn(true);
     }
 
     @Test
@@ -67,6 +78,7 @@ class CompleteTodoUseCaseTest {
         assertThat(result.title()).isEqualTo(title);
         verify(todoRepository).findById(any(TodoId.class));
         verify(todoRepository).save(any(Todo.class));
+        verify(cacheVersionPort).bump(USER_ID);
     }
 
     @Test
@@ -84,6 +96,21 @@ class CompleteTodoUseCaseTest {
         verify(todoRepository).findById(any(TodoId.class));
     }
 
+    @Test
+    @DisplayName("Should reject ids unknown to the id filter without reading the repository")
+    void shouldRejectUnknownIdsWithoutReadingRepository() {
+        // Given
+        String todoId = TodoId.generate().value();
+        when(todoIdFilter.mightExist(any(TodoId.class))).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(todoId, USER_ID))
+            .isInstanceOf(TodoNotFoundException.class)
+            .hasMessageContaining("Todo not found");
+
+        verify(todoRepository, never()).findById(any(TodoId.class));
+    }
+
     @Test
     @DisplayName("Should throw exception when user does not own the todo")
     void shouldThrowExceptionWhenUserDoesNotOwnTheTodo() {
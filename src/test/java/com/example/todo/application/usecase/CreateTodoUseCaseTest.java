@@ -4,6 +4,8 @@ import com.example.todo.application.dto.CreateTodoCommand;
 import com.example.todo.application.dto.TodoResponse;
 import com.example.todo.domain.model.Todo;
 import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.TodoIdFilter;
 import com.example.todo.domain.repository.TodoRepository;
 import com.example.todo.domain.service.TodoDomainService;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,13 +37,19 @@ class CreateTodoUseCaseTest {
     @Mock
     private TodoDomainService todoDomainService;
 
+    @Mock
+    private CacheVersionPort cacheVersionPort;
+
+    @Mock
+    private TodoIdFilter todoIdFilter;
+
     private CreateTodoUseCase useCase;
 
     private static final String USER_ID = "user123";
 
     @BeforeEach
     void setUp() {
-        useCase = new CreateTodoUseCase(todoRepository, todoDomainService);
+        useCase = new CreateTodoUseCase(todoRepository, todoDomainService, cacheVersionPort, todoIdFilter);
     }
 
     @Test
@@ -79,6 +87,8 @@ class CreateTodoUseCaseTest {
 
         verify(todoDomainService).canCreateNewTodo(USER_ID);
         verify(todoRepository).save(any(Todo.class));
+        verify(todoIdFilter).add(expectedTodo.getId());
+        verify(cacheVersionPort).bump(USER_ID);
     }
 
     @Test
@@ -101,5 +111,6 @@ class CreateTodoUseCaseTest {
 
         verify(todoDomainService).canCreateNewTodo(USER_ID);
         verify(todoRepository, never()).save(any());
+        verify(cacheVersionPort, never()).bump(any());
     }
 }
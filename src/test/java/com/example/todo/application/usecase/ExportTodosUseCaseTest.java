@@ -0,0 +1,77 @@
+package com.example.todo.application.usecase;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour ExportTodosUseCase
+ *
+ * @author Todo Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Export Todos Use Case")
+class ExportTodosUseCaseTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    private ExportTodosUseCase useCase;
+
+    private static final String USER_ID = "user123";
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ExportTodosUseCase(todoRepository);
+    }
+
+    @Test
+    @DisplayName("Should pass every todo to the sink and close the stream")
+    void shouldPassEveryTodoToTheSinkAndCloseTheStream() {
+        // Given
+        Todo first = Todo.create("First", null, TodoPriority.NORMAL, null, USER_ID);
+        Todo second = Todo.create("Second", null, TodoPriority.HIGH, null, USER_ID);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(todoRepository.streamByUserId(USER_ID))
+            .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        List<TodoResponse> exported = new ArrayList<>();
+
+        // When
+        long count = useCase.execute(USER_ID, exported::add);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).extracting(TodoResponse::title).containsExactly("First", "Second");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should close the stream when the sink fails")
+    void shouldCloseTheStreamWhenTheSinkFails() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(todoRepository.streamByUserId(USER_ID))
+            .thenReturn(Stream.of(Todo.create("First", null, TodoPriority.NORMAL, null, USER_ID))
+                .onClose(() -> closed.set(true)));
+
+        // When & Then
+        assertThatThrownBy(() -> useCase.execute(USER_ID, todo -> { throw new IllegalStateException("client gone"); }))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(closed).isTrue();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.todo.application.usecase;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.repository.BatchCachePort;
+import com.example.todo.domain.repository.TodoIdFilter;
+import com.example.todo.domain.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour GetTodosUseCase
+ *
+ * @author Todo Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Get Todos Use Case")
+class GetTodosUseCaseTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoIdFilter todoIdFilter;
+
+    @Mock
+    private BatchCachePort batchCachePort;
+
+    private GetTodosUseCase useCase;
+
+    private static final String USER_ID = "user123";
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetTodosUseCase(todoRepository, todoIdFilter, batchCachePort);
+        lenient().when(todoIdFilter.mightExist(any(TodoId.class))).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should serve cached todos and load only the misses in one query")
+    void shouldLoadOnlyMisses() {
+        // Given
+        TodoResponse cached = TodoResponse.from(todo(USER_ID));
+        Todo missing = todo(USER_ID);
+        when(batchCachePort.getAll(eq("todos"), anyCollection()))
+            .thenReturn(Map.of(USER_ID + ":" + cached.id(), cached));
+        when(todoRepository.findAllByIds(List.of(missing.getId()))).thenReturn(List.of(missing));
+
+        // When
+        List<TodoResponse> todos = useCase.execute(List.of(missing.getId().value(), cached.id()), USER_ID);
+
+        // Then - dans l'ordre demandé, le Todo chargé est enregistré dans le cache
+        assertThat(todos).extracting(TodoResponse::id).containsExactly(missing.getId().value(), cached.id());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, ?>> backfill = ArgumentCaptor.forClass(Map.class);
+        verify(batchCachePort).putAllIfAbsent(eq("todos"), backfill.capture());
+        assertThat(backfill.getValue()).containsOnlyKeys(USER_ID + ":" + missing.getId().value());
+    }
+
+    @Test
+    @DisplayName("Should omit todos owned by another user")
+    void shouldOmitTodosOfAnotherUser() {
+        // Given
+        Todo own = todo(USER_ID);
+        Todo foreign = todo("otherUser");
+        when(batchCachePort.getAll(eq("todos"), anyCollection())).thenReturn(Map.of());
+        when(todoRepository.findAllByIds(anyCollection())).thenReturn(List.of(own, foreign));
+
+        // When
+        List<TodoResponse> todos = useCase.execute(List.of(own.getId().value(), foreign.getId().value()), USER_ID);
+
+        // Then
+        assertThat(todos).extracting(TodoResponse::id).containsExactly(own.getId().value());
+    }
+
+    @Test
+    @DisplayName("Should not look up ids rejected by the id filter")
+    void shouldSkipRejectedIds() {
+        // Given
+        String unknownId = TodoId.generate().value();
+        when(todoIdFilter.mightExist(TodoId.of(unknownId))).thenReturn(false);
+
+        // When
+        List<TodoResponse> todos = useCase.execute(List.of(unknownId), USER_ID);
+
+        // Then
+        assertThat(todos).isEmpty();
+        verify(batchCachePort, never()).getAll(any(), anyCollection());
+        verify(todoRepository, never()).findAllByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty or oversized id list")
+    void shouldRejectInvalidIdLists() {
+        assertThatThrownBy(() -> useCase.execute(List.of(), USER_ID))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        List<String> tooMany = Collections.nCopies(GetTodosUseCase.MAX_IDS + 1, "")
+            .stream().map(ignored -> TodoId.generate().value()).toList();
+        assertThatThrownBy(() -> useCase.execute(tooMany, USER_ID))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Todo todo(String userId) {
+        return Todo.create("Todo", "Description", TodoPriority.NORMAL, Instant.now().plusSeconds(86400), userId);
+    }
+}
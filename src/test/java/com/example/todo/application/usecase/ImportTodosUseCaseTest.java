@@ -0,0 +1,187 @@
+package com.example.todo.application.usecase;
+
+import com.example.todo.application.dto.CreateTodoCommand;
+import com.example.todo.application.dto.ImportLine;
+import com.example.todo.application.dto.ImportReport;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.repository.ActiveTodoCounter;
+import com.example.todo.domain.repository.BatchCachePort;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.MetricsPort;
+import com.example.todo.domain.repository.TodoBulkLoader;
+import com.example.todo.domain.repository.TodoIdFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour ImportTodosUseCase
+ *
+ * @author Todo Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Import Todos Use Case")
+class ImportTodosUseCaseTest {
+
+    @Mock
+    private TodoBulkLoader todoBulkLoader;
+
+    @Mock
+    private ActiveTodoCounter activeTodoCounter;
+
+    @Mock
+    private MetricsPort metrics;
+
+    @Mock
+    private CacheVersionPort cacheVersionPort;
+
+    @Mock
+    private BatchCachePort batchCachePort;
+
+    @Mock
+    private TodoIdFilter todoIdFilter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private static final String USER_ID = "user123";
+
+    @Test
+    @DisplayName("Should insert valid lines in chunks and report invalid ones")
+    void shouldInsertValidLinesInChunksAndReportInvalidOnes() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        List<List<Todo>> chunks = new ArrayList<>();
+        when(todoBulkLoader.load(any())).thenAnswer(invocation -> {
+            Collection<Todo> chunk = invocation.getArgument(0);
+            chunks.add(List.copyOf(chunk));
+            return (long) chunk.size();
+        });
+        List<ImportLine> lines = List.of(
+            ImportLine.of(1, command("First")),
+            ImportLine.of(2, command("  ")),
+            ImportLine.of(3, command("Second")),
+            ImportLine.invalid(4, "Malformed JSON"),
+            ImportLine.of(5, command("Third"))
+        );
+
+        // When
+        ImportReport report = useCase(2, 10).execute(USER_ID, lines.iterator());
+
+        // Then
+        assertThat(report.imported()).isEqualTo(3);
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(report.errors()).extracting(ImportReport.LineError::line).containsExactly(2L, 4L);
+        assertThat(report.errorsTruncated()).isFalse();
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0)).extracting(Todo::getTitle).containsExactly("First", "Second");
+        assertThat(chunks.get(1)).extracting(Todo::getTitle).containsExactly("Third");
+        assertThat(chunks.get(0)).allSatisfy(todo -> {
+            assertThat(todo.getUserId()).isEqualTo(USER_ID);
+            assertThat(todo.getAndClearDomainEvents()).isEmpty();
+        });
+        verify(metrics).incrementTodosImported(2);
+        verify(metrics).incrementTodosImported(1);
+        verify(activeTodoCounter).adjust(USER_ID, 2);
+        verify(activeTodoCounter).adjust(USER_ID, 1);
+        verify(todoIdFilter).addAll(chunks.get(0).stream().map(Todo::getId).toList());
+        verify(todoIdFilter).addAll(chunks.get(1).stream().map(Todo::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should invalidate the user caches within each chunk transaction")
+    void shouldInvalidateTheUserCachesWithinEachChunkTransaction() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(todoBulkLoader.load(any()))
+            .thenReturn(2L)
+            .thenThrow(new IllegalStateException("connection lost"));
+        List<ImportLine> lines = List.of(
+            ImportLine.of(1, command("First")),
+            ImportLine.of(2, command("Second")),
+            ImportLine.of(3, command("Third"))
+        );
+
+        // When
+        assertThatThrownBy(() -> useCase(2, 10).execute(USER_ID, lines.iterator()))
+            .isInstanceOf(IllegalStateException.class);
+
+        // Then
+        InOrder firstChunk = inOrder(transactionManager, cacheVersionPort, batchCachePort);
+        firstChunk.verify(transactionManager).getTransaction(any());
+        firstChunk.verify(cacheVersionPort).bump(USER_ID);
+        firstChunk.verify(batchCachePort).evictAll("statistics", List.of(USER_ID));
+        firstChunk.verify(transactionManager).commit(any());
+        verify(cacheVersionPort, times(1)).bump(USER_ID);
+        verify(batchCachePort, times(1)).evictAll("statistics", List.of(USER_ID));
+    }
+
+    @Test
+    @DisplayName("Should reject the lines of a chunk refused by the database")
+    void shouldRejectTheLinesOfAChunkRefusedByTheDatabase() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(todoBulkLoader.load(any()))
+            .thenThrow(new DataIntegrityViolationException("duplicate"))
+            .thenReturn(1L);
+        List<ImportLine> lines = List.of(
+            ImportLine.of(1, command("First")),
+            ImportLine.of(2, command("Second")),
+            ImportLine.of(3, command("Third"))
+        );
+
+        // When
+        ImportReport report = useCase(2, 10).execute(USER_ID, lines.iterator());
+
+        // Then
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(report.errors()).extracting(ImportReport.LineError::line).containsExactly(1L, 2L);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should cap the number of reported errors")
+    void shouldCapTheNumberOfReportedErrors() {
+        // Given
+        var lines = IntStream.rangeClosed(1, 5)
+            .mapToObj(i -> ImportLine.invalid(i, "Malformed JSON"))
+            .iterator();
+
+        // When
+        ImportReport report = useCase(2, 3).execute(USER_ID, lines);
+
+        // Then
+        assertThat(report.rejected()).isEqualTo(5);
+        assertThat(report.errors()).hasSize(3);
+        assertThat(report.errorsTruncated()).isTrue();
+        verify(todoBulkLoader, never()).load(any());
+        verifyNoInteractions(cacheVersionPort, batchCachePort);
+    }
+
+    private ImportTodosUseCase useCase(int chunkSize, int maxReportedErrors) {
+        return new ImportTodosUseCase(todoBulkLoader, activeTodoCounter, metrics, cacheVersionPort, batchCachePort, todoIdFilter, transactionManager, chunkSize, maxReportedErrors);
+    }
+
+    private CreateTodoCommand command(String title) {
+        return new CreateTodoCommand(title, null, TodoPriority.NORMAL, Instant.now().plus(1, ChronoUnit.DAYS));
+    }
+}
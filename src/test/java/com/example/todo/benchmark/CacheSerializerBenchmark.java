@@ -0,0 +1,86 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.domain.model.PageResult;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.infrastructure.cache.TodoCacheValueSerializer;
+import com.example.todo.infrastructure.config.JacksonConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark des sérialiseurs de valeurs du cache Redis
+ *
+ * Compare le JSON (GenericJackson2JsonRedisSerializer, configuration Jackson de
+ * l'application) au format binaire compact, sans et avec compression, sur une page
+ * de 20 Todos, en écriture et en lecture. La taille des charges utiles est affichée au démarrage de l'essai.
+ *
+ * Lancement : exécuter {@link #main(String[])} depuis le classpath de test.
+ *
+ * @author Todo Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"json", "binary", "binary-deflate"})
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+    private PageResult<TodoResponse> page;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        serializer = switch (format) {
+            case "json" -> new GenericJackson2JsonRedisSerializer(new JacksonConfig().objectMapper());
+            case "binary" -> new TodoCacheValueSerializer(Integer.MAX_VALUE);
+            case "binary-deflate" -> new TodoCacheValueSerializer(512);
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+
+        Instant dueDate = Instant.now().plus(14, ChronoUnit.DAYS);
+        List<TodoResponse> todos = IntStream.range(0, PAGE_SIZE)
+            .mapToObj(i -> TodoResponse.from(Todo.create("Cached todo " + i, "Benchmark description " + i,
+                                                         TodoPriority.NORMAL, dueDate, "bench-user")))
+            .toList();
+        page = new PageResult<>(todos, 0, PAGE_SIZE, 240);
+        payload = serializer.serialize(page);
+        System.out.printf("%n[%s] payload size: %d bytes%n", format, payload.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(payload);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(CacheSerializerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
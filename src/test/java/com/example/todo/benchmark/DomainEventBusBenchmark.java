@@ -0,0 +1,134 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.domain.events.TodoCompletedEvent;
+import com.example.todo.domain.events.TodoCreatedEvent;
+import com.example.todo.domain.events.TodoStatusChangedEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.infrastructure.events.DomainEventBus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark du coût de publication d'un événement du domaine
+ *
+ * Compare {@code ApplicationEventPublisher.publishEvent} (résolution des
+ * {@code @EventListener} par type, enveloppe PayloadApplicationEvent) au
+ * {@link DomainEventBus} (tableau de gestionnaires précalculé, appels directs), dans
+ * le thread de publication, avec les trois gestionnaires typés de TodoEventHandler
+ * réduits à un compteur : seul le coût de la diffusion est mesuré.
+ *
+ * Lancement : exécuter {@link #main(String[])} depuis le classpath de test.
+ *
+ * @author Todo Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainEventBusBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private CountingListener springListener;
+    private DomainEventBus bus;
+    private long busDeliveries;
+    private DomainEvent[] events;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        context = new AnnotationConfigApplicationContext(ListenerConfig.class);
+        springListener = context.getBean(CountingListener.class);
+
+        bus = DomainEventBus.builder()
+            .subscribe(TodoCreatedEvent.class, event -> busDeliveries++)
+            .subscribe(TodoCompletedEvent.class, event -> busDeliveries++)
+            .subscribe(TodoStatusChangedEvent.class, event -> busDeliveries++)
+            .build();
+
+        // Création, démarrage, complétion : les trois types d'événements
+        List<DomainEvent> sample = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Todo todo = Todo.create("Todo " + i, "Benchmark description", TodoPriority.NORMAL, null, "bench-user");
+            todo.start();
+            todo.complete();
+            sample.addAll(todo.getAndClearDomainEvents());
+        }
+        events = sample.toArray(DomainEvent[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        System.out.printf("%nDeliveries - spring: %d, bus: %d%n", springListener.deliveries, busDeliveries);
+        context.close();
+    }
+
+    @Benchmark
+    public void applicationEventPublisher() {
+        context.publishEvent(nextEvent());
+    }
+
+    @Benchmark
+    public void domainEventBus() {
+        bus.publish(nextEvent());
+    }
+
+    private DomainEvent nextEvent() {
+        DomainEvent event = events[next];
+        next = next + 1 == events.length ? 0 : next + 1;
+        return event;
+    }
+
+    @Configuration
+    public static class ListenerConfig {
+
+        @Bean
+        public CountingListener countingListener() {
+            return new CountingListener();
+        }
+    }
+
+    /**
+     * Écouteurs Spring équivalents aux gestionnaires de TodoEventHandler, sans @Async
+     */
+    public static class CountingListener {
+
+        private long deliveries;
+
+        @EventListener
+        public void on(TodoCreatedEvent event) {
+            deliveries++;
+        }
+
+        @EventListener
+        public void on(TodoCompletedEvent event) {
+            deliveries++;
+        }
+
+        @EventListener
+        public void on(TodoStatusChangedEvent event) {
+            deliveries++;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(DomainEventBusBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
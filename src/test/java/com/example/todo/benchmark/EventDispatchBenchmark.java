@@ -0,0 +1,135 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.domain.events.TodoStatusChangedEvent;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.infrastructure.events.RingBufferEventDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark de la diffusion des événements du domaine aux gestionnaires
+ *
+ * Compare l'ancien chemin {@code @Async} (une tâche par événement sur un
+ * ThreadPoolTaskExecutor configuré comme l'ancien taskExecutor : 2 à 50 threads,
+ * file de 10 000) au {@link RingBufferEventDispatcher}. Chaque opération publie une
+ * salve d'événements depuis plusieurs threads et attend qu'ils soient tous traités ;
+ * le gestionnaire consomme un peu de CPU par événement, plus un coût fixe par appel
+ * (l'équivalent d'un aller-retour vers un système externe).
+ *
+ * Lancement : exécuter {@link #main(String[])} depuis le classpath de test.
+ *
+ * @author Todo Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventDispatchBenchmark {
+
+    private static final int EVENTS_PER_OPERATION = 10_000;
+
+    // Coût CPU par événement et par appel du gestionnaire
+    private static final long TOKENS_PER_EVENT = 50;
+    private static final long TOKENS_PER_CALL = 2_000;
+
+    @Param({"async-executor", "ring-buffer"})
+    private String dispatcher;
+
+    @Param({"1", "4"})
+    private int producers;
+
+    private final AtomicLong handled = new AtomicLong();
+    private List<DomainEvent> events;
+    private ThreadPoolTaskExecutor executor;
+    private RingBufferEventDispatcher ringBuffer;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        events = IntStream.range(0, EVENTS_PER_OPERATION)
+            .<DomainEvent>mapToObj(i -> new TodoStatusChangedEvent(TodoId.generate(), TodoStatus.PENDING,
+                                                                    TodoStatus.IN_PROGRESS, "bench-user", Instant.now()))
+            .toList();
+
+        switch (dispatcher) {
+            case "async-executor" -> {
+                executor = new ThreadPoolTaskExecutor();
+                executor.setCorePoolSize(2);
+                executor.setMaxPoolSize(50);
+                executor.setQueueCapacity(10000);
+                executor.setThreadNamePrefix("Bench-");
+                executor.initialize();
+            }
+            case "ring-buffer" -> {
+                ringBuffer = new RingBufferEventDispatcher(List.of(batch -> {
+                    Blackhole.consumeCPU(TOKENS_PER_CALL + TOKENS_PER_EVENT * batch.size());
+                    handled.addAndGet(batch.size());
+                }), 4096, 256, new SimpleMeterRegistry());
+                ringBuffer.start();
+            }
+            default -> throw new IllegalArgumentException("Unknown dispatcher: " + dispatcher);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        if (ringBuffer != null) {
+            ringBuffer.shutdown();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_OPERATION)
+    public void dispatch() throws InterruptedException {
+        long target = handled.get() + EVENTS_PER_OPERATION;
+        int share = EVENTS_PER_OPERATION / producers;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            List<DomainEvent> slice = events.subList(p * share, p == producers - 1 ? EVENTS_PER_OPERATION : (p + 1) * share);
+            threads[p] = new Thread(() -> slice.forEach(this::publish));
+            threads[p].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        while (handled.get() < target) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void publish(DomainEvent event) {
+        if (ringBuffer != null) {
+            ringBuffer.publish(event);
+            return;
+        }
+        executor.execute(() -> {
+            Blackhole.consumeCPU(TOKENS_PER_CALL + TOKENS_PER_EVENT);
+            handled.incrementAndGet();
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(EventDispatchBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.TodoApplication;
+import com.example.todo.application.dto.CreateTodoCommand;
+import com.example.todo.application.dto.ImportLine;
+import com.example.todo.application.dto.ImportReport;
+import com.example.todo.application.usecase.ImportTodosUseCase;
+import com.example.todo.domain.model.TodoPriority;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark du débit d'import en masse
+ *
+ * Démarre l'application (profil test, H2) une fois par essai et mesure le nombre
+ * de Todos importés par seconde selon la taille des tranches transactionnelles.
+ *
+ * Lancement : exécuter {@link #main(String[])} depuis le classpath de test.
+ *
+ * @author Todo Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TodoImportBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"100", "1000"})
+    private int chunkSize;
+
+    private ConfigurableApplicationContext context;
+    private ImportTodosUseCase importTodosUseCase;
+    private List<ImportLine> lines;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(TodoApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .properties("app.import.chunk-size=" + chunkSize,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+            .run();
+        importTodosUseCase = context.getBean(ImportTodosUseCase.class);
+
+        Instant dueDate = Instant.now().plus(30, ChronoUnit.DAYS);
+        lines = IntStream.rangeClosed(1, ROWS)
+            .mapToObj(i -> ImportLine.of(i, new CreateTodoCommand("Imported todo " + i, "Benchmark row " + i,
+                                                                  TodoPriority.NORMAL, dueDate)))
+            .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public ImportReport importTodos() {
+        return importTodosUseCase.execute("bench-" + UUID.randomUUID(), lines.iterator());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(TodoImportBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.todo.domain.events;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.model.TodoStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests de la fusion des événements du domaine
+ *
+ * @author Todo Team
+ */
+@DisplayName("Domain Event Coalescer Tests")
+class DomainEventCoalescerTest {
+
+    private static final String USER_ID = "user123";
+
+    private final DomainEventCoalescer coalescer = DomainEventCoalescer.forTodos();
+
+    @Test
+    @DisplayName("Should keep only the completion event of a completed todo")
+    void shouldKeepOnlyCompletionEvent() {
+        // Given - démarrage puis complétion : deux transitions et une complétion
+        Todo todo = persistedTodo();
+        todo.start();
+        todo.complete();
+        List<DomainEvent> events = todo.getAndClearDomainEvents();
+
+        // When
+        List<DomainEvent> coalesced = coalescer.coalesce(events);
+
+        // Then
+        assertThat(events).hasSize(3);
+        assertThat(coalesced).singleElement().isInstanceOf(TodoCompletedEvent.class);
+    }
+
+    @Test
+    @DisplayName("Should reduce successive status changes to the net transition")
+    void shouldReduceStatusChangesToNetTransition() {
+        // Given
+        Todo todo = persistedTodo();
+        todo.start();
+        todo.cancel();
+        List<DomainEvent> events = todo.getAndClearDomainEvents();
+
+        // When
+        List<DomainEvent> coalesced = coalescer.coalesce(events);
+
+        // Then
+        assertThat(coalesced).singleElement()
+            .isInstanceOfSatisfying(TodoStatusChangedEvent.class, changed -> {
+                assertThat(changed.previousStatus()).isEqualTo(TodoStatus.PENDING);
+                assertThat(changed.newStatus()).isEqualTo(TodoStatus.CANCELLED);
+                assertThat(changed.occurredOn()).isEqualTo(((TodoStatusChangedEvent) events.get(1)).occurredOn());
+            });
+    }
+
+    @Test
+    @DisplayName("Should drop a round trip back to the initial status")
+    void shouldDropRoundTripToInitialStatus() {
+        // Given
+        Todo todo = persistedTodo();
+        todo.start();
+        TodoStatusChangedEvent started = (TodoStatusChangedEvent) todo.getAndClearDomainEvents().get(0);
+        TodoStatusChangedEvent backToPending = new TodoStatusChangedEvent(todo.getId(), TodoStatus.IN_PROGRESS,
+                                                                          TodoStatus.PENDING, USER_ID,
+                                                                          started.occurredOn());
+
+        // When
+        List<DomainEvent> coalesced = coalescer.coalesce(List.of(started, backToPending));
+
+        // Then
+        assertThat(coalesced).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should coalesce each aggregate separately and remove duplicates")
+    void shouldCoalesceEachAggregateSeparately() {
+        // Given - deux Todos entrelacés, dont un événement répété
+        Todo first = Todo.create("First", "Description", TodoPriority.NORMAL, null, USER_ID);
+        Todo second = Todo.create("Second", "Description", TodoPriority.NORMAL, null, USER_ID);
+        DomainEvent firstCreated = first.getAndClearDomainEvents().get(0);
+        DomainEvent secondCreated = second.getAndClearDomainEvents().get(0);
+        first.start();
+        List<DomainEvent> events = new ArrayList<>(List.of(firstCreated, secondCreated, secondCreated));
+        events.addAll(first.getAndClearDomainEvents());
+
+        // When
+        List<DomainEvent> coalesced = coalescer.coalesce(events);
+
+        // Then
+        assertThat(coalesced).containsExactly(firstCreated, events.get(3), secondCreated);
+    }
+
+    private static Todo persistedTodo() {
+        Todo todo = Todo.create("Todo", "Description", TodoPriority.NORMAL, null, USER_ID);
+        todo.getAndClearDomainEvents();
+        return todo;
+    }
+}
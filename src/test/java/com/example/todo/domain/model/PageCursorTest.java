@@ -0,0 +1,54 @@
+package com.example.todo.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le curseur de pagination keyset
+ *
+ * @author Todo Team
+ */
+@DisplayName("Page Cursor")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip through its opaque encoding")
+    void shouldRoundTripThroughOpaqueEncoding() {
+        // Given
+        PageCursor cursor = new PageCursor(Instant.parse("2024-01-15T10:30:00.123456Z"), TodoId.generate());
+
+        // When
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should reject tampered cursors")
+    void shouldRejectTamperedCursors() {
+        // When & Then
+        assertThatThrownBy(() -> PageCursor.decode("not-a-cursor"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cursor");
+    }
+
+    @Test
+    @DisplayName("Should reject cursors whose instant overflows")
+    void shouldRejectOverflowingInstant() {
+        // Given - secondes maximales et nanosecondes au-delà d'une seconde
+        String raw = Long.MAX_VALUE + ":" + 1_000_000_000L + ":" + TodoId.generate().value();
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThatThrownBy(() -> PageCursor.decode(token))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cursor");
+    }
+}
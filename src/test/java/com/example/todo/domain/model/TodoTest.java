@@ -64,6 +64,22 @@ class TodoTest {
             assertThat(event.userId()).isEqualTo(USER_ID);
         }
 
+        @Test
+        @DisplayName("Should be new until persisted")
+        void shouldBeNewUntilPersisted() {
+            // Given
+            Todo todo = Todo.create(TITLE, DESCRIPTION, PRIORITY, null, USER_ID);
+            Todo reconstituted = new Todo(todo.getId(), TITLE, DESCRIPTION, TodoStatus.PENDING, PRIORITY,
+                                          null, USER_ID, todo.getCreatedAt(), todo.getUpdatedAt(), null);
+
+            // When & Then
+            assertThat(todo.isNew()).isTrue();
+            assertThat(reconstituted.isNew()).isFalse();
+
+            todo.markAsPersisted();
+            assertThat(todo.isNew()).isFalse();
+        }
+
         @Test
         @DisplayName("Should reject null or blank title")
         void shouldRejectNullOrBlankTitle() {
@@ -146,6 +162,10 @@ class TodoTest {
             assertThat(events)
                 .anyMatch(event -> event instanceof TodoStatusChangedEvent)
                 .anyMatch(event -> event instanceof TodoCompletedEvent);
+
+            // Une seule lecture de l'horloge pour la complétion
+            assertThat(events).extracting(event -> event.getOccurredOn()).containsOnly(todo.getCompletedAt());
+            assertThat(todo.getCompletedAt()).isEqualTo(todo.getUpdatedAt());
         }
 
         @Test
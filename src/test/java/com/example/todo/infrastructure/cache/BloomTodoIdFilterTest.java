@@ -0,0 +1,274 @@
+package com.example.todo.infrastructure.cache;
+
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.infrastructure.persistence.TodoJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests du filtre de Bloom des identifiants de Todos
+ *
+ * Deux filtres partagent le même bus local et simulent deux nœuds de l'application,
+ * chacun avec son disjoncteur Redis ; le nœud A peut perdre ses publications, le
+ * nœud B les messages qu'il reçoit, et B peut être réabonné au canal. Les
+ * identifiants inconnus des assertions négatives sont des UUID v4, hors période de
+ * grâce.
+ *
+ * @author Todo Team
+ */
+@DisplayName("Bloom Todo Id Filter Tests")
+class BloomTodoIdFilterTest {
+
+    private static final Duration GRACE_PERIOD = Duration.ofMinutes(1);
+
+    private TodoJpaRepository todoJpaRepository;
+    private LocalCacheInvalidationBus bus;
+    private LossyCacheInvalidationBus nodeABus;
+    private LossyCacheInvalidationBus nodeBBus;
+    private RedisCircuitBreaker nodeABreaker;
+    private RedisCircuitBreaker nodeBBreaker;
+    private SimpleMeterRegistry registry;
+    private BloomTodoIdFilter nodeA;
+    private BloomTodoIdFilter nodeB;
+
+    @BeforeEach
+    void setUp() {
+        todoJpaRepository = mock(TodoJpaRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        bus = new LocalCacheInvalidationBus();
+        nodeABus = new LossyCacheInvalidationBus(bus);
+        nodeBBus = new LossyCacheInvalidationBus(bus);
+        registry = new SimpleMeterRegistry();
+        nodeABreaker = new RedisCircuitBreaker(() -> { }, 1, new SimpleMeterRegistry());
+        nodeBBreaker = new RedisCircuitBreaker(() -> { }, 1, new SimpleMeterRegistry());
+        nodeA = new BloomTodoIdFilter(todoJpaRepository, transactionManager, nodeABus, nodeABreaker, registry, 1000, 0.01, GRACE_PERIOD);
+        nodeB = new BloomTodoIdFilter(todoJpaRepository, transactionManager, nodeBBus, nodeBBreaker, new SimpleMeterRegistry(), 1000, 0.01, GRACE_PERIOD);
+    }
+
+    @Test
+    @DisplayName("Should admit every id before the first build")
+    void shouldAdmitEveryIdBeforeFirstBuild() {
+        assertThat(nodeA.mightExist(TodoId.generate())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep every stored id and reject most unknown ones after a rebuild")
+    void shouldRejectUnknownIdsAfterRebuild() {
+        // Given
+        List<String> stored = IntStream.range(0, 500).mapToObj(i -> TodoId.generate().value()).toList();
+        when(todoJpaRepository.count()).thenReturn((long) stored.size());
+        when(todoJpaRepository.streamAllIds()).thenReturn(stored.stream());
+
+        // When
+        nodeA.rebuild();
+
+        // Then
+        assertThat(stored).allSatisfy(id -> assertThat(nodeA.mightExist(TodoId.of(id))).isTrue());
+        long falsePositives = IntStream.range(0, 10_000)
+            .filter(i -> nodeA.mightExist(unknownId()))
+            .count();
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(registry.get("todo.id.filter.false.positive.probability").gauge().value()).isBetween(0.0, 0.01);
+        assertThat(registry.get("todo.id.filter.memory").gauge().value()).isPositive();
+        assertThat(registry.get("todo.id.filter.lookups").tags("result", "rejected").counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should share created ids with the other nodes")
+    void shouldShareCreatedIdsWithOtherNodes() {
+        // Given
+        when(todoJpaRepository.streamAllIds()).thenAnswer(invocation -> Stream.empty());
+        nodeA.rebuild();
+        nodeB.rebuild();
+        TodoId created = unknownId();
+        TodoId imported = unknownId();
+
+        // When
+        nodeA.add(created);
+        nodeA.addAll(List.of(imported));
+
+        // Then
+        assertThat(nodeB.mightExist(created)).isTrue();
+        assertThat(nodeB.mightExist(imported)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep ids added before a rebuild that does not see them yet")
+    void shouldKeepIdsAddedBeforeRebuild() {
+        // Given - la transaction de création n'est pas validée quand la base est relue
+        when(todoJpaRepository.streamAllIds()).thenAnswer(invocation -> Stream.empty());
+        TodoId created = TodoId.generate();
+        nodeA.add(created);
+
+        // When
+        nodeA.rebuild();
+
+        // Then
+        assertThat(nodeA.mightExist(created)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should admit every id while Redis is unreachable and until the next rebuild")
+    void shouldAdmitEveryIdUntilRebuildWhenNodeMissedCreations() {
+        // Given - le message de création de A n'atteint jamais B
+        when(todoJpaRepository.streamAllIds()).thenAnswer(invocation -> Stream.empty());
+        nodeA.rebuild();
+        nodeB.rebuild();
+        nodeABus.dropping = true;
+        TodoId missed = TodoId.generate();
+        nodeA.add(missed);
+        assertThat(nodeB.mightExist(missed)).isTrue();
+
+        // When - Redis devient injoignable pour B
+        openCircuit(nodeBBreaker);
+
+        // Then
+        assertThat(nodeB.mightExist(missed)).isTrue();
+        assertThat(nodeB.mightExist(unknownId())).isTrue();
+
+        // When - Redis revient : B se reconstruit depuis la base, qui contient le Todo de A
+        when(todoJpaRepository.streamAllIds()).thenAnswer(invocation -> Stream.of(missed.value()));
+        nodeBBreaker.probe();
+
+        // Then
+        assertThat(nodeB.mightExist(missed)).isTrue();
+        assertThat(nodeB.mightExist(unknownId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should republish created ids another node never received once Redis recovers")
+    void shouldRepublishUnpublishedIdsOnRecovery() {
+        // Given - la publication de A échoue, B reste connecté
+        when(todoJpaRepository.streamAllIds()).thenAnswer(invocation -> Stream.empty());
+        nodeA.rebuild();
+        nodeB.rebuild();
+        nodeABus.dropping = true;
+        TodoId created = TodoId.generate();
+        nodeA.add(created);
+        openCircuit(nodeABreaker);
+        assertThat(nodeB.mightExist(created)).isTrue();
+        assertThat(nodeA.mightExist(unknownId())).isTrue();
+
+        // When
+        nodeABus.dropping = false;
+        nodeABreaker.probe();
+
+        // Then
+        assertThat(nodeB.mightExist(created)).isTrue();
+        assertThat(nodeA.mightExist(created)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should admit an id younger than the grace period that was never received")
+    void shouldAdmitRecentIdNeverReceived() {
+        // Given - B ne reçoit pas le message de création de A, encore en route
+        when(todoJpaRepository.streamAllIds()).thenAnswer(invocation -> Stream.empty());
+        nodeA.rebuild();
+        nodeB.rebuild();
+        nodeBBus.losingReceived = true;
+
+        // When
+        TodoId created = TodoId.generate();
+        nodeA.add(created);
+
+        // Then
+        assertThat(created.generatedAt()).isPresent();
+        assertThat(nodeB.mightExist(created)).isTrue();
+        assertThat(nodeB.mightExist(unknownId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should admit every id after resubscribing until a rebuild completes")
+    void shouldAdmitEveryIdAfterResubscribingUntilRebuild() {
+        // Given - B a perdu la création de A pendant une coupure de son abonnement
+        when(todoJpaRepository.streamAllIds()).thenAnswer(invocation -> Stream.empty());
+        nodeA.rebuild();
+        nodeB.rebuild();
+        nodeBBus.losingReceived = true;
+        TodoId missed = unknownId();
+        nodeA.add(missed);
+        nodeBBus.losingReceived = false;
+        when(todoJpaRepository.streamAllIds()).thenAnswer(invocation -> Stream.of(missed.value()));
+
+        // When
+        nodeBBus.resubscribe();
+
+        // Then - dégradé immédiatement, puis reconstruit en arrière-plan depuis la base
+        assertThat(nodeB.mightExist(missed)).isTrue();
+        verify(todoJpaRepository, timeout(5000).atLeast(3)).streamAllIds();
+        TodoId unknown = unknownId();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (nodeB.mightExist(unknown) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(nodeB.mightExist(unknown)).isFalse();
+        assertThat(nodeB.mightExist(missed)).isTrue();
+    }
+
+    /**
+     * Identifiant inconnu non horodaté (UUID v4), que seul le filtre peut écarter
+     */
+    private static TodoId unknownId() {
+        return TodoId.of(UUID.randomUUID().toString());
+    }
+
+    private static void openCircuit(RedisCircuitBreaker breaker) {
+        breaker.execute(() -> {
+            throw new RedisConnectionFailureException("Redis unreachable");
+        }, () -> null);
+        assertThat(breaker.isOpen()).isTrue();
+    }
+
+    /**
+     * Bus d'un nœud, qui abandonne à la demande ses publications (Redis injoignable)
+     * ou les messages qu'il reçoit (abonnement coupé), et rejoue le (ré)abonnement
+     */
+    private static final class LossyCacheInvalidationBus implements CacheInvalidationBus {
+
+        private final CacheInvalidationBus delegate;
+        private final List<Runnable> subscriptions = new ArrayList<>();
+        private volatile boolean dropping;
+        private volatile boolean losingReceived;
+
+        LossyCacheInvalidationBus(CacheInvalidationBus delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean publish(CacheInvalidation invalidation) {
+            return !dropping && delegate.publish(invalidation);
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> listener, Runnable onSubscribed) {
+            delegate.subscribe(invalidation -> {
+                if (!losingReceived) {
+                    listener.accept(invalidation);
+                }
+            });
+            subscriptions.add(onSubscribed);
+        }
+
+        void resubscribe() {
+            subscriptions.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.todo.infrastructure.cache;
+
+import com.example.todo.application.usecase.GetTodoUseCase;
+import com.example.todo.application.usecase.ListTodosUseCase;
+import com.example.todo.application.usecase.TodoNotFoundException;
+import com.example.todo.domain.model.PageRequest;
+import com.example.todo.domain.model.PageResult;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.TodoIdFilter;
+import com.example.todo.domain.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests des clés de cache versionnées par utilisateur
+ *
+ * @author Todo Team
+ */
+@SpringJUnitConfig(CacheVersionKeyTest.CachingConfig.class)
+@DisplayName("Cache Version Key Tests")
+class CacheVersionKeyTest {
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        TodoRepository todoRepository() {
+            return mock(TodoRepository.class);
+        }
+
+        @Bean
+        CacheVersionPort cacheVersionPort() {
+            return new LocalCacheVersions();
+        }
+
+        @Bean
+        TodoIdFilter todoIdFilter() {
+            TodoIdFilter todoIdFilter = mock(TodoIdFilter.class);
+            when(todoIdFilter.mightExist(any())).thenReturn(true);
+            return todoIdFilter;
+        }
+
+        @Bean
+        ListTodosUseCase listTodosUseCase(TodoRepository todoRepository) {
+            return new ListTodosUseCase(todoRepository);
+        }
+
+        @Bean
+        GetTodoUseCase getTodoUseCase(TodoRepository todoRepository, TodoIdFilter todoIdFilter) {
+            return new GetTodoUseCase(todoRepository, todoIdFilter);
+        }
+    }
+
+    @Autowired
+    private ListTodosUseCase listTodosUseCase;
+
+    @Autowired
+    private GetTodoUseCase getTodoUseCase;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CacheVersionPort cacheVersionPort;
+
+    @BeforeEach
+    void setUp() {
+        reset(todoRepository);
+        when(todoRepository.findByUserId(any(), any(PageRequest.class)))
+            .thenReturn(new PageResult<>(List.of(), 0, 20, 0));
+    }
+
+    @Test
+    @DisplayName("Should invalidate only the written user's pages when the version is bumped")
+    void shouldInvalidateOnlyWrittenUsersPages() {
+        // Given - une page en cache pour chaque utilisateur
+        org.springframework.data.domain.PageRequest page = org.springframework.data.domain.PageRequest.of(0, 20);
+        listTodosUseCase.execute("alice", page);
+        listTodosUseCase.execute("bob", page);
+        listTodosUseCase.execute("alice", page);
+        verify(todoRepository, times(1)).findByUserId(eq("alice"), any(PageRequest.class));
+
+        // When
+        cacheVersionPort.bump("alice");
+        listTodosUseCase.execute("alice", page);
+        listTodosUseCase.execute("bob", page);
+
+        // Then
+        verify(todoRepository, times(2)).findByUserId(eq("alice"), any(PageRequest.class));
+        verify(todoRepository, times(1)).findByUserId(eq("bob"), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should not serve a cached todo to another user")
+    void shouldNotServeCachedTodoToAnotherUser() {
+        // Given
+        Todo todo = Todo.create("Alice's todo", null, TodoPriority.NORMAL, null, "alice");
+        when(todoRepository.findById(any(TodoId.class))).thenReturn(Optional.of(todo));
+        getTodoUseCase.execute(todo.getId().value(), "alice");
+
+        // When / Then
+        assertThatThrownBy(() -> getTodoUseCase.execute(todo.getId().value(), "bob"))
+            .isInstanceOf(TodoNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should bump the version only after the transaction commits")
+    void shouldBumpVersionOnlyAfterCommit() {
+        long initial = cacheVersionPort.currentVersion("carol");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            cacheVersionPort.bump("carol");
+
+            // Then
+            assertThat(cacheVersionPort.currentVersion("carol")).isEqualTo(initial);
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+            assertThat(cacheVersionPort.currentVersion("carol")).isEqualTo(initial + 1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.todo.infrastructure.cache;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.application.usecase.ListTodosUseCase;
+import com.example.todo.domain.model.PageResult;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.infrastructure.persistence.TodoJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests du préchauffage des caches au démarrage
+ *
+ * @author Todo Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Cache Warm-Up Runner Tests")
+class CacheWarmUpRunnerTest {
+
+    private static final String USER_ID = "user123";
+
+    @Mock
+    private TodoJpaRepository todoJpaRepository;
+
+    @Mock
+    private ListTodosUseCase listTodosUseCase;
+
+    @Mock
+    private CacheVersionPort cacheVersionPort;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("todos", "todoLists", "todoListsByStatus");
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should load the first pages and open todos of recently active users")
+    void shouldWarmUpRecentlyActiveUsers() {
+        // Given
+        TodoResponse pending = TodoResponse.from(Todo.create("Pending", "Description", TodoPriority.NORMAL,
+            Instant.now().plus(Duration.ofDays(1)), USER_ID));
+        when(todoJpaRepository.findRecentlyActiveUserIds(any(Instant.class), any(Pageable.class)))
+            .thenReturn(List.of(USER_ID));
+        when(listTodosUseCase.execute(eq(USER_ID), any(Pageable.class)))
+            .thenReturn(new PageResult<>(List.of(pending), 0, 20, 1));
+        when(listTodosUseCase.executeByStatus(eq(USER_ID), eq(TodoStatus.PENDING), any(Pageable.class)))
+            .thenReturn(new PageResult<>(List.of(pending), 0, 20, 1));
+        when(listTodosUseCase.executeByStatus(eq(USER_ID), eq(TodoStatus.IN_PROGRESS), any(Pageable.class)))
+            .thenReturn(new PageResult<>(List.of(), 0, 20, 0));
+
+        // When
+        runner(Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+        // Then - même clé que GetTodoUseCase
+        assertThat(cacheManager.getCache("todos").get(USER_ID + ":" + pending.id()).get()).isEqualTo(pending);
+        assertThat(registry.get("cache.warmup.entries").tag("cache", "todoLists").counter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.warmup.entries").tag("cache", "todoListsByStatus").counter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.warmup.entries").tag("cache", "todos").counter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.warmup.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count only the entries the warm-up actually loaded")
+    void shouldCountOnlyLoadedEntries() {
+        // Given - première page, Todos en attente et Todo déjà en cache (version 0)
+        TodoResponse pending = TodoResponse.from(Todo.create("Pending", "Description", TodoPriority.NORMAL,
+            Instant.now().plus(Duration.ofDays(1)), USER_ID));
+        PageResult<TodoResponse> page = new PageResult<>(List.of(pending), 0, 20, 1);
+        cacheManager.getCache("todoLists").put(USER_ID + ":0:0:20", page);
+        cacheManager.getCache("todoListsByStatus").put(USER_ID + ":0:PENDING:0:20", page);
+        cacheManager.getCache("todos").put(USER_ID + ":" + pending.id(), pending);
+        when(todoJpaRepository.findRecentlyActiveUserIds(any(Instant.class), any(Pageable.class)))
+            .thenReturn(List.of(USER_ID));
+        when(listTodosUseCase.execute(eq(USER_ID), any(Pageable.class))).thenReturn(page);
+        when(listTodosUseCase.executeByStatus(eq(USER_ID), eq(TodoStatus.PENDING), any(Pageable.class)))
+            .thenReturn(page);
+        when(listTodosUseCase.executeByStatus(eq(USER_ID), eq(TodoStatus.IN_PROGRESS), any(Pageable.class)))
+            .thenReturn(new PageResult<>(List.of(), 0, 20, 0));
+
+        // When
+        runner(Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+        // Then - seule la page des Todos en cours a été chargée
+        assertThat(registry.get("cache.warmup.entries").tag("cache", "todoLists").counter().count()).isZero();
+        assertThat(registry.get("cache.warmup.entries").tag("cache", "todoListsByStatus").counter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.warmup.entries").tag("cache", "todos").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip remaining users once the time budget is exhausted")
+    void shouldStopAtTimeBudget() {
+        // Given
+        when(todoJpaRepository.findRecentlyActiveUserIds(any(Instant.class), any(Pageable.class)))
+            .thenReturn(List.of(USER_ID));
+
+        // When
+        runner(Duration.ZERO).run(new DefaultApplicationArguments());
+
+        // Then
+        verify(listTodosUseCase, never()).execute(any(), any());
+        assertThat(registry.get("cache.warmup.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never fail the startup")
+    void shouldNeverFailStartup() {
+        // Given
+        when(todoJpaRepository.findRecentlyActiveUserIds(any(Instant.class), any(Pageable.class)))
+            .thenThrow(new IllegalStateException("database unavailable"));
+
+        // When
+        runner(Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(registry.get("cache.warmup.entries").tag("cache", "todoLists").counter().count()).isZero();
+    }
+
+    private CacheWarmUpRunner runner(Duration timeBudget) {
+        return new CacheWarmUpRunner(todoJpaRepository, listTodosUseCase, cacheManager, cacheVersionPort, registry,
+                                     100, 20, 2, Duration.ofDays(7), timeBudget);
+    }
+}
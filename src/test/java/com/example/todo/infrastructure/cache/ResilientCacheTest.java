@@ -0,0 +1,179 @@
+package com.example.todo.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests du cache partagé protégé par le disjoncteur Redis
+ *
+ * @author Todo Team
+ */
+@DisplayName("Resilient Cache Tests")
+class ResilientCacheTest {
+
+    private final AtomicBoolean redisDown = new AtomicBoolean();
+    private FlakyCache redis;
+    private SimpleMeterRegistry registry;
+    private RedisCircuitBreaker circuitBreaker;
+    private ResilientCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redis = new FlakyCache(new ConcurrentMapCache("todos"), redisDown);
+        registry = new SimpleMeterRegistry();
+        circuitBreaker = new RedisCircuitBreaker(() -> {
+            if (redisDown.get()) {
+                throw new RedisConnectionFailureException("Connection refused");
+            }
+        }, 3, registry);
+        cache = new ResilientCache(redis, circuitBreaker, 100);
+    }
+
+    @Test
+    @DisplayName("Should stop calling Redis once the failure threshold is reached")
+    void shouldStopCallingRedisOnceThresholdReached() {
+        // Given
+        redisDown.set(true);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.get("todo-1")).isNull();
+        }
+
+        // Then
+        assertThat(redis.calls).hasValue(3);
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        assertThat(registry.get("cache.redis.circuit.open").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("cache.redis.skipped").counter().count()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should keep probing while Redis is down and close once it answers")
+    void shouldCloseOnceProbeSucceeds() {
+        // Given
+        redisDown.set(true);
+        for (int i = 0; i < 3; i++) {
+            cache.get("todo-1");
+        }
+
+        // When / Then
+        circuitBreaker.probe();
+        assertThat(circuitBreaker.isOpen()).isTrue();
+
+        redisDown.set(false);
+        circuitBreaker.probe();
+        assertThat(circuitBreaker.isOpen()).isFalse();
+        assertThat(registry.get("cache.redis.circuit.open").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict entries written during the outage once Redis recovers")
+    void shouldEvictEntriesWrittenDuringOutage() {
+        // Given - une valeur en Redis avant la panne
+        cache.put("todo-1", "v1");
+        redisDown.set(true);
+        for (int i = 0; i < 3; i++) {
+            cache.get("todo-2");
+        }
+
+        // When - la mise à jour n'atteint pas Redis, puis Redis revient
+        cache.put("todo-1", "v2");
+        redisDown.set(false);
+        circuitBreaker.probe();
+
+        // Then - l'ancienne valeur n'est plus servie
+        assertThat(cache.get("todo-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should load values directly while the circuit is open")
+    void shouldLoadValuesDirectlyWhileOpen() {
+        // Given
+        redisDown.set(true);
+        for (int i = 0; i < 3; i++) {
+            cache.get("todo-1");
+        }
+
+        // When / Then
+        assertThat(cache.get("todo-1", () -> "loaded")).isEqualTo("loaded");
+    }
+
+    /**
+     * Cache qui échoue comme Redis injoignable tant que {@code down} est vrai
+     */
+    private static final class FlakyCache implements Cache {
+
+        private final Cache target;
+        private final AtomicBoolean down;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        FlakyCache(Cache target, AtomicBoolean down) {
+            this.target = target;
+            this.down = down;
+        }
+
+        @Override
+        public String getName() {
+            return target.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return target.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            check();
+            return target.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            check();
+            return target.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            check();
+            return target.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            check();
+            target.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            check();
+            target.evict(key);
+        }
+
+        @Override
+        public void clear() {
+            check();
+            target.clear();
+        }
+
+        private void check() {
+            calls.incrementAndGet();
+            if (down.get()) {
+                throw new RedisConnectionFailureException("Connection refused");
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.todo.infrastructure.cache;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.application.dto.TodoStatisticsResponse;
+import com.example.todo.domain.model.PageResult;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.infrastructure.config.JacksonConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests du sérialiseur binaire des valeurs du cache Redis
+ *
+ * @author Todo Team
+ */
+@DisplayName("Todo Cache Value Serializer Tests")
+class TodoCacheValueSerializerTest {
+
+    private final TodoCacheValueSerializer serializer = new TodoCacheValueSerializer(512);
+
+    @Test
+    @DisplayName("Should round-trip a todo response")
+    void shouldRoundTripTodoResponse() {
+        // Given
+        Todo todo = Todo.create("Write tests", "With a description", TodoPriority.HIGH,
+                                Instant.now().plus(2, ChronoUnit.DAYS), "user123");
+        TodoResponse response = TodoResponse.from(todo);
+
+        // When
+        Object result = serializer.deserialize(serializer.serialize(response));
+
+        // Then
+        assertThat(result).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("Should round-trip and compress a large page of todos")
+    void shouldRoundTripAndCompressLargePage() {
+        // Given
+        PageResult<TodoResponse> page = new PageResult<>(todos(20), 0, 20, 57);
+
+        // When
+        byte[] bytes = serializer.serialize(page);
+        Object result = serializer.deserialize(bytes);
+
+        // Then
+        assertThat(bytes[3] & 1).as("deflated flag").isEqualTo(1);
+        assertThat(result).isInstanceOf(PageResult.class);
+        PageResult<?> restored = (PageResult<?>) result;
+        assertThat(restored.getContent()).isEqualTo(page.getContent());
+        assertThat(restored.getPageNumber()).isZero();
+        assertThat(restored.getPageSize()).isEqualTo(20);
+        assertThat(restored.getTotalElements()).isEqualTo(57);
+    }
+
+    @Test
+    @DisplayName("Should be smaller than the JSON encoding")
+    void shouldBeSmallerThanJsonEncoding() {
+        PageResult<TodoResponse> page = new PageResult<>(todos(20), 0, 20, 20);
+
+        assertThat(serializer.serialize(page).length)
+            .isLessThan(new GenericJackson2JsonRedisSerializer(new JacksonConfig().objectMapper()).serialize(page).length / 2);
+    }
+
+    @Test
+    @DisplayName("Should round-trip statistics")
+    void shouldRoundTripStatistics() {
+        // Given
+        TodoStatisticsResponse statistics = new TodoStatisticsResponse(
+            10,
+            Map.of(TodoStatus.PENDING, 4L, TodoStatus.COMPLETED, 6L),
+            Map.of(1, 2L, 4, 8L),
+            1,
+            60,
+            75
+        );
+
+        // When / Then
+        assertThat(serializer.deserialize(serializer.serialize(statistics))).isEqualTo(statistics);
+    }
+
+    @Test
+    @DisplayName("Should fall back to Java serialization for other values")
+    void shouldFallBackToJavaSerializationForOtherValues() {
+        List<String> value = List.of("a", "b");
+
+        assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("Should read values written in another format as a cache miss")
+    void shouldReadForeignValuesAsCacheMiss() {
+        byte[] json = "{\"@class\":\"com.example.todo.application.dto.TodoResponse\"}".getBytes();
+
+        assertThat(serializer.deserialize(json)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    private static List<TodoResponse> todos(int count) {
+        Instant dueDate = Instant.now().plus(7, ChronoUnit.DAYS);
+        return IntStream.range(0, count)
+            .mapToObj(i -> TodoResponse.from(Todo.create("Todo " + i, "Description of todo " + i,
+                                                         TodoPriority.NORMAL, dueDate, "user123")))
+            .toList();
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.todo.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests du cache à deux niveaux
+ *
+ * Deux gestionnaires partagent le même L2 (ConcurrentMapCacheManager à la place de
+ * Redis) et le même bus local, et simulent ainsi deux nœuds de l'application.
+ *
+ * @author Todo Team
+ */
+@DisplayName("Two Level Cache Tests")
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private SimpleMeterRegistry nodeARegistry;
+    private TwoLevelCacheManager nodeA;
+    private TwoLevelCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("todos");
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        nodeARegistry = new SimpleMeterRegistry();
+        nodeA = new TwoLevelCacheManager(remoteCacheManager, bus, nodeARegistry, 2, Duration.ofMinutes(1));
+        nodeB = new TwoLevelCacheManager(remoteCacheManager, bus, new SimpleMeterRegistry(), 2, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the local tier")
+    void shouldServeRepeatedReadsFromLocalTier() {
+        // Given
+        remoteCacheManager.getCache("todos").put("todo-1", "v1");
+        Cache cache = nodeA.getCache("todos");
+
+        // When
+        cache.get("todo-1");
+        remoteCacheManager.getCache("todos").put("todo-1", "changed behind the cache");
+
+        // Then - la seconde lecture ne consulte plus L2
+        assertThat(cache.get("todo-1").get()).isEqualTo("v1");
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+        assertThat(nodeARegistry.get("cache.tier.hit.ratio").tags("cache", "todos", "tier", "l1").gauge().value())
+            .isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the local tier of other nodes on eviction")
+    void shouldInvalidateLocalTierOfOtherNodesOnEviction() {
+        // Given - les deux nœuds ont la valeur en L1
+        nodeA.getCache("todos").put("todo-1", "v1");
+        assertThat(nodeB.getCache("todos").get("todo-1").get()).isEqualTo("v1");
+
+        // When
+        nodeA.getCache("todos").evict("todo-1");
+
+        // Then
+        assertThat(nodeB.getCache("todos").get("todo-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should invalidate the local tier of other nodes on update and clear")
+    void shouldInvalidateLocalTierOfOtherNodesOnUpdateAndClear() {
+        // Given
+        nodeA.getCache("todos").put("todo-1", "v1");
+        nodeB.getCache("todos").get("todo-1");
+
+        // When
+        nodeA.getCache("todos").put("todo-1", "v2");
+
+        // Then
+        assertThat(nodeB.getCache("todos").get("todo-1").get()).isEqualTo("v2");
+
+        // When
+        nodeB.getCache("todos").clear();
+
+        // Then
+        assertThat(nodeA.getCache("todos").get("todo-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should load absent values once through the shared tier")
+    void shouldLoadAbsentValuesThroughSharedTier() {
+        // When
+        String loaded = nodeA.getCache("todos").get("todo-1", () -> "loaded");
+
+        // Then
+        assertThat(loaded).isEqualTo("loaded");
+        assertThat(remoteCacheManager.getCache("todos").get("todo-1").get()).isEqualTo("loaded");
+        assertThat(nodeA.getCache("todos").get("todo-1", () -> "not reloaded")).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight load between concurrent misses")
+    void shouldShareOneInFlightLoadBetweenConcurrentMisses() throws Exception {
+        // Given - le chargement est bloqué tant que tous les appelants ne sont pas arrivés
+        Cache cache = nodeA.getCache("todos");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        try {
+            // When
+            List<Future<String>> results = IntStream.range(0, 8)
+                .mapToObj(i -> callers.submit(() -> cache.get("todo-1", () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "loaded";
+                })))
+                .toList();
+            Thread.sleep(200);
+            release.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should propagate a failed load to every waiting caller")
+    void shouldPropagateFailedLoad() {
+        Cache cache = nodeA.getCache("todos");
+
+        assertThatThrownBy(() -> cache.get("todo-1", () -> {
+            throw new IllegalStateException("boom");
+        }))
+            .isInstanceOf(Cache.ValueRetrievalException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(cache.get("todo-1", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    @DisplayName("Should refresh a hot entry in the background before it expires")
+    void shouldRefreshHotEntryBeforeExpiry() {
+        // Given - un beta démesuré rend le rafraîchissement certain dès la première lecture
+        EarlyRefreshPolicy policy = new EarlyRefreshPolicy(1_000_000, cacheName -> Duration.ofMinutes(5), Runnable::run);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Cache cache = new TwoLevelCacheManager(remoteCacheManager, new LocalCacheInvalidationBus(), registry,
+                                               10, Duration.ofMinutes(1), policy).getCache("todos");
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("todo-1", () -> "v" + loads.incrementAndGet());
+
+        // When - la lecture rend la valeur courante et déclenche le rechargement
+        String served = cache.get("todo-1", () -> "v" + loads.incrementAndGet());
+
+        // Then
+        assertThat(served).isEqualTo("v1");
+        assertThat(loads).hasValue(2);
+        assertThat(cache.get("todo-1").get()).isEqualTo("v2");
+        assertThat(remoteCacheManager.getCache("todos").get("todo-1").get()).isEqualTo("v2");
+        assertThat(registry.get("cache.loads").tags("cache", "todos", "mode", "early-refresh").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not refresh entries when early refresh is disabled")
+    void shouldNotRefreshWhenDisabled() {
+        Cache cache = nodeA.getCache("todos");
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("todo-1", () -> "v" + loads.incrementAndGet());
+        cache.get("todo-1", () -> "v" + loads.incrementAndGet());
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should write loaded values to the shared tier in the background")
+    void shouldWriteLoadedValuesInBackground() throws Exception {
+        // Given - l'écriture en L2 est bloquée tant que l'appelant n'a pas reçu sa valeur
+        CountDownLatch release = new CountDownLatch(1);
+        Cache blockedRemote = new ConcurrentMapCache("todos") {
+            @Override
+            public ValueWrapper putIfAbsent(Object key, Object value) {
+                awaitQuietly(release);
+                return super.putIfAbsent(key, value);
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AsyncCacheWriter writer = new AsyncCacheWriter(1, 10, registry);
+        Cache cache = new TwoLevelCacheManager(simpleCacheManager(blockedRemote), new LocalCacheInvalidationBus(),
+                                               registry, 10, Duration.ofMinutes(1), EarlyRefreshPolicy.disabled(), writer)
+            .getCache("todos");
+
+        try {
+            // When
+            assertThat(cache.get("todo-1", () -> "loaded")).isEqualTo("loaded");
+
+            // Then
+            assertThat(blockedRemote.get("todo-1")).isNull();
+            release.countDown();
+            writer.shutdown();
+            assertThat(blockedRemote.get("todo-1").get()).isEqualTo("loaded");
+            assertThat(registry.get("cache.async.writes").tags("result", "written").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not overwrite a newer shared value with a late background write")
+    void shouldNotOverwriteNewerValueWithLateWrite() throws Exception {
+        // Given
+        AsyncCacheWriter writer = new AsyncCacheWriter(1, 10, new SimpleMeterRegistry());
+        Cache remote = remoteCacheManager.getCache("todos");
+        remote.put("todo-1", "v2");
+
+        // When
+        writer.putIfAbsent(remote, "todo-1", "v1");
+        writer.shutdown();
+
+        // Then
+        assertThat(remote.get("todo-1").get()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("Should read several keys from the local tier first, then the shared tier")
+    void shouldReadSeveralKeysFromBothTiers() {
+        // Given - todo-1 en L1 et L2, todo-2 en L2 seulement
+        TwoLevelCache cache = (TwoLevelCache) nodeA.getCache("todos");
+        cache.put("todo-1", "v1");
+        remoteCacheManager.getCache("todos").put("todo-2", "v2");
+
+        // When
+        Map<Object, Object> values = cache.getAll(List.of("todo-1", "todo-2", "todo-3"));
+
+        // Then
+        assertThat(values).containsOnly(entry("todo-1", "v1"), entry("todo-2", "v2"));
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+        assertThat(count("l2", "miss")).isEqualTo(1);
+        assertThat(cache.getAll(List.of("todo-2"))).containsOnly(entry("todo-2", "v2"));
+        assertThat(count("l1", "hit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should never replace a present value when backfilling")
+    void shouldNotReplacePresentValueWhenBackfilling() {
+        // Given
+        Cache cache = nodeA.getCache("todos");
+        remoteCacheManager.getCache("todos").put("todo-1", "v2");
+
+        // When
+        Cache.ValueWrapper existing = cache.putIfAbsent("todo-1", "v1");
+        cache.putIfAbsent("todo-2", "loaded");
+
+        // Then
+        assertThat(existing.get()).isEqualTo("v2");
+        assertThat(cache.get("todo-1").get()).isEqualTo("v2");
+        assertThat(remoteCacheManager.getCache("todos").get("todo-2").get()).isEqualTo("loaded");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SimpleCacheManager simpleCacheManager(Cache cache) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(cache));
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+    private double count(String tier, String result) {
+        return nodeARegistry.get("cache.tier.gets").tags("cache", "todos", "tier", tier, "result", result).counter().count();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.todo.infrastructure.cache;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.application.usecase.CompleteTodoUseCase;
+import com.example.todo.application.usecase.GetTodoUseCase;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.TodoIdFilter;
+import com.example.todo.domain.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests de l'alimentation du cache todos par les use cases d'écriture
+ *
+ * @author Todo Team
+ */
+@SpringJUnitConfig(WriteThroughCacheTest.CachingConfig.class)
+@DisplayName("Write Through Cache Tests")
+class WriteThroughCacheTest {
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new TransactionAwareCacheManagerProxy(new ConcurrentMapCacheManager());
+        }
+
+        @Bean
+        TodoRepository todoRepository() {
+            return mock(TodoRepository.class);
+        }
+
+        @Bean
+        CacheVersionPort cacheVersionPort() {
+            return new LocalCacheVersions();
+        }
+
+        @Bean
+        TodoIdFilter todoIdFilter() {
+            TodoIdFilter todoIdFilter = mock(TodoIdFilter.class);
+            when(todoIdFilter.mightExist(any())).thenReturn(true);
+            return todoIdFilter;
+        }
+
+        @Bean
+        CompleteTodoUseCase completeTodoUseCase(TodoRepository todoRepository,
+                                                CacheVersionPort cacheVersionPort,
+                                                TodoIdFilter todoIdFilter) {
+            return new CompleteTodoUseCase(todoRepository, cacheVersionPort, todoIdFilter);
+        }
+
+        @Bean
+        GetTodoUseCase getTodoUseCase(TodoRepository todoRepository, TodoIdFilter todoIdFilter) {
+            return new GetTodoUseCase(todoRepository, todoIdFilter);
+        }
+    }
+
+    @Autowired
+    private CompleteTodoUseCase completeTodoUseCase;
+
+    @Autowired
+    private GetTodoUseCase getTodoUseCase;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        reset(todoRepository);
+    }
+
+    @Test
+    @DisplayName("Should put the saved todo in the cache only after the transaction commits")
+    void shouldPutSavedTodoAfterCommit() {
+        // Given
+        Todo todo = Todo.create("Alice's todo", null, TodoPriority.NORMAL, null, "alice");
+        String todoId = todo.getId().value();
+        when(todoRepository.findById(any(TodoId.class))).thenReturn(Optional.of(todo));
+        when(todoRepository.save(any(Todo.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            completeTodoUseCase.execute(todoId, "alice");
+
+            // Then - rien n'est visible avant le commit
+            assertThat(cacheManager.getCache("todos").get("alice:" + todoId)).isNull();
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then - la lecture suivante est servie par le cache
+        TodoResponse response = getTodoUseCase.execute(todoId, "alice");
+        assertThat(response.status()).isEqualTo(TodoStatus.COMPLETED);
+        verify(todoRepository, times(1)).findById(any(TodoId.class));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.todo.infrastructure.events;
+
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.domain.events.TodoCompletedEvent;
+import com.example.todo.domain.events.TodoStatusChangedEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests du bus des événements du domaine
+ *
+ * @author Todo Team
+ */
+@DisplayName("Domain Event Bus Tests")
+class DomainEventBusTest {
+
+    @Test
+    @DisplayName("Should deliver each event to the handlers of its type and supertypes, in order")
+    void shouldDeliverToMatchingHandlersInOrder() {
+        // Given
+        List<String> deliveries = new CopyOnWriteArrayList<>();
+        DomainEventBus bus = DomainEventBus.builder()
+            .subscribe(TodoCompletedEvent.class, event -> deliveries.add("completed:" + event.aggregateId().value()))
+            .subscribe(DomainEvent.class, event -> deliveries.add("any:" + event.getEventType()))
+            .subscribe(TodoStatusChangedEvent.class, event -> deliveries.add("status:" + event.newStatus()))
+            .build();
+        List<DomainEvent> events = completedTodoEvents();
+
+        // When
+        events.forEach(bus::publish);
+
+        // Then - changement de statut puis complétion
+        assertThat(deliveries).containsExactly(
+            "any:TodoStatusChangedEvent",
+            "status:COMPLETED",
+            "completed:" + events.get(1).getAggregateId().value(),
+            "any:TodoCompletedEvent");
+    }
+
+    @Test
+    @DisplayName("Should deliver each event once to a handler subscribed to several types, and drop the others")
+    void shouldDeliverOnceToHandlerSubscribedToSeveralTypes() {
+        // Given - TodoCompletedEvent est couvert par DomainEvent
+        List<DomainEvent> deliveries = new CopyOnWriteArrayList<>();
+        DomainEventBus typed = DomainEventBus.builder()
+            .subscribeAll(List.of(TodoCompletedEvent.class, TodoCompletedEvent.class), deliveries::add)
+            .build();
+        DomainEventBus all = DomainEventBus.builder()
+            .subscribeAll(List.of(TodoCompletedEvent.class, DomainEvent.class), deliveries::add)
+            .build();
+        List<DomainEvent> events = completedTodoEvents();
+
+        // When
+        events.forEach(typed::publish);
+
+        // Then - le changement de statut n'a pas d'abonné
+        assertThat(deliveries).containsExactly(events.get(1));
+
+        // When
+        deliveries.clear();
+        events.forEach(all::publish);
+
+        // Then
+        assertThat(deliveries).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    @DisplayName("Should propagate handler failures to the publisher on the same thread")
+    void shouldPropagateFailuresOnSameThread() {
+        DomainEventBus bus = DomainEventBus.builder()
+            .subscribe(DomainEvent.class, event -> {
+                throw new IllegalStateException("Event dispatcher is not accepting events");
+            })
+            .build();
+
+        assertThatThrownBy(() -> bus.publish(completedTodoEvents().get(0)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should run handlers on virtual threads when configured")
+    void shouldRunHandlersOnVirtualThreads() throws Exception {
+        // Given
+        CountDownLatch delivered = new CountDownLatch(2);
+        List<Boolean> virtual = new CopyOnWriteArrayList<>();
+        DomainEventBus bus = DomainEventBus.builder()
+            .subscribe(DomainEvent.class, event -> {
+                virtual.add(Thread.currentThread().isVirtual());
+                delivered.countDown();
+            }, EventExecutionStrategy.virtualThreads())
+            .build();
+
+        // When
+        completedTodoEvents().forEach(bus::publish);
+
+        // Then
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual).containsOnly(true);
+        bus.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should keep default subscriptions on the publishing thread next to asynchronous ones")
+    void shouldKeepDefaultSubscriptionsOnPublishingThread() throws Exception {
+        // Given
+        Thread publisher = Thread.currentThread();
+        List<Thread> callers = new CopyOnWriteArrayList<>();
+        DomainEventBus bus = DomainEventBus.builder()
+            .subscribe(DomainEvent.class, event -> {
+                throw new IllegalStateException("async handler failed");
+            }, EventExecutionStrategy.pooled(1))
+            .subscribe(DomainEvent.class, event -> callers.add(Thread.currentThread()))
+            .subscribe(DomainEvent.class, event -> {
+                throw new IllegalStateException("dispatcher rejected event");
+            })
+            .build();
+
+        // When / Then
+        assertThatThrownBy(() -> bus.publish(completedTodoEvents().get(0)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("dispatcher rejected event");
+        assertThat(callers).containsExactly(publisher);
+        bus.shutdown();
+    }
+
+    private static List<DomainEvent> completedTodoEvents() {
+        Todo todo = Todo.create("Todo", "Description", TodoPriority.NORMAL, null, "user123");
+        todo.getAndClearDomainEvents();
+        todo.complete();
+        return todo.getAndClearDomainEvents();
+    }
+}
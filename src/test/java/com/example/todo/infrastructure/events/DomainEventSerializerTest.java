@@ -0,0 +1,47 @@
+package com.example.todo.infrastructure.events;
+
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.domain.events.TodoStatusChangedEvent;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests de la sérialisation des événements de la boîte d'envoi
+ *
+ * @author Todo Team
+ */
+@DisplayName("Domain Event Serializer Tests")
+class DomainEventSerializerTest {
+
+    private final DomainEventSerializer serializer = new DomainEventSerializer();
+
+    @Test
+    @DisplayName("Should restore an event from its payload")
+    void shouldRestoreEventFromPayload() {
+        // Given
+        DomainEvent event = new TodoStatusChangedEvent(TodoId.generate(), TodoStatus.PENDING,
+                                                       TodoStatus.IN_PROGRESS, "user123", Instant.now());
+
+        // When
+        String payload = serializer.serialize(event);
+        DomainEvent restored = serializer.deserialize(event.getEventType(), payload);
+
+        // Then
+        assertThat(restored).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown event types")
+    void shouldRejectUnknownEventTypes() {
+        assertThatThrownBy(() -> serializer.deserialize("TodoArchivedEvent", "{}"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> serializer.deserialize(TodoStatusChangedEvent.class.getSimpleName(), "not json"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
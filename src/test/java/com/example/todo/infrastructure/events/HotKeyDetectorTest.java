@@ -0,0 +1,62 @@
+package com.example.todo.infrastructure.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests du détecteur de clés chaudes des voies du dispatcher
+ *
+ * @author Todo Team
+ */
+@DisplayName("Hot Key Detector Tests")
+class HotKeyDetectorTest {
+
+    private static final long WINDOW_NANOS = Duration.ofSeconds(10).toNanos();
+
+    @Test
+    @DisplayName("Should report the aggregate carrying most of a lane's window")
+    void shouldReportDominantKey() {
+        // Given
+        HotKeyDetector detector = new HotKeyDetector(Duration.ofSeconds(10), 0.5, 100, 0);
+        for (int i = 0; i < 120; i++) {
+            detector.record("hot");
+            detector.record("cold-" + (i % 10));
+        }
+
+        // When - la fenêtre n'est close qu'une fois écoulée
+        HotKeyDetector.HotKey early = detector.rollIfElapsed(WINDOW_NANOS - 1);
+        HotKeyDetector.HotKey hotKey = detector.rollIfElapsed(WINDOW_NANOS);
+
+        // Then
+        assertThat(early).isNull();
+        assertThat(hotKey).isEqualTo(new HotKeyDetector.HotKey("hot", 120, 240));
+        assertThat(detector.lastTopShare()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should ignore evenly spread or low-volume windows")
+    void shouldIgnoreSpreadOrLowVolumeWindows() {
+        // Given - charge répartie
+        HotKeyDetector detector = new HotKeyDetector(Duration.ofSeconds(10), 0.5, 100, 0);
+        for (int i = 0; i < 200; i++) {
+            detector.record("todo-" + (i % 4));
+        }
+
+        // Then
+        assertThat(detector.rollIfElapsed(WINDOW_NANOS)).isNull();
+        assertThat(detector.lastTopShare()).isEqualTo(0.25);
+
+        // Given - une seule clé mais trop peu d'événements
+        for (int i = 0; i < 50; i++) {
+            detector.record("hot");
+        }
+
+        // Then
+        assertThat(detector.rollIfElapsed(2 * WINDOW_NANOS)).isNull();
+        assertThat(detector.lastTopShare()).isEqualTo(1.0);
+    }
+}
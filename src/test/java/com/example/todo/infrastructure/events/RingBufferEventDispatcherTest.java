@@ -0,0 +1,258 @@
+package com.example.todo.infrastructure.events;
+
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.domain.events.TodoStatusChangedEvent;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests du dispatcher d'événements à tampon circulaire
+ *
+ * @author Todo Team
+ */
+@DisplayName("Ring Buffer Event Dispatcher Tests")
+class RingBufferEventDispatcherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RingBufferEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver every event in order to each handler, in batches")
+    void shouldDeliverEventsInOrderToEachHandler() throws Exception {
+        // Given - le premier gestionnaire est bloqué : les événements s'accumulent en lot
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler slow = new RecordingHandler(release);
+        RecordingHandler fast = new RecordingHandler(null);
+        dispatcher = new RingBufferEventDispatcher(List.of(slow, fast), 64, 16, registry);
+        dispatcher.start();
+        List<DomainEvent> events = events(40);
+
+        // When
+        events.forEach(dispatcher::publish);
+        release.countDown();
+        dispatcher.shutdown();
+
+        // Then
+        assertThat(slow.events).containsExactlyElementsOf(events);
+        assertThat(fast.events).containsExactlyElementsOf(events);
+        assertThat(slow.batchSizes).allMatch(size -> size <= 16);
+        assertThat(slow.batchSizes.size()).isLessThan(40);
+        assertThat(registry.get("events.published").counter().count()).isEqualTo(40);
+        // Les deux gestionnaires, de même classe, partagent le compteur
+        assertThat(registry.get("events.dispatched").tags("handler", "RecordingHandler").counter().count())
+            .isEqualTo(80);
+        assertThat(registry.get("events.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep each aggregate in order on its lane while lanes run in parallel")
+    void shouldKeepAggregateOrderAcrossLanes() throws Exception {
+        // Given - 8 agrégats répartis sur les 4 voies, 50 changements de statut chacun
+        Map<String, List<String>> received = new ConcurrentHashMap<>();
+        Map<String, Set<String>> threadsByAggregate = new ConcurrentHashMap<>();
+        DomainEventBatchHandler recording = batch -> batch.forEach(event -> {
+            String aggregateId = event.getAggregateId().value();
+            received.computeIfAbsent(aggregateId, id -> new CopyOnWriteArrayList<>())
+                .add(((TodoStatusChangedEvent) event).userId());
+            threadsByAggregate.computeIfAbsent(aggregateId, id -> ConcurrentHashMap.newKeySet())
+                .add(Thread.currentThread().getName());
+        });
+        dispatcher = new RingBufferEventDispatcher(List.of(recording), 64, 16, 4, Duration.ofSeconds(10), 0.5, registry);
+        dispatcher.start();
+
+        // When - publication entrelacée des agrégats
+        for (int n = 0; n < 50; n++) {
+            for (int aggregate = 1; aggregate <= 8; aggregate++) {
+                dispatcher.publish(new TodoStatusChangedEvent(aggregateId(aggregate), TodoStatus.PENDING,
+                                                              TodoStatus.IN_PROGRESS, "seq-" + n, Instant.now()));
+            }
+        }
+        dispatcher.shutdown();
+
+        // Then
+        List<String> expectedOrder = IntStream.range(0, 50).mapToObj(n -> "seq-" + n).toList();
+        assertThat(received).hasSize(8);
+        assertThat(received.values()).allSatisfy(sequence -> assertThat(sequence).containsExactlyElementsOf(expectedOrder));
+        assertThat(threadsByAggregate.values()).allSatisfy(threads -> assertThat(threads).hasSize(1));
+        assertThat(threadsByAggregate.values().stream().flatMap(Set::stream).distinct()).hasSize(4);
+        assertThat(registry.get("events.dispatched").tags("lane", "0").counter().count()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should make publishers wait while the buffer is full")
+    void shouldApplyBackPressureWhenFull() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler blocked = new RecordingHandler(release);
+        dispatcher = new RingBufferEventDispatcher(List.of(blocked), 4, 4, registry);
+        dispatcher.start();
+        List<DomainEvent> events = events(10);
+
+        // When
+        CompletableFuture<Void> publishing = CompletableFuture.runAsync(() -> events.forEach(dispatcher::publish));
+
+        // Then
+        Thread.sleep(200);
+        assertThat(publishing).isNotDone();
+        release.countDown();
+        publishing.get(5, TimeUnit.SECONDS);
+        dispatcher.shutdown();
+        assertThat(blocked.events).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    @DisplayName("Should keep dispatching after a handler failure")
+    void shouldKeepDispatchingAfterHandlerFailure() throws Exception {
+        // Given
+        List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        DomainEventBatchHandler failingOnce = new DomainEventBatchHandler() {
+            private boolean failed;
+
+            @Override
+            public void onEvents(List<DomainEvent> batch) {
+                if (!failed) {
+                    failed = true;
+                    throw new IllegalStateException("boom");
+                }
+                received.addAll(batch);
+            }
+        };
+        dispatcher = new RingBufferEventDispatcher(List.of(failingOnce), 8, 1, registry);
+        dispatcher.start();
+        List<DomainEvent> events = events(3);
+
+        // When
+        events.forEach(dispatcher::publish);
+        dispatcher.shutdown();
+
+        // Then
+        assertThat(received).containsExactlyElementsOf(events.subList(1, 3));
+        assertThat(registry.get("events.handler.errors").counter().count()).isEqualTo(1);
+        assertThat(registry.get("events.dispatched").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should fail instead of blocking publishers when a lane dies")
+    void shouldFailWhenLaneDies() throws Exception {
+        // Given - le gestionnaire lève une Error dès le premier lot
+        dispatcher = new RingBufferEventDispatcher(List.of(batch -> {
+            throw new Error("boom");
+        }), 4, 4, registry);
+        dispatcher.start();
+        List<DomainEvent> events = events(10);
+
+        // When - la voie ne libère plus le tampon : le producteur doit être relâché
+        CompletableFuture<Void> publishing = CompletableFuture.runAsync(() -> events.forEach(dispatcher::publish));
+
+        // Then
+        assertThatThrownBy(() -> publishing.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> dispatcher.publish(events.get(0)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("failed");
+        assertThat(dispatcher.isFailed()).isTrue();
+        assertThat(registry.get("events.dispatcher.failed").gauge().value()).isEqualTo(1.0);
+
+        long start = System.nanoTime();
+        dispatcher.shutdown();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should wake a sleeping lane as soon as an event is published")
+    void shouldWakeSleepingLaneOnPublish() throws Exception {
+        // Given - la voie est inactive depuis assez longtemps pour être endormie
+        CountDownLatch handled = new CountDownLatch(1);
+        dispatcher = new RingBufferEventDispatcher(List.of(batch -> handled.countDown()), 8, 8, registry);
+        dispatcher.start();
+        Thread.sleep(200);
+
+        // When
+        long start = System.nanoTime();
+        dispatcher.publish(events(1).get(0));
+
+        // Then - bien avant le réveil périodique de la voie
+        assertThat(handled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(50));
+        assertThat(dispatcher.isFailed()).isFalse();
+        assertThat(registry.get("events.dispatcher.failed").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject events once stopped")
+    void shouldRejectEventsOnceStopped() throws Exception {
+        dispatcher = new RingBufferEventDispatcher(List.of(new RecordingHandler(null)), 8, 8, registry);
+        assertThatThrownBy(() -> dispatcher.publish(events(1).get(0))).isInstanceOf(IllegalStateException.class);
+
+        dispatcher.start();
+        dispatcher.shutdown();
+
+        assertThatThrownBy(() -> dispatcher.publish(events(1).get(0))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new RingBufferEventDispatcher(List.of(), 100, 8, registry))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TodoId aggregateId(int n) {
+        return TodoId.of("00000000-0000-0000-0000-%012d".formatted(n));
+    }
+
+    private static List<DomainEvent> events(int count) {
+        return IntStream.range(0, count)
+            .<DomainEvent>mapToObj(i -> new TodoStatusChangedEvent(TodoId.generate(), TodoStatus.PENDING,
+                                                                    TodoStatus.IN_PROGRESS, "user123", Instant.now()))
+            .toList();
+    }
+
+    /**
+     * Gestionnaire qui enregistre les lots reçus, éventuellement bloqué jusqu'au signal
+     */
+    private static final class RecordingHandler implements DomainEventBatchHandler {
+
+        private final CountDownLatch release;
+        private final List<DomainEvent> events = new CopyOnWriteArrayList<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        private RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void onEvents(List<DomainEvent> batch) {
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.addAll(new ArrayList<>(batch));
+            batchSizes.add(batch.size());
+        }
+    }
+}
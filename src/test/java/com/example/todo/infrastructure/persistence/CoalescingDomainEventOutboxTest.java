@@ -0,0 +1,120 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.domain.events.TodoCompletedEvent;
+import com.example.todo.domain.events.TodoCreatedEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests de la boîte d'envoi avec fusion des événements par transaction
+ *
+ * @author Todo Team
+ */
+@DisplayName("Coalescing Domain Event Outbox Tests")
+class CoalescingDomainEventOutboxTest {
+
+    private final JdbcDomainEventOutbox delegate = mock(JdbcDomainEventOutbox.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CoalescingDomainEventOutbox outbox = new CoalescingDomainEventOutbox(delegate, registry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(outbox);
+    }
+
+    @Test
+    @DisplayName("Should write the net events of the transaction once, before commit")
+    void shouldWriteNetEventsBeforeCommit() {
+        // Given - le Todo est sauvegardé deux fois dans la transaction
+        TransactionSynchronizationManager.initSynchronization();
+        Todo todo = Todo.create("Todo", "Description", TodoPriority.NORMAL, null, "user123");
+        List<DomainEvent> firstSave = todo.getAndClearDomainEvents();
+        todo.start();
+        todo.complete();
+        List<DomainEvent> secondSave = todo.getAndClearDomainEvents();
+
+        // When
+        outbox.append(firstSave);
+        outbox.append(secondSave);
+
+        // Then - rien n'est écrit avant le commit
+        verify(delegate, never()).append(any());
+
+        // When
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        verify(delegate).append(argThat(events -> events.size() == 2
+            && events.get(0) instanceof TodoCreatedEvent
+            && events.get(1) instanceof TodoCompletedEvent));
+        assertThat(registry.get("events.suppressed").counter().count()).isEqualTo(2);
+        assertThat(TransactionSynchronizationManager.getResource(outbox)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the events of a suspended transaction apart from the inner one")
+    void shouldKeepSuspendedTransactionEventsApart() {
+        // Given - la transaction externe retient ses événements puis est suspendue
+        TransactionSynchronizationManager.initSynchronization();
+        List<DomainEvent> outer = Todo.create("Outer", "Description", TodoPriority.NORMAL, null, "user123")
+            .getAndClearDomainEvents();
+        outbox.append(outer);
+        List<TransactionSynchronization> suspended = TransactionSynchronizationManager.getSynchronizations();
+        suspended.forEach(TransactionSynchronization::suspend);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // When - la transaction interne (REQUIRES_NEW) ajoute et valide les siens
+        TransactionSynchronizationManager.initSynchronization();
+        List<DomainEvent> inner = Todo.create("Inner", "Description", TodoPriority.NORMAL, null, "user123")
+            .getAndClearDomainEvents();
+        outbox.append(inner);
+        List<TransactionSynchronization> innerSynchronizations = TransactionSynchronizationManager.getSynchronizations();
+        innerSynchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        innerSynchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        verify(delegate).append(inner);
+
+        // When - la transaction externe reprend et valide
+        TransactionSynchronizationManager.initSynchronization();
+        suspended.forEach(synchronization -> {
+            TransactionSynchronizationManager.registerSynchronization(synchronization);
+            synchronization.resume();
+        });
+        suspended.forEach(synchronization -> synchronization.beforeCommit(false));
+
+        // Then
+        verify(delegate).append(outer);
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should write immediately without transaction synchronization")
+    void shouldWriteImmediatelyWithoutSynchronization() {
+        Todo todo = Todo.create("Todo", "Description", TodoPriority.NORMAL, null, "user123");
+        List<DomainEvent> events = todo.getAndClearDomainEvents();
+
+        outbox.append(events);
+
+        verify(delegate).append(events);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.model.TodoStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests du chargeur de masse
+ *
+ * Sur H2 (profil dev/test), le chargeur utilise le repli par INSERT JDBC en lots ;
+ * l'encodage CSV destiné à COPY est vérifié séparément.
+ *
+ * @author Todo Team
+ */
+@DataJpaTest
+@Import({CopyTodoBulkLoader.class})
+@DisplayName("Copy Todo Bulk Loader Tests")
+class CopyTodoBulkLoaderTest {
+
+    @Autowired
+    private CopyTodoBulkLoader bulkLoader;
+
+    @Autowired
+    private TodoJpaRepository jpaRepository;
+
+    private static final String USER_ID = "user123";
+
+    @Test
+    @DisplayName("Should load todos with batched inserts on H2")
+    void shouldLoadTodosWithBatchedInsertsOnH2() {
+        // Given
+        Instant dueDate = Instant.now().plus(2, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MICROS);
+        List<Todo> todos = IntStream.range(0, 45)
+            .mapToObj(i -> Todo.create("Todo " + i, i % 2 == 0 ? null : "Description " + i,
+                                       TodoPriority.HIGH, dueDate, USER_ID))
+            .toList();
+
+        // When
+        long loaded = bulkLoader.load(todos);
+
+        // Then
+        assertThat(loaded).isEqualTo(45);
+        assertThat(jpaRepository.countByUserIdAndStatus(USER_ID, TodoStatus.PENDING)).isEqualTo(45);
+
+        TodoJpaEntity entity = jpaRepository.findById(todos.get(1).getId().value()).orElseThrow();
+        assertThat(entity.getTitle()).isEqualTo("Todo 1");
+        assertThat(entity.getDescription()).isEqualTo("Description 1");
+        assertThat(entity.getPriorityLevel()).isEqualTo(TodoPriority.HIGH.level());
+        assertThat(entity.getDueDate()).isEqualTo(dueDate);
+        assertThat(entity.getCompletedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should encode COPY rows with quoted text and empty nulls")
+    void shouldEncodeCopyRowsWithQuotedTextAndEmptyNulls() {
+        // Given
+        Instant createdAt = Instant.parse("2024-01-15T10:30:00Z");
+        Todo todo = new Todo(TodoId.of("550e8400-e29b-41d4-a716-446655440000"), "Say \"hi\", then leave", "",
+                             TodoStatus.PENDING, TodoPriority.NORMAL, null, USER_ID, createdAt, createdAt, null);
+        StringBuilder buffer = new StringBuilder();
+
+        // When
+        CopyTodoBulkLoader.appendCsvRow(buffer, todo);
+
+        // Then
+        assertThat(buffer.toString()).isEqualTo(
+            "\"550e8400-e29b-41d4-a716-446655440000\",\"Say \"\"hi\"\", then leave\",\"\",PENDING,2,\"Normale\"," +
+            ",\"user123\",2024-01-15T10:30:00Z,2024-01-15T10:30:00Z,\n");
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.application.dto.CreateTodoCommand;
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.application.usecase.CreateTodoUseCase;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.repository.ActiveTodoCounter;
+import com.example.todo.domain.repository.CacheVersionPort;
+import com.example.todo.domain.repository.TodoIdFilter;
+import com.example.todo.domain.repository.TodoRepository;
+import com.example.todo.domain.service.TodoDomainService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compte les requêtes SQL émises par la création d'un Todo
+ *
+ * Les requêtes sont comptées sur la DataSource ({@link StatementRecorder}) : celles
+ * d'Hibernate comme celles de JdbcTemplate (boîte d'envoi). Le compteur de Todos
+ * actifs et le domain service sont réels, et la transaction est validée pour que la
+ * boîte d'envoi écrive ses événements avant le commit.
+ *
+ * Un Todo nouveau doit être inséré par persist : un seul INSERT, sans SELECT préalable.
+ *
+ * @author Todo Team
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TodoRepositoryImpl.class, JdbcDomainEventOutbox.class, CoalescingDomainEventOutbox.class,
+         JpaActiveTodoCounter.class, UserTodoCounterInitializer.class, CreateTodoUseCase.class,
+         CreateTodoStatementCountTest.StatementCountConfig.class})
+@DisplayName("Create Todo Statement Count Tests")
+class CreateTodoStatementCountTest {
+
+    private static final String USER_ID = "statement-count-user";
+
+    @Autowired
+    private CreateTodoUseCase createTodoUseCase;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private CacheVersionPort cacheVersionPort;
+
+    @MockBean
+    private TodoIdFilter todoIdFilter;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM todo_outbox");
+        jdbcTemplate.update("DELETE FROM todos WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM user_todo_counters WHERE user_id = ?", USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should issue one statement per write when creating a todo")
+    void shouldIssueOneStatementPerWriteWhenCreatingTodo() {
+        // Given - le compteur de l'utilisateur existe déjà (hors première création)
+        createTodo();
+        statementRecorder.clear();
+
+        // When
+        TodoResponse response = createTodo();
+
+        // Then - verrou du compteur, INSERT du Todo, incrément du compteur, INSERT des événements
+        List<String> statements = statementRecorder.statements().stream()
+            .map(statement -> statement.sql().stripLeading().toLowerCase())
+            .toList();
+        assertThat(statements).hasSize(4);
+        assertThat(statements).filteredOn(sql -> sql.startsWith("select"))
+            .singleElement().satisfies(sql -> assertThat(sql).contains("user_todo_counters").contains("for update"));
+        assertThat(statements).filteredOn(sql -> sql.startsWith("insert into todos")).hasSize(1);
+        assertThat(statements).filteredOn(sql -> sql.startsWith("update user_todo_counters")).hasSize(1);
+        assertThat(statements).filteredOn(sql -> sql.startsWith("insert into todo_outbox")).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos WHERE id = ?", Long.class, response.id()))
+            .isEqualTo(1);
+    }
+
+    private TodoResponse createTodo() {
+        return createTodoUseCase.execute(
+            new CreateTodoCommand("Test Todo", "Test Description", TodoPriority.NORMAL, null), USER_ID);
+    }
+
+    @TestConfiguration
+    static class StatementCountConfig {
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        TodoDomainService todoDomainService(TodoRepository todoRepository, ActiveTodoCounter activeTodoCounter) {
+            return new TodoDomainService(todoRepository, activeTodoCounter);
+        }
+    }
+}
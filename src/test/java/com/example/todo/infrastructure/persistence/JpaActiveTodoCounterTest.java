@@ -0,0 +1,163 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.repository.ActiveTodoCounter;
+import com.example.todo.domain.repository.TodoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests des compteurs de Todos actifs maintenus par le repository
+ *
+ * L'initialisation d'un compteur est validée dans sa propre transaction :
+ * chaque test utilise un utilisateur distinct. Les tests de concurrence ne sont pas
+ * transactionnels, pour que les deux transactions se voient.
+ *
+ * @author Todo Team
+ */
+@DataJpaTest
+@Import({TodoRepositoryImpl.class, JdbcDomainEventOutbox.class, JpaActiveTodoCounter.class, UserTodoCounterInitializer.class})
+@DisplayName("Active Todo Counter Tests")
+class JpaActiveTodoCounterTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ActiveTodoCounter activeTodoCounter;
+
+    @Autowired
+    private UserTodoCounterInitializer initializer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should follow creations, status transitions and deletions")
+    void shouldFollowCreationsStatusTransitionsAndDeletions() {
+        // Given
+        String userId = "user-" + UUID.randomUUID();
+        List<Todo> todos = IntStream.range(0, 4)
+            .mapToObj(i -> todoRepository.save(Todo.create("Todo " + i, null, TodoPriority.NORMAL, null, userId)))
+            .toList();
+
+        // When
+        Todo started = todos.get(0);
+        started.start();
+        todoRepository.save(started);
+
+        Todo completed = todos.get(1);
+        completed.complete();
+        todoRepository.save(completed);
+
+        Todo cancelled = todos.get(2);
+        cancelled.cancel();
+        todoRepository.save(cancelled);
+
+        todoRepository.deleteById(cancelled.getId());
+        todoRepository.deleteById(todos.get(3).getId());
+
+        // Then - seul le Todo démarré reste actif
+        assertThat(activeTodoCounter.getActiveCount(userId)).isEqualTo(1);
+        assertThat(activeTodoCounter.lockActiveCount(userId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should adjust counters once per user for a batch")
+    void shouldAdjustCountersOncePerUserForBatch() {
+        // Given
+        String firstUser = "user-" + UUID.randomUUID();
+        String secondUser = "user-" + UUID.randomUUID();
+        List<Todo> todos = IntStream.range(0, 6)
+            .mapToObj(i -> Todo.create("Todo " + i, null, TodoPriority.NORMAL, null, i % 3 == 0 ? secondUser : firstUser))
+            .toList();
+
+        // When
+        todoRepository.saveAll(todos);
+
+        // Then
+        assertThat(activeTodoCounter.getActiveCount(firstUser)).isEqualTo(4);
+        assertThat(activeTodoCounter.getActiveCount(secondUser)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reset the counter when all todos of a user are deleted")
+    void shouldResetCounterWhenAllTodosOfUserAreDeleted() {
+        // Given
+        String userId = "user-" + UUID.randomUUID();
+        todoRepository.save(Todo.create("Todo", null, TodoPriority.NORMAL, null, userId));
+
+        // When
+        todoRepository.deleteByUserId(userId);
+
+        // Then
+        assertThat(activeTodoCounter.getActiveCount(userId)).isZero();
+        assertThat(activeTodoCounter.lockActiveCount(userId)).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should translate a duplicate counter initialization")
+    void shouldTranslateDuplicateCounterInitialization() {
+        // Given
+        String userId = "user-" + UUID.randomUUID();
+        initializer.initialize(userId);
+
+        // When / Then
+        assertThatThrownBy(() -> initializer.initialize(userId))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should serve concurrent first creates of the same user")
+    void shouldServeConcurrentFirstCreatesOfSameUser() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int round = 0; round < 10; round++) {
+            // Given - aucun compteur pour cet utilisateur
+            String userId = "user-" + UUID.randomUUID();
+            CyclicBarrier start = new CyclicBarrier(2);
+            Runnable firstCreate = () -> {
+                await(start);
+                transactionTemplate.executeWithoutResult(status -> {
+                    activeTodoCounter.lockActiveCount(userId);
+                    todoRepository.save(Todo.create("Todo", null, TodoPriority.NORMAL, null, userId));
+                });
+            };
+
+            // When
+            CompletableFuture<Void> first = CompletableFuture.runAsync(firstCreate);
+            CompletableFuture<Void> second = CompletableFuture.runAsync(firstCreate);
+
+            // Then - aucune des deux créations n'échoue sur la clé du compteur
+            CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+            assertThat(activeTodoCounter.getActiveCount(userId)).isEqualTo(2);
+        }
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
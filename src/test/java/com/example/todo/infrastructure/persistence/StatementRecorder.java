@@ -0,0 +1,108 @@
+package com.example.todo.infrastructure.persistence;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Enregistre les requêtes préparées sur la DataSource et leurs paramètres, dans
+ * l'ordre d'exécution
+ *
+ * Déclaré comme bean ({@code static}) d'une configuration de test, il enveloppe la
+ * DataSource : toutes les requêtes passent par lui, qu'elles viennent d'Hibernate
+ * ou de JdbcTemplate. Une exécution de lot compte pour une requête.
+ *
+ * @author Todo Team
+ */
+final class StatementRecorder implements BeanPostProcessor {
+
+    private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        return proxy(DataSource.class, dataSource, (method, result, args) ->
+            result instanceof Connection connection ? recordingConnection(connection) : result);
+    }
+
+    List<RecordedStatement> statements() {
+        return List.copyOf(statements);
+    }
+
+    void clear() {
+        statements.clear();
+    }
+
+    private Connection recordingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, result, args) ->
+            method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement
+                ? recordingStatement(statement, (String) args[0])
+                : result);
+    }
+
+    private PreparedStatement recordingStatement(PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {PreparedStatement.class}, (instance, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    bindings.add(new Binding(method, args));
+                } else if (name.equals("clearParameters")) {
+                    bindings.clear();
+                } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                    statements.add(new RecordedStatement(sql, List.copyOf(bindings)));
+                }
+                return invoke(method, statement, args);
+            });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, ResultWrapper wrapper) {
+        return type.cast(Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(),
+            new Class<?>[] {type}, (instance, method, args) ->
+                wrapper.wrap(method, invoke(method, target, args), args)));
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResultWrapper {
+        Object wrap(Method method, Object result, Object[] args);
+    }
+
+    /**
+     * Requête exécutée et ses paramètres liés
+     */
+    record RecordedStatement(String sql, List<Binding> bindings) {
+    }
+
+    /**
+     * Appel setXxx(index, valeur, ...) rejoué tel quel sur une autre requête
+     */
+    record Binding(Method setter, Object[] args) {
+
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, args);
+            } catch (ReflectiveOperationException e) {
+                throw new SQLException("Cannot replay " + setter.getName(), e);
+            }
+        }
+    }
+}
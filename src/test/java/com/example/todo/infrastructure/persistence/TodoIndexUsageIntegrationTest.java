@@ -0,0 +1,188 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.model.TodoStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests d'intégration des plans d'exécution
+ *
+ * Applique les migrations Flyway sur PostgreSQL puis vérifie via EXPLAIN que
+ * chaque requête du repository est servie par un index (et, pour les listes
+ * paginées, que le tri est fourni par l'index sans nœud Sort). Les requêtes
+ * expliquées sont celles qu'Hibernate génère pour les méthodes de
+ * {@link TodoJpaRepository}, enregistrées sur la DataSource avec leurs paramètres.
+ *
+ * @author Todo Team
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.flyway.enabled=true"
+})
+@Import(TodoIndexUsageIntegrationTest.StatementRecorderConfig.class)
+@DisplayName("Todo Index Usage Integration Tests")
+class TodoIndexUsageIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("todoexplain")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TodoJpaRepository todoJpaRepository;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    private static final String USER_ID = "user-42";
+
+    @BeforeEach
+    void loadRealisticVolume() {
+        // 200 utilisateurs x 100 Todos : le filtre sur user_id est sélectif
+        jdbcTemplate.execute("""
+            INSERT INTO todos (id, title, status, priority_level, priority_name, due_date,
+                               user_id, created_at, updated_at, completed_at)
+            SELECT gen_random_uuid()::text,
+                   'Todo ' || g,
+                   (ARRAY['PENDING', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED'])[(g / 200) % 4 + 1],
+                   (g / 200) % 4 + 1,
+                   'Level ' || ((g / 200) % 4 + 1),
+                   CASE WHEN g % 3 = 0 THEN NULL ELSE now() + ((g % 60) - 30) * interval '1 day' END,
+                   'user-' || (g % 200),
+                   now() - g * interval '1 minute',
+                   now() - g * interval '1 minute',
+                   CASE WHEN (g / 200) % 4 = 2 THEN now() ELSE NULL END
+            FROM generate_series(1, 20000) AS g
+            """);
+        jdbcTemplate.execute("ANALYZE todos");
+    }
+
+    @Test
+    @DisplayName("Offset list query should be served by the index without sorting")
+    void offsetListQueryShouldUseIndex() {
+        String plan = explainQuery(() -> todoJpaRepository.findByUserIdOrderByCreatedAtDesc(USER_ID, PageRequest.of(2, 20)));
+
+        assertThat(plan).contains("idx_todos_user_created").doesNotContain("Seq Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("Keyset list query should seek on the index without sorting")
+    void keysetListQueryShouldUseIndex() {
+        Instant cursor = Instant.now().minus(1, ChronoUnit.HOURS);
+        String plan = explainQuery(() -> todoJpaRepository.findByUserIdAfter(USER_ID, cursor, "ffffffff", PageRequest.of(0, 21)));
+
+        assertThat(plan).contains("idx_todos_user_created").doesNotContain("Seq Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("Status list query should be served by the index without sorting")
+    void statusListQueryShouldUseIndex() {
+        String plan = explainQuery(() -> todoJpaRepository.findByUserIdAndStatusOrderByCreatedAtDescIdDesc(
+            USER_ID, TodoStatus.PENDING, PageRequest.of(0, 21)));
+
+        assertThat(plan).contains("idx_todos_user_status_created").doesNotContain("Seq Scan").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("Status count query should be served by the index")
+    void statusCountQueryShouldUseIndex() {
+        String plan = explainQuery(() -> todoJpaRepository.countByUserIdAndStatus(USER_ID, TodoStatus.PENDING));
+
+        assertThat(plan).contains("idx_todos_user_status_created").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("Overdue query should be served by the partial index")
+    void overdueQueryShouldUseIndex() {
+        String plan = explainQuery(() -> todoJpaRepository.findOverdueTodosByUserId(USER_ID, Instant.now()));
+
+        assertThat(plan).contains("idx_todos_user_overdue_created").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("Due date range query should be served by the index")
+    void dueDateRangeQueryShouldUseIndex() {
+        Instant now = Instant.now();
+        String plan = explainQuery(() -> todoJpaRepository.findByUserIdAndDueDateBetweenOrderByDueDateAscCreatedAtDesc(
+            USER_ID, now, now.plus(7, ChronoUnit.DAYS)));
+
+        assertThat(plan).contains("idx_todos_user_due_created").doesNotContain("Seq Scan");
+    }
+
+    /**
+     * Appelle le repository puis rejoue sous EXPLAIN la première requête SELECT émise
+     * par Hibernate, avec les mêmes paramètres
+     */
+    private String explainQuery(Runnable repositoryCall) {
+        statementRecorder.clear();
+        repositoryCall.run();
+        StatementRecorder.RecordedStatement query = statementRecorder.statements().stream()
+            .filter(statement -> statement.sql().stripLeading().toLowerCase().startsWith("select"))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No SELECT issued by the repository"));
+
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + query.sql())) {
+                for (StatementRecorder.Binding binding : query.bindings()) {
+                    binding.applyTo(explain);
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet plan = explain.executeQuery()) {
+                    while (plan.next()) {
+                        lines.add(plan.getString(1));
+                    }
+                }
+                return String.join("\n", lines);
+            }
+        });
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.events.DomainEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.repository.TodoRepository;
+import com.example.todo.infrastructure.events.DomainEventBus;
+import com.example.todo.infrastructure.events.TodoOutboxRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests d'intégration de la boîte d'envoi sur PostgreSQL
+ *
+ * Applique les migrations Flyway (index partiel des événements en attente) puis
+ * vérifie le verrouillage SKIP LOCKED des lots, leur ordre, le marquage, la purge et
+ * le relais, ainsi que la fusion des événements d'une transaction par le
+ * repository. Les transactions sont validées réellement : le test n'est pas
+ * transactionnel, pour que deux transactions concurrentes se voient.
+ *
+ * @author Todo Team
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JdbcDomainEventOutbox.class, CoalescingDomainEventOutbox.class, TodoRepositoryImpl.class,
+         JpaActiveTodoCounter.class, UserTodoCounterInitializer.class,
+         TodoOutboxIntegrationTest.MeterRegistryConfig.class})
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.flyway.enabled=true"
+})
+@DisplayName("Todo Outbox Integration Tests")
+class TodoOutboxIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("todooutbox")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private TodoOutboxJpaRepository outboxRepository;
+
+    @Autowired
+    private JdbcDomainEventOutbox outbox;
+
+    @Autowired
+    private CoalescingDomainEventOutbox coalescingOutbox;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.execute("TRUNCATE todo_outbox RESTART IDENTITY");
+    }
+
+    @Test
+    @DisplayName("Should lock a bounded batch in id order")
+    void shouldLockBoundedBatchInIdOrder() {
+        // Given
+        appendCreatedEvents(5);
+
+        // When
+        List<Long> locked = transactionTemplate.execute(status ->
+            outboxRepository.lockPendingBatch(3).stream().map(TodoOutboxJpaEntity::getId).toList());
+
+        // Then
+        assertThat(locked).hasSize(3).isSorted();
+        assertThat(locked).containsExactlyElementsOf(pendingIds().subList(0, 3));
+    }
+
+    @Test
+    @DisplayName("Should skip rows locked by a concurrent transaction")
+    void shouldSkipRowsLockedByConcurrentTransaction() throws Exception {
+        // Given
+        appendCreatedEvents(5);
+        List<Long> ids = pendingIds();
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+
+        // When - la première transaction garde ses lignes verrouillées
+        CompletableFuture<List<Long>> first = CompletableFuture.supplyAsync(() ->
+            transactionTemplate.execute(status -> {
+                List<Long> locked = outboxRepository.lockPendingBatch(2).stream()
+                    .map(TodoOutboxJpaEntity::getId)
+                    .toList();
+                firstLocked.countDown();
+                await(secondDone);
+                return locked;
+            }));
+        assertThat(firstLocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        long started = System.nanoTime();
+        List<Long> second = transactionTemplate.execute(status ->
+            outboxRepository.lockPendingBatch(10).stream().map(TodoOutboxJpaEntity::getId).toList());
+        Duration waited = Duration.ofNanos(System.nanoTime() - started);
+        secondDone.countDown();
+
+        // Then
+        assertThat(first.get(10, TimeUnit.SECONDS)).containsExactlyElementsOf(ids.subList(0, 2));
+        assertThat(second).containsExactlyElementsOf(ids.subList(2, 5));
+        assertThat(waited).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should exclude delivered events from pending batches")
+    void shouldExcludeDeliveredEventsFromPendingBatches() {
+        // Given
+        appendCreatedEvents(3);
+        List<Long> ids = pendingIds();
+        Instant deliveredAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        // When
+        Integer marked = transactionTemplate.execute(status ->
+            outboxRepository.markDelivered(ids.subList(0, 2), deliveredAt));
+
+        // Then
+        assertThat(marked).isEqualTo(2);
+        assertThat(pendingIds()).containsExactly(ids.get(2));
+        assertThat(outboxRepository.countByDeliveredAtIsNull()).isEqualTo(1);
+        assertThat(outboxRepository.findById(ids.get(0)).orElseThrow().getDeliveredAt()).isEqualTo(deliveredAt);
+    }
+
+    @Test
+    @DisplayName("Should delete only events delivered before the retention limit")
+    void shouldDeleteOnlyEventsDeliveredBeforeRetentionLimit() {
+        // Given
+        appendCreatedEvents(4);
+        List<Long> ids = pendingIds();
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.markDelivered(ids.subList(0, 2), now.minus(2, ChronoUnit.HOURS));
+            outboxRepository.markDelivered(List.of(ids.get(2)), now);
+        });
+
+        // When
+        Integer deleted = transactionTemplate.execute(status ->
+            outboxRepository.deleteDeliveredBefore(now.minus(1, ChronoUnit.HOURS), 1000));
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(outboxRepository.findAll()).extracting(TodoOutboxJpaEntity::getId)
+            .containsExactlyInAnyOrder(ids.get(2), ids.get(3));
+    }
+
+    @Test
+    @DisplayName("Should relay events in order and skip an unreadable one")
+    void shouldRelayEventsInOrderAndSkipUnreadableOne() {
+        // Given
+        List<DomainEvent> appended = appendCreatedEvents(2);
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.save(
+            new TodoOutboxJpaEntity("unknown", "TodoArchivedEvent", "{}", Instant.now(), Instant.now())));
+        appended.addAll(appendCreatedEvents(1));
+        List<DomainEvent> published = new ArrayList<>();
+        TodoOutboxRelay relay = relay(DomainEventBus.builder()
+            .subscribe(DomainEvent.class, published::add)
+            .build());
+
+        // When
+        relay.relay();
+
+        // Then
+        assertThat(published).extracting(DomainEvent::getAggregateId)
+            .containsExactlyElementsOf(appended.stream().map(DomainEvent::getAggregateId).toList());
+        assertThat(outboxRepository.countByDeliveredAtIsNull()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave the batch pending when publishing fails")
+    void shouldLeaveBatchPendingWhenPublishingFails() {
+        // Given
+        appendCreatedEvents(3);
+        TodoOutboxRelay relay = relay(DomainEventBus.builder()
+            .subscribe(DomainEvent.class, event -> {
+                throw new IllegalStateException("Event dispatcher is not accepting events");
+            })
+            .build());
+
+        // When / Then
+        assertThatThrownBy(relay::relay).isInstanceOf(IllegalStateException.class);
+        assertThat(outboxRepository.countByDeliveredAtIsNull()).isEqualTo(3);
+        assertThat(transactionTemplate.execute(status -> outboxRepository.lockPendingBatch(10))).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should record a single completion event for a todo completed and committed")
+    void shouldRecordSingleCompletionEventOnCommit() {
+        // Given
+        Todo todo = Todo.create("Todo", "Description", TodoPriority.NORMAL, null, "user123");
+        transactionTemplate.executeWithoutResult(status -> todoRepository.save(todo));
+
+        // When - démarré puis terminé dans la même transaction
+        transactionTemplate.executeWithoutResult(status -> {
+            Todo loaded = todoRepository.findById(todo.getId()).orElseThrow();
+            loaded.start();
+            todoRepository.save(loaded);
+            loaded.complete();
+            todoRepository.save(loaded);
+        });
+
+        // Then
+        assertThat(eventTypes(todo)).containsExactly("TodoCreatedEvent", "TodoCompletedEvent");
+    }
+
+    @Test
+    @DisplayName("Should write the events of a nested transaction at its own commit")
+    void shouldWriteNestedTransactionEventsAtItsOwnCommit() {
+        // Given
+        List<DomainEvent> outer = createdEvents(2);
+        List<DomainEvent> inner = createdEvents(1);
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        List<Long> pendingAfterInnerCommit = new ArrayList<>();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            coalescingOutbox.append(outer);
+            requiresNew.executeWithoutResult(innerStatus -> coalescingOutbox.append(inner));
+            pendingAfterInnerCommit.addAll(pendingIds());
+        });
+
+        // Then - la transaction interne n'a écrit que ses événements, l'externe les siens
+        assertThat(pendingAfterInnerCommit).hasSize(1);
+        assertThat(outboxRepository.findById(pendingAfterInnerCommit.get(0)).orElseThrow().getAggregateId())
+            .isEqualTo(inner.get(0).getAggregateId().value());
+        assertThat(pendingIds()).hasSize(3);
+    }
+
+    private List<DomainEvent> appendCreatedEvents(int count) {
+        List<DomainEvent> events = new ArrayList<>();
+        List<DomainEvent> events = createdEvents(count);
+        transactionTemplate.executeWithoutResult(status -> outbox.append(events));
+        return events;
+    }
+
+    private static List<DomainEvent> createdEvents(int count) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Todo todo = Todo.create("Todo " + i, "Description", TodoPriority.NORMAL, null, "user123");
+            events.addAll(todo.getAndClearDomainEvents());
+        }
+        return events;
+    }
+
+    private List<String> eventTypes(Todo todo) {
+        return jdbcTemplate.queryForList(
+            "SELECT event_type FROM todo_outbox WHERE aggregate_id = ? ORDER BY id", String.class,
+            todo.getId().value());
+    }
+
+    private List<Long> pendingIds() {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM todo_outbox WHERE delivered_at IS NULL ORDER BY id", Long.class);
+    }
+
+    private TodoOutboxRelay relay(DomainEventBus eventBus) {
+        return new TodoOutboxRelay(outboxRepository, eventBus, transactionManager,
+                                   new SimpleMeterRegistry(), 10, Duration.ofHours(1));
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.events.TodoCompletedEvent;
+import com.example.todo.domain.events.TodoCreatedEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.domain.repository.ActiveTodoCounter;
+import com.example.todo.domain.repository.TodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests du batching JDBC de TodoRepositoryImpl.saveAll
+ *
+ * Utilise les statistiques Hibernate sur H2 pour compter les requêtes préparées.
+ *
+ * @author Todo Team
+ */
+@DataJpaTest
+@Import({TodoRepositoryImpl.class, JdbcDomainEventOutbox.class})
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.jdbc.batch_size=20",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Todo Repository Batch Tests")
+class TodoRepositoryBatchTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TodoOutboxJpaRepository outboxRepository;
+
+    @MockBean
+    private ActiveTodoCounter activeTodoCounter;
+
+    private Statistics statistics;
+
+    private static final String USER_ID = "user123";
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should insert new todos in JDBC batches")
+    void shouldInsertNewTodosInJdbcBatches() {
+        // Given
+        List<Todo> todos = newTodos(45);
+
+        // When
+        List<Todo> saved = todoRepository.saveAll(todos);
+
+        // Then - 3 tranches : un lot d'INSERT chacune, aucun SELECT pour des Todos nouveaux
+        assertThat(saved).hasSize(45);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(45);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(todos).noneMatch(Todo::isNew);
+        assertThat(jpaRepository.count()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("Should update existing todos in JDBC batches without per-row selects")
+    void shouldUpdateExistingTodosInJdbcBatches() {
+        // Given
+        List<Todo> todos = todoRepository.saveAll(newTodos(40));
+        todos.forEach(Todo::complete);
+        statistics.clear();
+
+        // When
+        todoRepository.saveAll(todos);
+
+        // Then - 2 tranches : un SELECT IN + un lot d'UPDATE chacune
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(40);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(jpaRepository.countByUserIdAndStatus(USER_ID, TodoStatus.COMPLETED)).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Should record domain events of the whole batch in the outbox")
+    void shouldRecordDomainEventsOfTheWholeBatchInOutbox() {
+        // Given
+        List<Todo> todos = newTodos(25);
+        todos.get(0).complete();
+
+        // When
+        todoRepository.saveAll(todos);
+
+        // Then - les INSERT de la boîte d'envoi passent par JDBC, hors des statistiques Hibernate
+        Map<String, Long> recorded = outboxRepository.findAll().stream()
+            .collect(Collectors.groupingBy(TodoOutboxJpaEntity::getEventType, Collectors.counting()));
+        assertThat(recorded)
+            .containsEntry(TodoCreatedEvent.class.getSimpleName(), 25L)
+            .containsEntry(TodoCompletedEvent.class.getSimpleName(), 1L);
+        assertThat(todos).allSatisfy(todo -> assertThat(todo.getAndClearDomainEvents()).isEmpty());
+    }
+
+    private List<Todo> newTodos(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> Todo.create("Todo " + i, "Description " + i, TodoPriority.NORMAL, null, USER_ID))
+            .toList();
+    }
+}
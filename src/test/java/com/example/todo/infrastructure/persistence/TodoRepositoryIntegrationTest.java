@@ -1,5 +1,7 @@
 package com.example.todo.infrastructure.persistence;
 
+import com.example.todo.domain.model.CursorPageResult;
+import com.example.todo.domain.model.PageCursor;
 import com.example.todo.domain.model.Todo;
 import com.example.todo.domain.model.TodoId;
 import com.example.todo.domain.model.TodoPriority;
@@ -20,6 +22,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,7 +38,7 @@ import static org.assertj.core.api.Assertions.*;
 @DataJpaTest
 @Testcontainers
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import({TodoRepositoryImpl.class})
+@Import({TodoRepositoryImpl.class, JdbcDomainEventOutbox.class, JpaActiveTodoCounter.class, UserTodoCounterInitializer.class})
 @TestPropertySource(properties = {
     "spring.jpa.hibernate.ddl-auto=create-drop",
     "spring.flyway.enabled=false"
@@ -110,6 +113,30 @@ class TodoRepositoryIntegrationTest {
     assertThat(page.getTotalPages()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Should page through todos with keyset cursor")
+    void shouldPageThroughTodosWithKeysetCursor() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            todoRepository.save(Todo.create("Todo " + i, null, TodoPriority.NORMAL, null, USER_ID));
+        }
+
+        // When
+        CursorPageResult<Todo> first = todoRepository.findByUserIdAfter(USER_ID, null, 2);
+        CursorPageResult<Todo> second = todoRepository.findByUserIdAfter(USER_ID, PageCursor.decode(first.getNextCursor()), 2);
+        CursorPageResult<Todo> last = todoRepository.findByUserIdAfter(USER_ID, PageCursor.decode(second.getNextCursor()), 2);
+
+        // Then
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+
+        List<TodoId> ids = new ArrayList<>();
+        List.of(first, second, last).forEach(page -> page.getContent().forEach(todo -> ids.add(todo.getId())));
+        assertThat(ids).doesNotHaveDuplicates().hasSize(5);
+    }
+
     @Test
     @DisplayName("Should find overdue todos")
     void shouldFindOverdueTodos() {
@@ -0,0 +1,134 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.model.PageRequest;
+import com.example.todo.domain.model.PageResult;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.domain.repository.ActiveTodoCounter;
+import com.example.todo.domain.repository.TodoRepository;
+import com.example.todo.domain.specification.Specification;
+import com.example.todo.domain.specification.TodoSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests de la traduction des spécifications en requêtes JPA
+ *
+ * Chaque recherche en base est comparée à l'évaluation en mémoire de la même
+ * spécification sur l'ensemble des Todos de l'utilisateur.
+ *
+ * @author Todo Team
+ */
+@DataJpaTest
+@Import({TodoRepositoryImpl.class, JdbcDomainEventOutbox.class})
+@DisplayName("Todo Specification Translator Tests")
+class TodoSpecificationTranslatorTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @MockBean
+    private ActiveTodoCounter activeTodoCounter;
+
+    private static final String USER_ID = "user123";
+
+    private final List<Todo> todos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now();
+        Instant created = now.minus(10, ChronoUnit.DAYS);
+        int index = 0;
+
+        for (TodoStatus status : TodoStatus.values()) {
+            for (TodoPriority priority : List.of(TodoPriority.LOW, TodoPriority.NORMAL, TodoPriority.CRITICAL)) {
+                for (Instant dueDate : new Instant[] {null, now.minus(2, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS),
+                                                      now.plus(5, ChronoUnit.DAYS)}) {
+                    Instant createdAt = created.plus(index++, ChronoUnit.MINUTES);
+                    todos.add(new Todo(TodoId.generate(), "Todo " + index, null, status, priority, dueDate, USER_ID,
+                                       createdAt, createdAt, status == TodoStatus.COMPLETED ? createdAt : null));
+                }
+            }
+        }
+        todos.add(Todo.create("Other user", null, TodoPriority.CRITICAL, null, "other-user"));
+
+        todoRepository.saveAll(todos);
+    }
+
+    @Test
+    @DisplayName("Should translate composed specifications exactly")
+    void shouldTranslateComposedSpecificationsExactly() {
+        List<Specification<Todo>> specifications = List.of(
+            TodoSpecifications.needsAttention(),
+            TodoSpecifications.isUrgent(),
+            TodoSpecifications.isActive().and(TodoSpecifications.hasPriority(TodoPriority.LOW)),
+            TodoSpecifications.isCompleted().or(TodoSpecifications.isDueWithinDays(3))
+        );
+
+        for (Specification<Todo> specification : specifications) {
+            assertThat(TodoSpecificationTranslator.translate(specification).exact()).isTrue();
+            assertThat(idsOf(todoRepository.findAll(USER_ID, specification, PageRequest.of(0, 100))))
+                .isEqualTo(expectedIds(specification));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep in-memory semantics of negated due date comparisons")
+    void shouldKeepInMemorySemanticsOfNegatedDueDateComparisons() {
+        // Given - un Todo sans échéance n'est pas en retard : il satisfait la négation
+        Specification<Todo> specification = TodoSpecifications.isOverdue().not();
+
+        // When
+        PageResult<Todo> result = todoRepository.findAll(USER_ID, specification, PageRequest.of(0, 100));
+
+        // Then
+        assertThat(idsOf(result)).isEqualTo(expectedIds(specification));
+        assertThat(result.getContent()).anyMatch(todo -> todo.getDueDate() == null);
+    }
+
+    @Test
+    @DisplayName("Should fall back to in-memory evaluation for untranslatable specifications")
+    void shouldFallBackToInMemoryEvaluationForUntranslatableSpecifications() {
+        // Given - une lambda n'est pas traduisible, le statut sert de préfiltre
+        Specification<Todo> titleEndsWithOne = todo -> todo.getTitle().endsWith("1");
+        Specification<Todo> specification = TodoSpecifications.hasStatus(TodoStatus.PENDING).and(titleEndsWithOne);
+        assertThat(TodoSpecificationTranslator.translate(specification).exact()).isFalse();
+        List<String> expected = expectedIds(specification);
+
+        // When
+        PageResult<Todo> firstPage = todoRepository.findAll(USER_ID, specification, PageRequest.of(0, 1));
+        PageResult<Todo> secondPage = todoRepository.findAll(USER_ID, specification, PageRequest.of(1, 1));
+
+        // Then
+        assertThat(firstPage.getTotalElements()).isEqualTo(expected.size());
+        assertThat(idsOf(firstPage)).containsExactly(expected.get(0));
+        assertThat(idsOf(secondPage)).containsExactly(expected.get(1));
+    }
+
+    private List<String> expectedIds(Specification<Todo> specification) {
+        return todos.stream()
+            .filter(todo -> todo.getUserId().equals(USER_ID))
+            .filter(specification::isSatisfiedBy)
+            .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
+            .map(todo -> todo.getId().value())
+            .toList();
+    }
+
+    private static List<String> idsOf(PageResult<Todo> page) {
+        return page.getContent().stream().map(todo -> todo.getId().value()).toList();
+    }
+}
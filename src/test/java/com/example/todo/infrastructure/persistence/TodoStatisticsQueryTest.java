@@ -0,0 +1,100 @@
+package com.example.todo.infrastructure.persistence;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.domain.model.TodoStatistics;
+import com.example.todo.domain.model.TodoStatus;
+import com.example.todo.domain.repository.ActiveTodoCounter;
+import com.example.todo.domain.repository.TodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests de la requête d'agrégation des statistiques
+ *
+ * @author Todo Team
+ */
+@DataJpaTest
+@Import({TodoRepositoryImpl.class, JdbcDomainEventOutbox.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Todo Statistics Query Tests")
+class TodoStatisticsQueryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private ActiveTodoCounter activeTodoCounter;
+
+    private static final String USER_ID = "user123";
+
+    @Test
+    @DisplayName("Should compute all statistics in a single query")
+    void shouldComputeAllStatisticsInSingleQuery() {
+        // Given
+        Instant now = Instant.now();
+        Instant windowStart = now.minus(28, ChronoUnit.DAYS);
+        Instant future = now.plus(7, ChronoUnit.DAYS);
+
+        Todo completed = Todo.create("Completed", null, TodoPriority.HIGH, future, USER_ID);
+        Todo inProgress = Todo.create("In progress", null, TodoPriority.NORMAL, future, USER_ID);
+        Todo cancelled = Todo.create("Cancelled", null, TodoPriority.LOW, null, USER_ID);
+        Todo pending = Todo.create("Pending", null, TodoPriority.NORMAL, null, USER_ID);
+        completed.complete();
+        inProgress.start();
+        cancelled.cancel();
+        todoRepository.saveAll(List.of(completed, inProgress, cancelled, pending,
+            Todo.create("Other user", null, TodoPriority.CRITICAL, null, "other-user")));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When - l'échéance des Todos est dans le futur : fenêtre décalée pour les inclure
+        TodoStatistics result = todoRepository.getStatistics(USER_ID, future.plusSeconds(1), windowStart);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.count(TodoStatus.PENDING)).isEqualTo(1);
+        assertThat(result.count(TodoStatus.IN_PROGRESS)).isEqualTo(1);
+        assertThat(result.count(TodoStatus.COMPLETED)).isEqualTo(1);
+        assertThat(result.count(TodoStatus.CANCELLED)).isEqualTo(1);
+        assertThat(result.byPriorityLevel()).containsEntry(1, 1L).containsEntry(2, 2L)
+            .containsEntry(3, 1L).containsEntry(4, 0L);
+        assertThat(result.overdue()).isEqualTo(1);
+        assertThat(result.dueInWindow()).isEqualTo(2);
+        assertThat(result.completedInWindow()).isEqualTo(1);
+        assertThat(result.completionRate()).isEqualTo(25);
+        assertThat(result.productivityScore()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Should return zero statistics for a user without todos")
+    void shouldReturnZeroStatisticsForUserWithoutTodos() {
+        // When
+        TodoStatistics result = todoRepository.getStatistics("nobody", Instant.now(), Instant.now().minus(28, ChronoUnit.DAYS));
+
+        // Then
+        assertThat(result.total()).isZero();
+        assertThat(result.count(TodoStatus.PENDING)).isZero();
+        assertThat(result.completionRate()).isZero();
+        assertThat(result.productivityScore()).isZero();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.todo.infrastructure.rest;
+
+import com.example.todo.application.dto.TodoResponse;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoPriority;
+import com.example.todo.infrastructure.config.JacksonConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires des formats d'export
+ *
+ * @author Todo Team
+ */
+@DisplayName("Todo Export Writer")
+class TodoExportWriterTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    @DisplayName("Should write one JSON object per line in NDJSON")
+    void shouldWriteOneJsonObjectPerLineInNdjson() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (TodoExportWriter writer = TodoExportWriter.create(ExportFormat.NDJSON, out, objectMapper)) {
+            writer.write(response("First", null));
+            writer.write(response("Second", "multi\nline"));
+        }
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("title").asText()).isEqualTo("Second");
+        assertThat(second.get("description").asText()).isEqualTo("multi\nline");
+    }
+
+    @Test
+    @DisplayName("Should write a header and escape values in CSV")
+    void shouldWriteHeaderAndEscapeValuesInCsv() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (TodoExportWriter writer = TodoExportWriter.create(ExportFormat.CSV, out, objectMapper)) {
+            writer.write(response("Say \"hi\", then leave", "line1\nline2"));
+        }
+
+        // Then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("id,title,description,status,priority,");
+        assertThat(csv).contains(",\"Say \"\"hi\"\", then leave\",\"line1\nline2\",PENDING,Normale,,user123,");
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported format")
+    void shouldRejectUnsupportedFormat() {
+        assertThat(ExportFormat.from("CSV")).isEqualTo(ExportFormat.CSV);
+        assertThatThrownBy(() -> ExportFormat.from("xml"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TodoResponse response(String title, String description) {
+        return TodoResponse.from(Todo.create(title, description, TodoPriority.NORMAL, null, "user123"));
+    }
+}